@@ -0,0 +1,25 @@
+package br.com.orderhub.produto_service.adapter.api.condicional;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Marca um GET que responde 304 quando o cliente já tem a versão atual (ver ProdutoGetCondicionalInterceptor)
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface GetCondicional {
+
+    Escopo value();
+
+    // O método serve o corpo já comprimido quando o Accept-Encoding aceita gzip: é outra representação,
+    // com ETag própria (sufixo -gzip) e Vary: Accept-Encoding também no 304
+    boolean gzip() default false;
+
+    enum Escopo {
+        // um produto, identificado pela variável {id} da URL
+        PRODUTO,
+        // qualquer listagem do catálogo
+        CATALOGO
+    }
+}
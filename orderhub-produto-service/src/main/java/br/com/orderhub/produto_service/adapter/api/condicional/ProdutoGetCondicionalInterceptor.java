@@ -0,0 +1,151 @@
+package br.com.orderhub.produto_service.adapter.api.condicional;
+
+import br.com.orderhub.core.domain.entities.Produto;
+import br.com.orderhub.produto_service.adapter.catalogo.ProdutoCatalogoSnapshot;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoLeitura;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoRepositoryJpaGatewayImpl;
+import br.com.orderhub.produto_service.adapter.persistence.CatalogoVersao;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.Map;
+
+// Resolve o GET condicional antes do controller: grava o ETag e, se o cliente já tem essa versão,
+// responde 304 sem serializar nada.
+// A mesma versão em JSON e em CBOR são representações diferentes: o ETag leva o formato e a resposta
+// leva Vary: Accept. O mesmo vale para o corpo gzip do snapshot do catálogo (GetCondicional.gzip).
+//
+// O ETag de GET /produtos/{id} é calculado do conteúdo que o controller vai servir, lido pelo mesmo gateway
+// decorado (ProdutoLeitura). Esse corpo vem da réplica ou do cache do pod, que só alcançam as escritas dos
+// outros pods pela outbox ou pelo TTL; um ETag da versão no banco com um corpo ainda antigo faria o cliente
+// receber 304 para esse corpo até a próxima alteração do produto. Não há Last-Modified pelo mesmo motivo.
+// As listagens e o snapshot do catálogo são lidos do banco: ali basta a versão (count/max pelo índice).
+@Component
+public class ProdutoGetCondicionalInterceptor implements HandlerInterceptor {
+
+    private static final String SUFIXO_CBOR = "-cbor";
+    private static final String SUFIXO_GZIP = "-gzip";
+    private static final long FNV_BASE = 0xcbf29ce484222325L;
+    private static final long FNV_PRIMO = 0x100000001b3L;
+
+    private final ProdutoRepositoryJpaGatewayImpl produtoGateway;
+    private final ProdutoLeitura produtoLeitura;
+
+    public ProdutoGetCondicionalInterceptor(ProdutoRepositoryJpaGatewayImpl produtoGateway,
+                                            ProdutoLeitura produtoLeitura) {
+        this.produtoGateway = produtoGateway;
+        this.produtoLeitura = produtoLeitura;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        GetCondicional getCondicional = handlerMethod.getMethodAnnotation(GetCondicional.class);
+        if (getCondicional == null) {
+            return true;
+        }
+
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        String sufixo = sufixoFormato(request);
+        if (getCondicional.gzip()) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (ProdutoCatalogoSnapshot.aceitaGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+                sufixo += SUFIXO_GZIP;
+            }
+        }
+        return switch (getCondicional.value()) {
+            case PRODUTO -> !produtoNaoModificado(request, webRequest, sufixo);
+            case CATALOGO -> !catalogoNaoModificado(webRequest, sufixo);
+        };
+    }
+
+    private boolean produtoNaoModificado(HttpServletRequest request, ServletWebRequest webRequest, String sufixo) {
+        Long id = idDaUrl(request);
+        if (id == null) {
+            return false;
+        }
+        // inexistente: o controller responde o 404
+        return produtoLeitura.buscarPorId(id)
+                .map(produto -> webRequest.checkNotModified(etagConteudo(produto, sufixo)))
+                .orElse(false);
+    }
+
+    // O catálogo não emite Last-Modified: uma exclusão não muda max(atualizado_em)
+    private boolean catalogoNaoModificado(ServletWebRequest webRequest, String sufixo) {
+        CatalogoVersao versao = produtoGateway.buscarVersaoCatalogo();
+        return webRequest.checkNotModified(etagCatalogo(versao, sufixo));
+    }
+
+    static String etagConteudo(Produto produto, String sufixo) {
+        long hash = misturar(FNV_BASE, produto.getNome());
+        hash = misturar(hash, produto.getDescricao());
+        hash = misturar(hash, String.valueOf(produto.getPreco()));
+        return "\"p" + produto.getId() + "-" + Long.toHexString(hash) + sufixo + "\"";
+    }
+
+    // FNV-1a de 64 bits; o separador evita que ("ab", "c") e ("a", "bc") deem o mesmo hash
+    private static long misturar(long hash, String texto) {
+        if (texto != null) {
+            for (int i = 0; i < texto.length(); i++) {
+                hash = (hash ^ texto.charAt(i)) * FNV_PRIMO;
+            }
+        }
+        return (hash ^ (texto == null ? 1 : 0xFFFF)) * FNV_PRIMO;
+    }
+
+    static String etagCatalogo(CatalogoVersao versao, String sufixo) {
+        long ultimaAtualizacao = versao.ultimaAtualizacao() == null ? 0 : versao.ultimaAtualizacao().toEpochMilli();
+        return "\"c" + versao.quantidade() + "-" + ultimaAtualizacao + sufixo + "\"";
+    }
+
+    // Mesma escolha da negociação do Spring MVC: CBOR só quando o Accept o prefere a JSON;
+    // empate fica com JSON, que é o primeiro conversor da lista (ver WebConfig)
+    static String sufixoFormato(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return "";
+        }
+        try {
+            List<MediaType> aceitos = MediaType.parseMediaTypes(accept);
+            return qualidade(aceitos, MediaType.APPLICATION_CBOR) > qualidade(aceitos, MediaType.APPLICATION_JSON)
+                    ? SUFIXO_CBOR : "";
+        } catch (InvalidMediaTypeException ex) {
+            return "";
+        }
+    }
+
+    private static double qualidade(List<MediaType> aceitos, MediaType formato) {
+        double qualidade = 0;
+        for (MediaType aceito : aceitos) {
+            if (aceito.includes(formato)) {
+                qualidade = Math.max(qualidade, aceito.getQualityValue());
+            }
+        }
+        return qualidade;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Long idDaUrl(HttpServletRequest request) {
+        Map<String, String> variaveis = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variaveis == null || variaveis.get("id") == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(variaveis.get("id"));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+}
@@ -1,34 +1,96 @@
 package br.com.orderhub.produto_service.adapter.api.handler;
 
 import br.com.orderhub.core.exceptions.OrderhubException;
+import br.com.orderhub.core.exceptions.ProdutoJaExisteException;
+import br.com.orderhub.core.exceptions.ProdutoNaoEncontradoException;
+import br.com.orderhub.produto_service.adapter.outbox.CursorAlteracoesExpiradoException;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.web.bind.ServletRequestBindingException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
 @ControllerAdvice
 public class OrderhubExceptionHandler {
 
+    static final String EXCECOES = "orderhub.excecoes";
+
+    // Um handler por exceção do core: o Spring escolhe o da classe mais próxima da lançada, então
+    // OrderhubException só recebe as que não têm handler próprio
+    @ExceptionHandler(ProdutoNaoEncontradoException.class)
+    public ResponseEntity<String> handleProdutoNaoEncontrado(ProdutoNaoEncontradoException ex) {
+        return responder(HttpStatus.NOT_FOUND, ex, ex.getMessage());
+    }
+
+    @ExceptionHandler(ProdutoJaExisteException.class)
+    public ResponseEntity<String> handleProdutoJaExiste(ProdutoJaExisteException ex) {
+        return responder(HttpStatus.CONFLICT, ex, ex.getMessage());
+    }
+
     @ExceptionHandler(OrderhubException.class)
     public ResponseEntity<String> handleOrderhubException(OrderhubException ex) {
-        if (ex instanceof br.com.orderhub.core.exceptions.ProdutoNaoEncontradoException) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
-        }
+        return responder(HttpStatus.BAD_REQUEST, ex, ex.getMessage());
+    }
 
-        if (ex instanceof br.com.orderhub.core.exceptions.ProdutoJaExisteException) {
-            return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getMessage());
-        } else {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
-        }
+    // A violação do nome único já chega como ProdutoJaExisteException (409, ver o gateway JPA); as demais
+    // (coluna obrigatória, tamanho, check) vêm de um dado inválido na requisição
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<String> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        return responder(HttpStatus.BAD_REQUEST, ex, "Violação de integridade dos dados.");
+    }
+
+    @ExceptionHandler(CursorAlteracoesExpiradoException.class)
+    public ResponseEntity<String> handleCursorAlteracoesExpirado(CursorAlteracoesExpiradoException ex) {
+        return responder(HttpStatus.GONE, ex, ex.getMessage());
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<String> handleIllegalArgumentException(IllegalArgumentException ex) {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+        return responder(HttpStatus.BAD_REQUEST, ex, ex.getMessage());
+    }
+
+    // Parâmetro obrigatório ausente ou combinação de parâmetros sem mapeamento (ex.: filtro sem limit)
+    @ExceptionHandler(ServletRequestBindingException.class)
+    public ResponseEntity<String> handleServletRequestBindingException(ServletRequestBindingException ex) {
+        return responder(HttpStatus.BAD_REQUEST, ex, ex.getMessage());
+    }
+
+    // Pool de consultas assíncronas cheio (ProdutoExecutorConsultas): recusa na hora e indica quando tentar de novo
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<String> handleRejectedExecution(RejectedExecutionException ex) {
+        return status(HttpStatus.SERVICE_UNAVAILABLE, ex)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body("Serviço sobrecarregado. Tente novamente em instantes.");
+    }
+
+    // Prazo vencido: da consulta assíncrona, da transação ou do statement (X-Request-Deadline)
+    @ExceptionHandler({TimeoutException.class, TransactionTimedOutException.class, QueryTimeoutException.class})
+    public ResponseEntity<String> handleTimeout(Exception ex) {
+        return responder(HttpStatus.GATEWAY_TIMEOUT, ex, "A consulta não terminou dentro do prazo.");
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<String> handleGeneralError(Exception ex) {
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Erro interno: " + ex.getMessage());
+        return responder(HttpStatus.INTERNAL_SERVER_ERROR, ex, "Erro interno: " + ex.getMessage());
+    }
+
+    // Conta as exceções tratadas por tipo e status. Usa o registry global, onde o Spring Boot
+    // registra o registry da aplicação (nos testes standalone ele não tem registry e vira no-op).
+    private static ResponseEntity<String> responder(HttpStatus status, Exception ex, String corpo) {
+        return status(status, ex).body(corpo);
+    }
+
+    private static ResponseEntity.BodyBuilder status(HttpStatus status, Exception ex) {
+        Metrics.counter(EXCECOES, "exception", ex.getClass().getSimpleName(), "status", String.valueOf(status.value()))
+                .increment();
+        return ResponseEntity.status(status);
     }
 }
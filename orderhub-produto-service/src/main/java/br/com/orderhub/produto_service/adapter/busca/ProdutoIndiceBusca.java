@@ -0,0 +1,226 @@
+package br.com.orderhub.produto_service.adapter.busca;
+
+import br.com.orderhub.core.domain.entities.Produto;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoRepositoryJpaGatewayImpl;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutosAlteradosEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+// Índice invertido em memória sobre nome e descrição, para a busca por termos e prefixos.
+// É montado a partir do banco quando a aplicação sobe e atualizado pelos eventos de escrita do gateway JPA.
+// A reconstrução lê a tabela para um índice novo, sem lock, e só a troca é feita sob o lock de escrita:
+// as buscas seguem no índice anterior enquanto isso. Os eventos que chegam durante a leitura valem para o
+// índice atual e são reaplicados no novo antes da troca.
+@Component
+public class ProdutoIndiceBusca {
+
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern ACENTOS = Pattern.compile("\\p{M}+");
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "o", "as", "os", "e", "de", "da", "do", "das", "dos",
+            "em", "no", "na", "nos", "nas", "com", "para", "por", "um", "uma"
+    );
+    private static final int PESO_NOME = 3;
+    private static final int PESO_DESCRICAO = 1;
+    private static final int BONUS_TERMO_EXATO = 2;
+
+    private final ProdutoRepositoryJpaGatewayImpl produtoGateway;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // uma reconstrução por vez; não é um monitor para não prender a carrier thread durante a leitura
+    private final Lock reconstrucao = new ReentrantLock();
+
+    // só sob o lock de escrita (troca) ou de leitura (busca)
+    private Indice indice = new Indice();
+    // eventos recebidos durante uma reconstrução; null fora dela. Só sob o lock de escrita
+    private List<ProdutosAlteradosEvent> pendentes;
+
+    private record Documento(Produto produto, Set<String> termos) {
+    }
+
+    private record Resultado(Produto produto, int pontuacao) {
+    }
+
+    public ProdutoIndiceBusca(ProdutoRepositoryJpaGatewayImpl produtoGateway) {
+        this.produtoGateway = produtoGateway;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        reconstrucao.lock();
+        try {
+            sobEscrita(() -> pendentes = new ArrayList<>());
+            Indice novo = new Indice();
+            try {
+                produtoGateway.percorrerTodos(novo::indexar);
+                sobEscrita(() -> {
+                    pendentes.forEach(novo::aplicar);
+                    indice = novo;
+                });
+            } finally {
+                sobEscrita(() -> pendentes = null);
+            }
+        } finally {
+            reconstrucao.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarProdutos(ProdutosAlteradosEvent evento) {
+        sobEscrita(() -> {
+            indice.aplicar(evento);
+            if (pendentes != null) {
+                pendentes.add(evento);
+            }
+        });
+    }
+
+    // Todos os termos da consulta precisam casar (como termo inteiro ou prefixo) com o nome ou a descrição.
+    // Casamentos no nome pesam mais que na descrição, e termo inteiro pesa mais que prefixo.
+    public List<Produto> buscar(String consulta, int limite) {
+        List<String> tokens = tokenizar(consulta);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        List<Resultado> resultados = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> pontuacao = null;
+            for (String token : tokens) {
+                Map<Long, Integer> doToken = indice.pontuarToken(token);
+                if (pontuacao == null) {
+                    pontuacao = doToken;
+                } else {
+                    pontuacao.keySet().retainAll(doToken.keySet());
+                    pontuacao.replaceAll((id, pontos) -> pontos + doToken.get(id));
+                }
+                if (pontuacao.isEmpty()) {
+                    return List.of();
+                }
+            }
+            Indice atual = indice;
+            pontuacao.forEach((id, pontos) -> resultados.add(new Resultado(atual.documentos.get(id).produto(), pontos)));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return resultados.stream()
+                .sorted(Comparator.comparingInt(Resultado::pontuacao).reversed()
+                        .thenComparingInt(resultado -> comprimentoNome(resultado.produto()))
+                        .thenComparing(resultado -> resultado.produto().getId()))
+                .limit(limite)
+                .map(resultado -> copiar(resultado.produto()))
+                .toList();
+    }
+
+    public int tamanho() {
+        lock.readLock().lock();
+        try {
+            return indice.documentos.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void sobEscrita(Runnable acao) {
+        lock.writeLock().lock();
+        try {
+            acao.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static final class Indice {
+        // termo normalizado -> (id do produto -> peso); ordenado para a busca por prefixo
+        private final NavigableMap<String, Map<Long, Integer>> termos = new TreeMap<>();
+        private final Map<Long, Documento> documentos = new HashMap<>();
+
+        private void aplicar(ProdutosAlteradosEvent evento) {
+            evento.salvos().forEach(this::indexar);
+            evento.removidos().forEach(this::remover);
+        }
+
+        private Map<Long, Integer> pontuarToken(String token) {
+            Map<Long, Integer> doToken = new HashMap<>();
+            termos.subMap(token, true, token + Character.MAX_VALUE, false).forEach((termo, pesos) -> {
+                int multiplicador = termo.equals(token) ? BONUS_TERMO_EXATO : 1;
+                pesos.forEach((id, peso) -> doToken.merge(id, peso * multiplicador, Math::max));
+            });
+            return doToken;
+        }
+
+        private void indexar(Produto produto) {
+            remover(produto.getId());
+
+            Map<String, Integer> pesos = new HashMap<>();
+            tokenizar(produto.getNome()).forEach(termo -> pesos.put(termo, PESO_NOME));
+            tokenizar(produto.getDescricao()).forEach(termo -> pesos.merge(termo, PESO_DESCRICAO, Integer::sum));
+
+            pesos.forEach((termo, peso) -> termos.computeIfAbsent(termo, t -> new HashMap<>()).put(produto.getId(), peso));
+            documentos.put(produto.getId(), new Documento(copiar(produto), pesos.keySet()));
+        }
+
+        private void remover(Long id) {
+            Documento anterior = documentos.remove(id);
+            if (anterior == null) {
+                return;
+            }
+            for (String termo : anterior.termos()) {
+                Map<Long, Integer> pesos = termos.get(termo);
+                if (pesos != null) {
+                    pesos.remove(id);
+                    if (pesos.isEmpty()) {
+                        termos.remove(termo);
+                    }
+                }
+            }
+        }
+    }
+
+    // Desempate entre pontuações iguais: nome mais curto primeiro (sem nome conta como vazio)
+    static int comprimentoNome(Produto produto) {
+        return produto.getNome() == null ? 0 : produto.getNome().length();
+    }
+
+    // minúsculas (Locale.ROOT: com o locale turco, "I" viraria "ı"), sem acentos ("Mecânico" -> "mecanico"), sem stopwords e sem repetição
+    static List<String> tokenizar(String texto) {
+        if (texto == null || texto.isBlank()) {
+            return List.of();
+        }
+        String normalizado = ACENTOS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : SEPARADORES.split(normalizado)) {
+            if (!token.isEmpty() && !STOPWORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return List.copyOf(tokens);
+    }
+
+    private static Produto copiar(Produto produto) {
+        return new Produto(produto.getId(), produto.getNome(), produto.getDescricao(), produto.getPreco());
+    }
+}
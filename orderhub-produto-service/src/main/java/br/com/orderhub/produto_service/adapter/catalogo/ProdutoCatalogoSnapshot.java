@@ -0,0 +1,142 @@
+package br.com.orderhub.produto_service.adapter.catalogo;
+
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoRepositoryJpaGatewayImpl;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutosAlteradosEvent;
+import br.com.orderhub.produto_service.adapter.mapper.ProdutoApiDtoMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+// Corpo pronto de GET /produtos: o JSON da lista inteira e a versão gzip dele, montados uma vez e
+// servidos direto do array até a próxima escrita pelo gateway. Cada escrita só descarta o snapshot;
+// o próximo GET monta outro. A montagem (consulta da tabela inteira + gzip) roda fora de qualquer monitor:
+// o primeiro leitor monta e os que chegam no meio esperam o mesmo CompletableFuture, o que não prende a
+// carrier thread no perfil de threads virtuais.
+@Component
+public class ProdutoCatalogoSnapshot {
+
+    public record Conteudo(byte[] json, byte[] gzip) {
+    }
+
+    private final ProdutoRepositoryJpaGatewayImpl produtoGateway;
+    private final ObjectMapper objectMapper;
+
+    // incrementada a cada escrita: um snapshot montado enquanto uma escrita era confirmada é
+    // devolvido a quem pediu, mas não fica guardado
+    private final AtomicLong geracao = new AtomicLong();
+    private volatile Conteudo conteudo;
+    private final AtomicReference<CompletableFuture<Conteudo>> montagem = new AtomicReference<>();
+
+    public ProdutoCatalogoSnapshot(ProdutoRepositoryJpaGatewayImpl produtoGateway, ObjectMapper objectMapper) {
+        this.produtoGateway = produtoGateway;
+        this.objectMapper = objectMapper;
+    }
+
+    public Conteudo obter() {
+        Conteudo atual = conteudo;
+        if (atual != null) {
+            return atual;
+        }
+        CompletableFuture<Conteudo> minha = new CompletableFuture<>();
+        CompletableFuture<Conteudo> emAndamento = montagem.compareAndExchange(null, minha);
+        if (emAndamento != null) {
+            return aguardar(emAndamento);
+        }
+        try {
+            Conteudo novo = conteudo;
+            if (novo == null) {
+                long geracaoInicial = geracao.get();
+                novo = montar();
+                if (geracao.get() == geracaoInicial) {
+                    conteudo = novo;
+                }
+            }
+            minha.complete(novo);
+            return novo;
+        } catch (RuntimeException | Error ex) {
+            minha.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            montagem.compareAndSet(minha, null);
+        }
+    }
+
+    // Aceita gzip se o Accept-Encoding lista gzip (ou *) sem q=0
+    public static boolean aceitaGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        return Arrays.stream(acceptEncoding.split(","))
+                .map(String::trim)
+                .anyMatch(codificacao -> {
+                    String[] partes = codificacao.split(";");
+                    String nome = partes[0].trim();
+                    boolean recusado = partes.length > 1 && partes[1].replace(" ", "").matches("q=0(\\.0*)?");
+                    return (nome.equalsIgnoreCase("gzip") || nome.equals("*")) && !recusado;
+                });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarProdutos(ProdutosAlteradosEvent evento) {
+        invalidar();
+    }
+
+    // Quem já esperava uma montagem em andamento recebe o que ela ler; quem chega depois da escrita
+    // começa outra
+    public void invalidar() {
+        geracao.incrementAndGet();
+        conteudo = null;
+        montagem.set(null);
+    }
+
+    private static Conteudo aguardar(CompletableFuture<Conteudo> montagem) {
+        try {
+            return montagem.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (ex.getCause() instanceof Error causa) {
+                throw causa;
+            }
+            throw ex;
+        }
+    }
+
+    private Conteudo montar() {
+        try {
+            ByteArrayOutputStream json = new ByteArrayOutputStream(64 * 1024);
+            try (JsonGenerator gerador = objectMapper.getFactory().createGenerator(json)) {
+                gerador.writeStartArray();
+                produtoGateway.percorrerResumos(resumo -> {
+                    try {
+                        gerador.writeObject(ProdutoApiDtoMapper.resumoToResponseDto(resumo));
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+                gerador.writeEndArray();
+            }
+            byte[] bytesJson = json.toByteArray();
+
+            ByteArrayOutputStream gzip = new ByteArrayOutputStream(Math.max(1024, bytesJson.length / 4));
+            try (GZIPOutputStream saida = new GZIPOutputStream(gzip)) {
+                saida.write(bytesJson);
+            }
+            return new Conteudo(bytesJson, gzip.toByteArray());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
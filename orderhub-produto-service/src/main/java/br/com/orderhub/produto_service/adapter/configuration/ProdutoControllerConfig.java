@@ -2,6 +2,7 @@ package br.com.orderhub.produto_service.adapter.configuration;
 
 import br.com.orderhub.core.controller.ProdutoController;
 import br.com.orderhub.core.interfaces.IProdutoGateway;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoLeitura;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -14,6 +15,12 @@ public class ProdutoControllerConfig {
         return new ProdutoController(produtoGateway);
     }
 
+    // Buscas por id/nome do ProdutoApiController, sem a exceção do core para produto inexistente
+    @Bean
+    public ProdutoLeitura produtoLeitura(IProdutoGateway produtoGateway) {
+        return new ProdutoLeitura(produtoGateway);
+    }
+
     /*
     Opções que eu estudei:
         1- Criar um @Configuration ou @Bean que instancia os use cases de todas as entidades de dominio.
@@ -0,0 +1,55 @@
+package br.com.orderhub.produto_service.adapter.configuration;
+
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoGatewayCache;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoGatewayMetricas;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoGatewayReplica;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoRepositoryJpaGatewayImpl;
+import br.com.orderhub.produto_service.adapter.outbox.ProdutoOutbox;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+// O ProdutoController do core recebe o gateway decorado: métricas -> cache -> JPA, ou
+// métricas -> réplica -> cache -> JPA com orderhub.produto.replica.habilitada=true.
+// O gateway JPA continua disponível pelo tipo concreto para as consultas que não passam pelo core
+// (paginação, streaming, lote).
+
+@Configuration
+public class ProdutoGatewayConfig {
+    @Bean
+    @Primary
+    public ProdutoGatewayMetricas produtoGatewayMetricas(ProdutoGatewayCache produtoGatewayCache,
+                                                        ObjectProvider<ProdutoGatewayReplica> produtoGatewayReplica,
+                                                        MeterRegistry meterRegistry) {
+        ProdutoGatewayReplica replica = produtoGatewayReplica.getIfAvailable();
+        return new ProdutoGatewayMetricas(replica != null ? replica : produtoGatewayCache, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "orderhub.produto.replica.habilitada", havingValue = "true")
+    public ProdutoGatewayReplica produtoGatewayReplica(
+            ProdutoGatewayCache produtoGatewayCache,
+            ProdutoRepositoryJpaGatewayImpl produtoRepositoryJpaGateway,
+            ProdutoOutbox produtoOutbox,
+            @Value("${orderhub.produto.replica.snapshot.arquivo:}") String arquivoSnapshot
+    ) {
+        return new ProdutoGatewayReplica(produtoGatewayCache, produtoRepositoryJpaGateway, produtoOutbox,
+                arquivoSnapshot.isBlank() ? null : Path.of(arquivoSnapshot));
+    }
+
+    @Bean
+    public ProdutoGatewayCache produtoGatewayCache(
+            ProdutoRepositoryJpaGatewayImpl produtoRepositoryJpaGateway,
+            @Value("${orderhub.produto.cache.tamanho-maximo:10000}") long tamanhoMaximo,
+            @Value("${orderhub.produto.cache.ttl:10m}") Duration ttl
+    ) {
+        return new ProdutoGatewayCache(produtoRepositoryJpaGateway, tamanhoMaximo, ttl);
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.orderhub.produto_service.adapter.configuration;
+
+import br.com.orderhub.produto_service.adapter.protecao.PrazoJpaTransactionManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+// Troca o JpaTransactionManager do Spring Boot (criado só quando não há outro) por um que respeita o
+// prazo da requisição (X-Request-Deadline) no timeout das transações e, por elas, das consultas.
+
+@Configuration
+public class TransacaoConfig {
+    @Bean
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new PrazoJpaTransactionManager(entityManagerFactory);
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.orderhub.produto_service.adapter.configuration;
+
+import br.com.orderhub.produto_service.adapter.api.condicional.ProdutoGetCondicionalInterceptor;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+    private final ProdutoGetCondicionalInterceptor produtoGetCondicionalInterceptor;
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    public WebConfig(ProdutoGetCondicionalInterceptor produtoGetCondicionalInterceptor,
+                     Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        this.produtoGetCondicionalInterceptor = produtoGetCondicionalInterceptor;
+        this.objectMapperBuilder = objectMapperBuilder;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(produtoGetCondicionalInterceptor).addPathPatterns("/produtos", "/produtos/**");
+    }
+
+    // CBOR (Accept: application/cbor) para os chamadores internos. Vai no fim da lista, então JSON
+    // continua sendo o formato de quem não pede outro; usa o builder do Spring Boot para seguir as
+    // mesmas configurações do ObjectMapper JSON.
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(MappingJackson2CborHttpMessageConverter.class::isInstance);
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                objectMapperBuilder.factory(new CBORFactory()).build()));
+    }
+}
@@ -0,0 +1,166 @@
+package br.com.orderhub.produto_service.adapter.controller;
+
+import br.com.orderhub.produto_service.adapter.dto.ProdutoAlteracoesApiResponseDto;
+import br.com.orderhub.produto_service.adapter.outbox.ProdutoAlteracao;
+import br.com.orderhub.produto_service.adapter.outbox.ProdutoAlteracaoSinkLocal;
+import br.com.orderhub.produto_service.adapter.outbox.ProdutoOutbox;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+
+// Feed de alterações do catálogo para os serviços que mantêm cópia dele.
+// Sincronização inicial: GET /produtos/changes sem "since" devolve a sequência atual; em seguida
+// GET /produtos e, dali em diante, só as alterações a partir daquela sequência.
+@RestController
+@RequestMapping("/produtos/changes")
+public class ProdutoAlteracoesApiController {
+    static final int LIMITE_MAXIMO_ALTERACOES = 1000;
+    static final int ESPERA_MAXIMA_SEGUNDOS = 30;
+    static final long TIMEOUT_SSE_MS = 30 * 60 * 1000L;
+
+    private final ProdutoOutbox produtoOutbox;
+    private final ProdutoAlteracaoSinkLocal sinkLocal;
+
+    public ProdutoAlteracoesApiController(ProdutoOutbox produtoOutbox, ProdutoAlteracaoSinkLocal sinkLocal) {
+        this.produtoOutbox = produtoOutbox;
+        this.sinkLocal = sinkLocal;
+    }
+
+    // Long-poll: responde na hora se já há alterações depois de "since"; senão espera até "wait"
+    // segundos pela próxima publicação do relay e responde lista vazia se nada chegar.
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public DeferredResult<ResponseEntity<ProdutoAlteracoesApiResponseDto>> listarAlteracoes(
+            @RequestParam(name = "since", required = false) Long since,
+            @RequestParam(name = "limit", defaultValue = "100") int limit,
+            @RequestParam(name = "wait", defaultValue = "25") int wait
+    ) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("O parâmetro limit deve ser maior que zero.");
+        }
+        if (wait < 0) {
+            throw new IllegalArgumentException("O parâmetro wait não pode ser negativo.");
+        }
+
+        if (since == null) {
+            DeferredResult<ResponseEntity<ProdutoAlteracoesApiResponseDto>> resultado = new DeferredResult<>();
+            resultado.setResult(resposta(List.of(), produtoOutbox.ultimaSequencia()));
+            return resultado;
+        }
+
+        int limite = Math.min(limit, LIMITE_MAXIMO_ALTERACOES);
+        long esperaMs = Math.min(wait, ESPERA_MAXIMA_SEGUNDOS) * 1000L;
+        DeferredResult<ResponseEntity<ProdutoAlteracoesApiResponseDto>> resultado =
+                new DeferredResult<>(esperaMs, resposta(List.of(), since));
+
+        // Assina antes de consultar, para não perder um lote publicado entre a consulta e a assinatura
+        Runnable cancelar = sinkLocal.assinar(lote -> {
+            List<ProdutoAlteracao> novas = posteriores(lote, since, limite);
+            if (!novas.isEmpty()) {
+                resultado.setResult(resposta(novas, since));
+            }
+        });
+        resultado.onCompletion(cancelar);
+
+        List<ProdutoAlteracao> existentes = produtoOutbox.buscarDesde(since, limite);
+        if (!existentes.isEmpty() || esperaMs == 0) {
+            resultado.setResult(resposta(existentes, since));
+        }
+        return resultado;
+    }
+
+    // SSE: envia o que houver depois de "since" (ou do Last-Event-ID, na reconexão) e segue
+    // enviando cada alteração publicada; o id de cada evento é a sequência.
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter acompanharAlteracoes(
+            @RequestParam(name = "since", required = false) Long since,
+            @RequestHeader(name = "Last-Event-ID", required = false) Long ultimoEventoId
+    ) {
+        long inicio = ultimoEventoId != null ? ultimoEventoId
+                : since != null ? since
+                : produtoOutbox.ultimaSequencia();
+
+        SseEmitter emitter = new SseEmitter(TIMEOUT_SSE_MS);
+        AssinaturaSse assinatura = new AssinaturaSse(emitter, inicio);
+        Runnable cancelar = sinkLocal.assinar(assinatura::entregar);
+        emitter.onCompletion(cancelar);
+        emitter.onTimeout(cancelar);
+        emitter.onError(erro -> cancelar.run());
+
+        assinatura.recuperar();
+        return emitter;
+    }
+
+    private List<ProdutoAlteracao> posteriores(List<ProdutoAlteracao> lote, long since, int limite) {
+        if (lote.isEmpty()) {
+            return List.of();
+        }
+        // o lote só serve se emenda no cursor; se pulou alguma sequência, busca do banco
+        if (lote.get(0).sequencia() > since + 1) {
+            return produtoOutbox.buscarDesde(since, limite);
+        }
+        return lote.stream()
+                .filter(alteracao -> alteracao.sequencia() > since)
+                .limit(limite)
+                .toList();
+    }
+
+    private static ResponseEntity<ProdutoAlteracoesApiResponseDto> resposta(List<ProdutoAlteracao> alteracoes, long since) {
+        long proximo = alteracoes.isEmpty() ? since : alteracoes.get(alteracoes.size() - 1).sequencia();
+        return ResponseEntity.ok(new ProdutoAlteracoesApiResponseDto(alteracoes, proximo));
+    }
+
+    // Garante ordem e ausência de lacunas por conexão: a recuperação inicial e as entregas do relay
+    // passam pelo mesmo lock e pelo mesmo cursor.
+    private class AssinaturaSse {
+        private final SseEmitter emitter;
+        private long ultimaEnviada;
+
+        AssinaturaSse(SseEmitter emitter, long ultimaEnviada) {
+            this.emitter = emitter;
+            this.ultimaEnviada = ultimaEnviada;
+        }
+
+        synchronized void recuperar() {
+            List<ProdutoAlteracao> pendentes;
+            do {
+                pendentes = produtoOutbox.buscarDesde(ultimaEnviada, LIMITE_MAXIMO_ALTERACOES);
+                enviar(pendentes);
+            } while (pendentes.size() == LIMITE_MAXIMO_ALTERACOES);
+        }
+
+        synchronized void entregar(List<ProdutoAlteracao> lote) {
+            if (!lote.isEmpty() && lote.get(0).sequencia() > ultimaEnviada + 1) {
+                recuperar();
+                return;
+            }
+            enviar(lote);
+        }
+
+        private void enviar(List<ProdutoAlteracao> alteracoes) {
+            try {
+                for (ProdutoAlteracao alteracao : alteracoes) {
+                    if (alteracao.sequencia() <= ultimaEnviada) {
+                        continue;
+                    }
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(alteracao.sequencia()))
+                            .name(alteracao.tipo().name())
+                            .data(alteracao, MediaType.APPLICATION_JSON));
+                    ultimaEnviada = alteracao.sequencia();
+                }
+            } catch (IOException | IllegalStateException ex) {
+                emitter.completeWithError(ex);
+                throw new IllegalStateException("Conexão SSE encerrada", ex);
+            }
+        }
+    }
+}
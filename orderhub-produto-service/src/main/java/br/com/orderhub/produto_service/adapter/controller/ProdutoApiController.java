@@ -1,64 +1,211 @@
 package br.com.orderhub.produto_service.adapter.controller;
 
 import br.com.orderhub.core.controller.ProdutoController;
+import br.com.orderhub.core.domain.entities.Produto;
 import br.com.orderhub.core.dto.produtos.CriarProdutoDTO;
 import br.com.orderhub.core.dto.produtos.ProdutoDTO;
-import br.com.orderhub.core.exceptions.ProdutoNaoEncontradoException;
+import br.com.orderhub.core.interfaces.IProdutoGateway;
+import br.com.orderhub.produto_service.adapter.api.condicional.GetCondicional;
 import br.com.orderhub.produto_service.adapter.dto.ProdutoApiRequestDto;
 import br.com.orderhub.produto_service.adapter.dto.ProdutoApiResponseDto;
+import br.com.orderhub.produto_service.adapter.dto.ProdutoLoteApiRequestDto;
+import br.com.orderhub.produto_service.adapter.dto.ProdutoLoteApiResponseDto;
+import br.com.orderhub.produto_service.adapter.dto.ProdutoPaginaApiResponseDto;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoConsulta;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoLeitura;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoOrdenacao;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoPagina;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoRepositoryJpaGatewayImpl;
+import br.com.orderhub.produto_service.adapter.log.LogLimitado;
+import br.com.orderhub.produto_service.adapter.mapper.PrecoMapper;
 import br.com.orderhub.produto_service.adapter.mapper.ProdutoApiDtoMapper;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoResumo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/produtos")
 public class ProdutoApiController {
+    static final int LIMITE_MAXIMO_PAGINA = 1000;
+    static final int LIMITE_MAXIMO_LOTE = 500;
+    static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    // ResponseEntity tem cabeçalhos somente leitura: a mesma instância serve todas as faltas
+    private static final ResponseEntity<ProdutoApiResponseDto> NAO_ENCONTRADO = ResponseEntity.notFound().build();
+    private static final LogLimitado LOG_NAO_ENCONTRADOS = new LogLimitado(
+            LoggerFactory.getLogger(ProdutoApiController.class), Level.INFO, 10, Duration.ofSeconds(1));
+
     private final ProdutoController produtoController;
+    private final ProdutoRepositoryJpaGatewayImpl produtoGateway;
+    private final IProdutoGateway produtoGatewayDecorado;
+    private final ProdutoLeitura produtoLeitura;
+    private final ObjectMapper objectMapper;
 
-    public ProdutoApiController(ProdutoController produtoController) {
+    public ProdutoApiController(ProdutoController produtoController,
+                                ProdutoRepositoryJpaGatewayImpl produtoGateway,
+                                IProdutoGateway produtoGatewayDecorado,
+                                ProdutoLeitura produtoLeitura,
+                                ObjectMapper objectMapper) {
         this.produtoController = produtoController;
+        this.produtoGateway = produtoGateway;
+        this.produtoGatewayDecorado = produtoGatewayDecorado;
+        this.produtoLeitura = produtoLeitura;
+        this.objectMapper = objectMapper;
     }
 
     // *** posso usar os mesmos DTOs do core, ou preciso criar outros para request e response na camada de API?
     // Li um pouco e entendi que seria melhor ter DTOs separados para a camada da aplicação, pois caso os DTOs do core
     // mudem, a camada de aplicação nao quebra.
 
-    @GetMapping()
+    // Filtro e ordenação exigem "limit" (listarPaginaProdutos); sem ele a requisição não casa com
+    // nenhum mapeamento e recebe 400, em vez de devolver o catálogo inteiro sem filtro
+    @GetMapping(params = {"!limit", "!minPreco", "!maxPreco", "!sort", "!cursor"})
+    @GetCondicional(GetCondicional.Escopo.CATALOGO)
+    // Leituras em lista vão direto da projeção para a resposta (ProdutoResumo), sem passar pelo core
     public ResponseEntity<List<ProdutoApiResponseDto>> listarTodosProdutos() {
-        List<ProdutoDTO> produtos = produtoController.listarTodosProdutos();
-
-        List<ProdutoApiResponseDto> responses = produtos
+        List<ProdutoApiResponseDto> responses = produtoGateway.listarTodosResumos()
                 .stream()
-                .map(ProdutoApiDtoMapper::produtoDtoToResponseDto)
+                .map(ProdutoApiDtoMapper::resumoToResponseDto)
                 .toList();
 
         return ResponseEntity.ok(responses);
     }
 
+    @GetMapping(params = "limit")
+    @GetCondicional(GetCondicional.Escopo.CATALOGO)
+    public ResponseEntity<ProdutoPaginaApiResponseDto> listarPaginaProdutos(
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "minPreco", required = false) Double minPreco,
+            @RequestParam(name = "maxPreco", required = false) Double maxPreco,
+            @RequestParam(name = "sort", required = false) String sort,
+            @RequestParam(name = "limit") int limit
+    ) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("O parâmetro limit deve ser maior que zero.");
+        }
+        int limite = Math.min(limit, LIMITE_MAXIMO_PAGINA);
+
+        ProdutoOrdenacao ordenacao = ProdutoOrdenacao.de(sort);
+        if (minPreco == null && maxPreco == null && ordenacao == ProdutoOrdenacao.ID && cursor == null) {
+            return listarPaginaPorId(after, limite);
+        }
+
+        long minCentavos = minPreco == null ? 0L : PrecoMapper.reaisParaCentavos(minPreco);
+        long maxCentavos = maxPreco == null ? Long.MAX_VALUE : PrecoMapper.reaisParaCentavos(maxPreco);
+        if (minCentavos > maxCentavos) {
+            throw new IllegalArgumentException("O parâmetro minPreco não pode ser maior que maxPreco.");
+        }
+        if (cursor == null && after != null && ordenacao == ProdutoOrdenacao.ID) {
+            cursor = String.valueOf(after);
+        }
+
+        ProdutoPagina pagina = produtoGateway.listarPagina(
+                new ProdutoConsulta(minCentavos, maxCentavos, ordenacao, cursor, limite));
+        List<ProdutoApiResponseDto> produtos = pagina.produtos()
+                .stream()
+                .map(ProdutoApiDtoMapper::produtoToResponseDto)
+                .toList();
+
+        Long proximo = ordenacao == ProdutoOrdenacao.ID && pagina.proximoCursor() != null
+                ? produtos.get(produtos.size() - 1).id()
+                : null;
+        return ResponseEntity.ok(new ProdutoPaginaApiResponseDto(produtos, proximo, pagina.proximoCursor()));
+    }
+
+    private ResponseEntity<ProdutoPaginaApiResponseDto> listarPaginaPorId(Long after, int limite) {
+        List<ProdutoApiResponseDto> produtos = produtoGateway.listarResumos(after, limite)
+                .stream()
+                .map(ProdutoApiDtoMapper::resumoToResponseDto)
+                .toList();
+
+        Long proximo = produtos.size() < limite ? null : produtos.get(produtos.size() - 1).id();
+        return ResponseEntity.ok(new ProdutoPaginaApiResponseDto(produtos, proximo));
+    }
+
+    // Exporta o catálogo inteiro como NDJSON (um produto por linha), sem materializar a lista em memória
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> exportarProdutos() {
+        StreamingResponseBody corpo = saida -> produtoGateway.percorrerResumos((ProdutoResumo resumo) -> {
+            try {
+                saida.write(objectMapper.writeValueAsBytes(ProdutoApiDtoMapper.resumoToResponseDto(resumo)));
+                saida.write('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(corpo);
+    }
+
+    // Produto inexistente é caso comum (scanners, serviço de pedidos): a busca devolve Optional e a falta vira
+    // 404 sem passar pela exceção do core; o log das faltas é limitado por janela
     @GetMapping("/{id}")
+    @GetCondicional(GetCondicional.Escopo.PRODUTO)
     public ResponseEntity<ProdutoApiResponseDto> buscarProdutoPorId(@PathVariable Long id) {
-        try {
-            return ResponseEntity.ok(
-                    ProdutoApiDtoMapper.produtoDtoToResponseDto(produtoController.buscarProdutoPorId(id))
-            );
-        } catch (ProdutoNaoEncontradoException ex){
-            System.out.println(ex.getMessage());
-            return ResponseEntity.notFound().build();
+        Optional<Produto> produto = produtoLeitura.buscarPorId(id);
+        if (produto.isEmpty()) {
+            LOG_NAO_ENCONTRADOS.registrar("Produto não encontrado", "produtoId", id);
+            return NAO_ENCONTRADO;
         }
+        return ResponseEntity.ok(ProdutoApiDtoMapper.produtoToResponseDto(produto.get()));
     }
 
     @GetMapping("/nome/{nome}")
     public ResponseEntity<ProdutoApiResponseDto> buscarProdutoPorId(@PathVariable String nome) {
-        try {
-            return ResponseEntity.ok(
-                    ProdutoApiDtoMapper.produtoDtoToResponseDto(produtoController.buscarProdutoPorNome(nome))
-            );
-        } catch (ProdutoNaoEncontradoException ex){
-            System.out.println(ex.getMessage());
-            return ResponseEntity.notFound().build();
+        Optional<Produto> produto = produtoLeitura.buscarPorNome(nome);
+        if (produto.isEmpty()) {
+            LOG_NAO_ENCONTRADOS.registrar("Produto não encontrado", "produtoNome", nome);
+            return NAO_ENCONTRADO;
+        }
+        return ResponseEntity.ok(ProdutoApiDtoMapper.produtoToResponseDto(produto.get()));
+    }
+
+    // Resolve vários produtos numa única consulta; ids inexistentes vão para naoEncontrados em vez de gerar 404
+    @PostMapping("/batch")
+    public ResponseEntity<ProdutoLoteApiResponseDto> buscarProdutosPorIds(@RequestBody ProdutoLoteApiRequestDto requestDto) {
+        if (requestDto.ids() == null || requestDto.ids().isEmpty()) {
+            throw new IllegalArgumentException("A lista de ids não pode ser nula ou vazia.");
+        }
+        Set<Long> ids = new LinkedHashSet<>(requestDto.ids());
+        ids.remove(null);
+        if (ids.size() > LIMITE_MAXIMO_LOTE) {
+            throw new IllegalArgumentException("O lote não pode ter mais de " + LIMITE_MAXIMO_LOTE + " ids.");
+        }
+
+        Map<Long, ProdutoResumo> encontrados = produtoGateway.buscarResumosPorIds(ids)
+                .stream()
+                .collect(Collectors.toMap(ProdutoResumo::id, Function.identity()));
+
+        List<ProdutoApiResponseDto> produtos = new ArrayList<>(encontrados.size());
+        List<Long> naoEncontrados = new ArrayList<>();
+        for (Long id : ids) {
+            ProdutoResumo resumo = encontrados.get(id);
+            if (resumo == null) {
+                naoEncontrados.add(id);
+            } else {
+                produtos.add(ProdutoApiDtoMapper.resumoToResponseDto(resumo));
+            }
         }
+
+        return ResponseEntity.ok(new ProdutoLoteApiResponseDto(produtos, naoEncontrados));
     }
 
     @PostMapping("/create")
@@ -68,19 +215,22 @@ public class ProdutoApiController {
         return ResponseEntity.ok(ProdutoApiDtoMapper.produtoDtoToResponseDto(produtoDTO));
     }
 
+    // Edição e remoção vão direto ao gateway: um único UPDATE/DELETE por id, cuja contagem de linhas já
+    // responde se o produto existe. Pelo core seriam a busca de existência antes e a escrita depois.
+    // Usam o IProdutoGateway decorado (métricas, réplica/cache, JPA), não o JPA concreto, para que os timers
+    // atualizar/deletar e produto.gateway.erros continuem medindo as escritas e o cache seja invalidado.
     @PutMapping("/{id}")
     public ResponseEntity<ProdutoApiResponseDto> editarProduto(
             @PathVariable("id") Long id,
             @RequestBody ProdutoApiRequestDto request
     ) {
-        ProdutoDTO produtoDTO = ProdutoApiDtoMapper.requestDtoToProdutoDTO(id, request);
-        ProdutoDTO produtoEditadoDTO = produtoController.editarProduto(produtoDTO);
-        return ResponseEntity.ok(ProdutoApiDtoMapper.produtoDtoToResponseDto(produtoEditadoDTO));
+        Produto produtoEditado = produtoGatewayDecorado.atualizar(ProdutoApiDtoMapper.requestDtoToProduto(id, request));
+        return ResponseEntity.ok(ProdutoApiDtoMapper.produtoToResponseDto(produtoEditado));
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deletarProduto(@PathVariable("id") Long id) {
-        produtoController.deletarProduto(id);
+        produtoGatewayDecorado.deletar(id);
         return ResponseEntity.noContent().build();
     }
 }
@@ -0,0 +1,70 @@
+package br.com.orderhub.produto_service.adapter.controller;
+
+import br.com.orderhub.produto_service.adapter.dto.ProdutoApiResponseDto;
+import br.com.orderhub.produto_service.adapter.dto.ProdutoLoteApiRequestDto;
+import br.com.orderhub.produto_service.adapter.dto.ProdutoLoteApiResponseDto;
+import br.com.orderhub.produto_service.adapter.dto.ProdutoPaginaApiResponseDto;
+import br.com.orderhub.produto_service.adapter.execucao.ProdutoExecutorConsultas;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// Variante assíncrona das leituras e da busca em lote do ProdutoApiController: mesma lógica e mesmas
+// respostas, mas executadas no ProdutoExecutorConsultas. A thread do servlet volta para o container assim
+// que a tarefa é aceita; uma consulta lenta ocupa só uma thread do pool limitado, e o prazo da tarefa
+// vale por requisição.
+@RestController
+@RequestMapping("/produtos/async")
+public class ProdutoAsyncApiController {
+    private final ProdutoApiController produtoApiController;
+    private final ProdutoExecutorConsultas executorConsultas;
+
+    public ProdutoAsyncApiController(ProdutoApiController produtoApiController,
+                                     ProdutoExecutorConsultas executorConsultas) {
+        this.produtoApiController = produtoApiController;
+        this.executorConsultas = executorConsultas;
+    }
+
+    @GetMapping(params = "!limit")
+    public CompletableFuture<ResponseEntity<List<ProdutoApiResponseDto>>> listarTodosProdutos() {
+        return executorConsultas.executar(produtoApiController::listarTodosProdutos);
+    }
+
+    @GetMapping(params = "limit")
+    public CompletableFuture<ResponseEntity<ProdutoPaginaApiResponseDto>> listarPaginaProdutos(
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "minPreco", required = false) Double minPreco,
+            @RequestParam(name = "maxPreco", required = false) Double maxPreco,
+            @RequestParam(name = "sort", required = false) String sort,
+            @RequestParam(name = "limit") int limit
+    ) {
+        return executorConsultas.executar(() ->
+                produtoApiController.listarPaginaProdutos(after, cursor, minPreco, maxPreco, sort, limit));
+    }
+
+    @GetMapping("/{id}")
+    public CompletableFuture<ResponseEntity<ProdutoApiResponseDto>> buscarProdutoPorId(@PathVariable Long id) {
+        return executorConsultas.executar(() -> produtoApiController.buscarProdutoPorId(id));
+    }
+
+    @GetMapping("/nome/{nome}")
+    public CompletableFuture<ResponseEntity<ProdutoApiResponseDto>> buscarProdutoPorNome(@PathVariable String nome) {
+        return executorConsultas.executar(() -> produtoApiController.buscarProdutoPorId(nome));
+    }
+
+    @PostMapping("/batch")
+    public CompletableFuture<ResponseEntity<ProdutoLoteApiResponseDto>> buscarProdutosPorIds(
+            @RequestBody ProdutoLoteApiRequestDto requestDto
+    ) {
+        return executorConsultas.executar(() -> produtoApiController.buscarProdutosPorIds(requestDto));
+    }
+}
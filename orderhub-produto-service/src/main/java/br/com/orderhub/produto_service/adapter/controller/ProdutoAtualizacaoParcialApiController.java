@@ -0,0 +1,120 @@
+package br.com.orderhub.produto_service.adapter.controller;
+
+import br.com.orderhub.core.domain.entities.Produto;
+import br.com.orderhub.produto_service.adapter.dto.ProdutoApiResponseDto;
+import br.com.orderhub.produto_service.adapter.dto.ProdutoAtualizacaoParcialApiRequestDto;
+import br.com.orderhub.produto_service.adapter.dto.ProdutoAtualizacaoParcialApiResponseDto;
+import br.com.orderhub.produto_service.adapter.dto.ProdutoImportacaoResultadoDto;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoAtualizacaoParcialResultado;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoRepositoryJpaGatewayImpl;
+import br.com.orderhub.produto_service.adapter.mapper.ProdutoApiDtoMapper;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoAtualizacaoParcial;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static br.com.orderhub.produto_service.adapter.dto.ProdutoImportacaoResultadoDto.INVALIDO;
+
+// PATCH de produtos: só as colunas informadas entram no UPDATE. O PATCH em lote (job de preços) lê
+// um array JSON ou NDJSON de forma incremental, como a importação, e grava em lotes: uma transação e
+// um batch JDBC por lote, então as linhas ficam travadas só pelo tempo de um lote.
+
+@RestController
+@RequestMapping("/produtos")
+public class ProdutoAtualizacaoParcialApiController {
+    private final ProdutoRepositoryJpaGatewayImpl produtoGateway;
+    private final ObjectMapper objectMapper;
+    private final int tamanhoLote;
+
+    public ProdutoAtualizacaoParcialApiController(ProdutoRepositoryJpaGatewayImpl produtoGateway,
+                                                  ObjectMapper objectMapper,
+                                                  @Value("${orderhub.produto.atualizacao-parcial.tamanho-lote:1000}") int tamanhoLote) {
+        this.produtoGateway = produtoGateway;
+        this.objectMapper = objectMapper;
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    @PatchMapping("/{id}")
+    public ResponseEntity<ProdutoApiResponseDto> atualizarProdutoParcial(
+            @PathVariable("id") Long id,
+            @RequestBody ProdutoAtualizacaoParcialApiRequestDto requestDto
+    ) {
+        if (requestDto.id() != null && !requestDto.id().equals(id)) {
+            throw new IllegalArgumentException("O id do corpo não confere com o id da URL.");
+        }
+        Produto produto = produtoGateway.atualizarParcial(validar(id, requestDto));
+        return ResponseEntity.ok(ProdutoApiDtoMapper.produtoToResponseDto(produto));
+    }
+
+    @PatchMapping(consumes = {MediaType.APPLICATION_JSON_VALUE, "application/x-ndjson"})
+    public ResponseEntity<ProdutoAtualizacaoParcialApiResponseDto> atualizarProdutosParcial(InputStream corpo) throws IOException {
+        List<ProdutoAtualizacaoParcial> lote = new ArrayList<>(tamanhoLote);
+        List<Long> naoEncontrados = new ArrayList<>();
+        List<ProdutoImportacaoResultadoDto> invalidos = new ArrayList<>();
+        int atualizados = 0;
+
+        try (MappingIterator<ProdutoAtualizacaoParcialApiRequestDto> itens = objectMapper
+                .readerFor(ProdutoAtualizacaoParcialApiRequestDto.class)
+                .readValues(corpo)) {
+            int linha = 0;
+            while (itens.hasNextValue()) {
+                linha++;
+                ProdutoAtualizacaoParcialApiRequestDto item = itens.nextValue();
+                try {
+                    lote.add(validar(item == null ? null : item.id(), item));
+                } catch (IllegalArgumentException ex) {
+                    invalidos.add(new ProdutoImportacaoResultadoDto(linha, item == null ? null : item.id(), INVALIDO, ex.getMessage()));
+                }
+
+                if (lote.size() == tamanhoLote) {
+                    atualizados += gravarLote(lote, naoEncontrados);
+                }
+            }
+        }
+        atualizados += gravarLote(lote, naoEncontrados);
+
+        return ResponseEntity.ok(new ProdutoAtualizacaoParcialApiResponseDto(atualizados, naoEncontrados, invalidos));
+    }
+
+    private int gravarLote(List<ProdutoAtualizacaoParcial> lote, List<Long> naoEncontrados) {
+        if (lote.isEmpty()) {
+            return 0;
+        }
+        ProdutoAtualizacaoParcialResultado resultado = produtoGateway.atualizarParcial(lote);
+        naoEncontrados.addAll(resultado.naoEncontrados());
+        int atualizados = lote.size() - resultado.naoEncontrados().size();
+        lote.clear();
+        return atualizados;
+    }
+
+    private static ProdutoAtualizacaoParcial validar(Long id, ProdutoAtualizacaoParcialApiRequestDto item) {
+        if (item == null || id == null) {
+            throw new IllegalArgumentException("O id do produto é obrigatório.");
+        }
+        if (item.nome() != null && item.nome().isBlank()) {
+            throw new IllegalArgumentException("O nome não pode ser nulo ou vazio.");
+        }
+        Long precoCentavos = ProdutoApiDtoMapper.precoEmCentavos(item.preco(), item.precoCentavos());
+        if (precoCentavos != null && precoCentavos < 0) {
+            throw new IllegalArgumentException("O preço não pode ser negativo.");
+        }
+
+        ProdutoAtualizacaoParcial alteracao = new ProdutoAtualizacaoParcial(id, item.nome(), item.descricao(), precoCentavos);
+        if (alteracao.vazia()) {
+            throw new IllegalArgumentException("Informe ao menos um campo para alterar.");
+        }
+        return alteracao;
+    }
+}
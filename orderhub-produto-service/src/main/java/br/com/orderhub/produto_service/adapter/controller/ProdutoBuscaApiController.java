@@ -0,0 +1,42 @@
+package br.com.orderhub.produto_service.adapter.controller;
+
+import br.com.orderhub.produto_service.adapter.busca.ProdutoIndiceBusca;
+import br.com.orderhub.produto_service.adapter.dto.ProdutoApiResponseDto;
+import br.com.orderhub.produto_service.adapter.mapper.ProdutoApiDtoMapper;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/produtos")
+public class ProdutoBuscaApiController {
+    static final int LIMITE_MAXIMO_BUSCA = 100;
+
+    private final ProdutoIndiceBusca produtoIndiceBusca;
+
+    public ProdutoBuscaApiController(ProdutoIndiceBusca produtoIndiceBusca) {
+        this.produtoIndiceBusca = produtoIndiceBusca;
+    }
+
+    // Autocomplete da vitrine: responde do índice em memória, sem consultar o banco
+    @GetMapping("/search")
+    public ResponseEntity<List<ProdutoApiResponseDto>> buscarProdutos(
+            @RequestParam("q") String q,
+            @RequestParam(name = "limit", defaultValue = "10") int limit
+    ) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("O parâmetro limit deve ser maior que zero.");
+        }
+
+        List<ProdutoApiResponseDto> produtos = produtoIndiceBusca.buscar(q, Math.min(limit, LIMITE_MAXIMO_BUSCA))
+                .stream()
+                .map(ProdutoApiDtoMapper::produtoToResponseDto)
+                .toList();
+
+        return ResponseEntity.ok(produtos);
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.orderhub.produto_service.adapter.controller;
+
+import br.com.orderhub.produto_service.adapter.dto.ProdutoCacheEstatisticasApiResponseDto;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoGatewayCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/produtos/cache")
+public class ProdutoCacheApiController {
+    private final ProdutoGatewayCache produtoGatewayCache;
+
+    public ProdutoCacheApiController(ProdutoGatewayCache produtoGatewayCache) {
+        this.produtoGatewayCache = produtoGatewayCache;
+    }
+
+    @GetMapping("/estatisticas")
+    public ResponseEntity<ProdutoCacheEstatisticasApiResponseDto> estatisticas() {
+        CacheStats porId = produtoGatewayCache.estatisticasPorId();
+        CacheStats porNome = produtoGatewayCache.estatisticasPorNome();
+
+        return ResponseEntity.ok(new ProdutoCacheEstatisticasApiResponseDto(
+                produtoGatewayCache.tamanho(),
+                porId.hitCount(),
+                porId.missCount(),
+                porId.hitRate(),
+                porId.evictionCount(),
+                porNome.hitCount(),
+                porNome.missCount(),
+                produtoGatewayCache.carregamentosExecutados(),
+                produtoGatewayCache.carregamentosCoalescidos()
+        ));
+    }
+}
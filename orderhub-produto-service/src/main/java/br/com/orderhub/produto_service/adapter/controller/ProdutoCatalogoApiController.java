@@ -0,0 +1,45 @@
+package br.com.orderhub.produto_service.adapter.controller;
+
+import br.com.orderhub.produto_service.adapter.api.condicional.GetCondicional;
+import br.com.orderhub.produto_service.adapter.catalogo.ProdutoCatalogoSnapshot;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// GET /produtos em JSON servido do snapshot. Ganha do ProdutoApiController.listarTodosProdutos
+// por ser mais específico (sem "limit" nem filtros, só JSON); pedidos em CBOR ou paginados continuam lá.
+@RestController
+@RequestMapping("/produtos")
+public class ProdutoCatalogoApiController {
+    private final ProdutoCatalogoSnapshot catalogoSnapshot;
+
+    public ProdutoCatalogoApiController(ProdutoCatalogoSnapshot catalogoSnapshot) {
+        this.catalogoSnapshot = catalogoSnapshot;
+    }
+
+    @GetMapping(params = {"!limit", "!minPreco", "!maxPreco", "!sort", "!cursor"}, produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetCondicional(value = GetCondicional.Escopo.CATALOGO, gzip = true)
+    public ResponseEntity<byte[]> listarCatalogo(
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        ProdutoCatalogoSnapshot.Conteudo conteudo = catalogoSnapshot.obter();
+
+        // o array já comprimido vai direto para a resposta; a compressão do servidor não recomprime
+        // respostas que já têm Content-Encoding. O ETag dessa representação tem o sufixo -gzip (gzip = true)
+        if (ProdutoCatalogoSnapshot.aceitaGzip(acceptEncoding)) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .body(conteudo.gzip());
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .body(conteudo.json());
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.orderhub.produto_service.adapter.controller;
+
+import br.com.orderhub.produto_service.adapter.delta.ProdutoDelta;
+import br.com.orderhub.produto_service.adapter.delta.ProdutoDeltaLeitor;
+import br.com.orderhub.produto_service.adapter.dto.ProdutoDeltaApiResponseDto;
+import br.com.orderhub.produto_service.adapter.mapper.ProdutoApiDtoMapper;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/produtos/delta")
+public class ProdutoDeltaApiController {
+    static final int LIMITE_MAXIMO_DELTA = 5000;
+
+    private final ProdutoDeltaLeitor produtoDeltaLeitor;
+
+    public ProdutoDeltaApiController(ProdutoDeltaLeitor produtoDeltaLeitor) {
+        this.produtoDeltaLeitor = produtoDeltaLeitor;
+    }
+
+    // Réplicas do catálogo: since=0 traz o catálogo inteiro (em páginas, enquanto temMais);
+    // depois, só os produtos salvos e os ids excluídos desde o token guardado.
+    @GetMapping
+    public ResponseEntity<ProdutoDeltaApiResponseDto> buscarDelta(
+            @RequestParam(name = "since", defaultValue = "0") long since,
+            @RequestParam(name = "limit", defaultValue = "1000") int limit
+    ) {
+        if (since < 0) {
+            throw new IllegalArgumentException("O parâmetro since não pode ser negativo.");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("O parâmetro limit deve ser maior que zero.");
+        }
+
+        ProdutoDelta delta = produtoDeltaLeitor.buscarDesde(since, Math.min(limit, LIMITE_MAXIMO_DELTA));
+
+        return ResponseEntity.ok(new ProdutoDeltaApiResponseDto(
+                delta.salvos().stream().map(ProdutoApiDtoMapper::produtoToResponseDto).toList(),
+                delta.removidos(),
+                delta.token(),
+                delta.temMais()
+        ));
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.orderhub.produto_service.adapter.controller;
+
+import br.com.orderhub.core.domain.entities.Produto;
+import br.com.orderhub.produto_service.adapter.dto.ProdutoApiRequestDto;
+import br.com.orderhub.produto_service.adapter.dto.ProdutoImportacaoApiResponseDto;
+import br.com.orderhub.produto_service.adapter.dto.ProdutoImportacaoResultadoDto;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoImportado;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoRepositoryJpaGatewayImpl;
+import br.com.orderhub.produto_service.adapter.mapper.ProdutoApiDtoMapper;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static br.com.orderhub.produto_service.adapter.dto.ProdutoImportacaoResultadoDto.ATUALIZADO;
+import static br.com.orderhub.produto_service.adapter.dto.ProdutoImportacaoResultadoDto.CRIADO;
+import static br.com.orderhub.produto_service.adapter.dto.ProdutoImportacaoResultadoDto.INVALIDO;
+
+// Importação do catálogo do fornecedor: aceita um array JSON ou NDJSON, lido de forma incremental,
+// e grava em lotes (uma transação e um batch JDBC por lote). Produtos com o mesmo nome são atualizados.
+
+@RestController
+@RequestMapping("/produtos")
+public class ProdutoImportacaoApiController {
+    private final ProdutoRepositoryJpaGatewayImpl produtoGateway;
+    private final ObjectMapper objectMapper;
+    private final int tamanhoLote;
+
+    public ProdutoImportacaoApiController(ProdutoRepositoryJpaGatewayImpl produtoGateway,
+                                          ObjectMapper objectMapper,
+                                          @Value("${orderhub.produto.importacao.tamanho-lote:500}") int tamanhoLote) {
+        this.produtoGateway = produtoGateway;
+        this.objectMapper = objectMapper;
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, "application/x-ndjson"})
+    public ResponseEntity<ProdutoImportacaoApiResponseDto> importarProdutos(InputStream corpo) throws IOException {
+        List<ProdutoImportacaoResultadoDto> resultados = new ArrayList<>();
+        List<Produto> lote = new ArrayList<>(tamanhoLote);
+        List<Integer> linhasDoLote = new ArrayList<>(tamanhoLote);
+
+        // Um array JSON na raiz é desembrulhado pelo MappingIterator; NDJSON é lido valor a valor
+        try (MappingIterator<ProdutoApiRequestDto> itens = objectMapper
+                .readerFor(ProdutoApiRequestDto.class)
+                .readValues(corpo)) {
+            int linha = 0;
+            while (itens.hasNextValue()) {
+                linha++;
+                ProdutoApiRequestDto item = itens.nextValue();
+                try {
+                    lote.add(validar(item));
+                    linhasDoLote.add(linha);
+                } catch (IllegalArgumentException ex) {
+                    resultados.add(new ProdutoImportacaoResultadoDto(linha, null, INVALIDO, ex.getMessage()));
+                }
+
+                if (lote.size() == tamanhoLote) {
+                    gravarLote(lote, linhasDoLote, resultados);
+                }
+            }
+        }
+        gravarLote(lote, linhasDoLote, resultados);
+
+        resultados.sort(Comparator.comparingInt(ProdutoImportacaoResultadoDto::linha));
+        int criados = 0;
+        int atualizados = 0;
+        int invalidos = 0;
+        for (ProdutoImportacaoResultadoDto resultado : resultados) {
+            switch (resultado.status()) {
+                case CRIADO -> criados++;
+                case ATUALIZADO -> atualizados++;
+                default -> invalidos++;
+            }
+        }
+
+        return ResponseEntity.ok(new ProdutoImportacaoApiResponseDto(criados, atualizados, invalidos, resultados));
+    }
+
+    private void gravarLote(List<Produto> lote, List<Integer> linhasDoLote, List<ProdutoImportacaoResultadoDto> resultados) {
+        if (lote.isEmpty()) {
+            return;
+        }
+        List<ProdutoImportado> importados = produtoGateway.importarLote(lote);
+        for (int i = 0; i < importados.size(); i++) {
+            ProdutoImportado importado = importados.get(i);
+            resultados.add(new ProdutoImportacaoResultadoDto(
+                    linhasDoLote.get(i),
+                    importado.produto().getId(),
+                    importado.criado() ? CRIADO : ATUALIZADO,
+                    null
+            ));
+        }
+        lote.clear();
+        linhasDoLote.clear();
+    }
+
+    // As regras do próprio Produto (core) também são aplicadas no construtor
+    private static Produto validar(ProdutoApiRequestDto item) {
+        if (item == null || item.nome() == null || item.nome().isBlank()) {
+            throw new IllegalArgumentException("O nome não pode ser nulo ou vazio.");
+        }
+        Double preco = ProdutoApiDtoMapper.precoEmReais(item);
+        if (preco == null || preco < 0) {
+            throw new IllegalArgumentException("O preço deve ser informado e não pode ser negativo.");
+        }
+        return new Produto(null, item.nome(), item.descricao(), preco);
+    }
+}
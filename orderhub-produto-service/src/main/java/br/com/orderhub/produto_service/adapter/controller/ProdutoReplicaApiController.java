@@ -0,0 +1,49 @@
+package br.com.orderhub.produto_service.adapter.controller;
+
+import br.com.orderhub.produto_service.adapter.dto.ProdutoReplicaApiResponseDto;
+import br.com.orderhub.produto_service.adapter.dto.ProdutoReplicaSnapshotApiResponseDto;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoGatewayReplica;
+import br.com.orderhub.produto_service.adapter.replica.ProdutoReplicaArquivo;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// Estado da réplica do catálogo e exportação do snapshot sob demanda (antes de um rollout, por exemplo).
+// Só existe com a réplica habilitada.
+@RestController
+@RequestMapping("/produtos/replica")
+@ConditionalOnProperty(name = "orderhub.produto.replica.habilitada", havingValue = "true")
+public class ProdutoReplicaApiController {
+    private final ProdutoGatewayReplica produtoGatewayReplica;
+
+    public ProdutoReplicaApiController(ProdutoGatewayReplica produtoGatewayReplica) {
+        this.produtoGatewayReplica = produtoGatewayReplica;
+    }
+
+    @GetMapping
+    public ResponseEntity<ProdutoReplicaApiResponseDto> estado() {
+        return ResponseEntity.ok(new ProdutoReplicaApiResponseDto(
+                produtoGatewayReplica.pronta(),
+                produtoGatewayReplica.origem(),
+                produtoGatewayReplica.quantidade(),
+                produtoGatewayReplica.ultimaSequencia(),
+                produtoGatewayReplica.bytesForaDoHeap(),
+                produtoGatewayReplica.bytesIndice()
+        ));
+    }
+
+    // 409 enquanto a réplica não está montada ou sem orderhub.produto.replica.snapshot.arquivo
+    @PostMapping("/snapshot")
+    public ResponseEntity<ProdutoReplicaSnapshotApiResponseDto> exportarSnapshot() {
+        if (!produtoGatewayReplica.podeExportar()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        ProdutoReplicaArquivo.Resumo resumo = produtoGatewayReplica.exportarSnapshot();
+        return ResponseEntity.ok(new ProdutoReplicaSnapshotApiResponseDto(
+                resumo.sequencia(), resumo.quantidade(), resumo.bytes(), resumo.geradoEm()));
+    }
+}
@@ -0,0 +1,9 @@
+package br.com.orderhub.produto_service.adapter.delta;
+
+import br.com.orderhub.core.domain.entities.Produto;
+
+import java.util.List;
+
+// Alterações entre o token pedido e o token devolvido: estado atual dos produtos salvos e ids excluídos
+public record ProdutoDelta(List<Produto> salvos, List<Long> removidos, long token, boolean temMais) {
+}
@@ -0,0 +1,72 @@
+package br.com.orderhub.produto_service.adapter.delta;
+
+import br.com.orderhub.core.domain.entities.Produto;
+import br.com.orderhub.produto_service.adapter.mapper.ProdutoEntityMapper;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoEntity;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoOutboxRepository;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoRemovidoEntity;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoRemovidoRepository;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class ProdutoDeltaLeitor {
+
+    private final ProdutoRepository produtoRepository;
+    private final ProdutoRemovidoRepository removidoRepository;
+    private final ProdutoOutboxRepository outboxRepository;
+
+    public ProdutoDeltaLeitor(ProdutoRepository produtoRepository,
+                              ProdutoRemovidoRepository removidoRepository,
+                              ProdutoOutboxRepository outboxRepository) {
+        this.produtoRepository = produtoRepository;
+        this.removidoRepository = removidoRepository;
+        this.outboxRepository = outboxRepository;
+    }
+
+    // As duas consultas são limitadas pela última sequência já publicada, lida antes delas: um lote
+    // publicado no meio da leitura não deixa buraco entre o token devolvido e o próximo.
+    @Transactional(readOnly = true)
+    public ProdutoDelta buscarDesde(long token, int limite) {
+        Long ultimaPublicada = outboxRepository.findUltimaSequencia();
+        if (ultimaPublicada == null || ultimaPublicada <= token) {
+            return new ProdutoDelta(List.of(), List.of(), token, false);
+        }
+
+        List<ProdutoEntity> salvos = produtoRepository.findBySequenciaBetweenOrderBySequenciaAsc(
+                token + 1, ultimaPublicada, Limit.of(limite + 1));
+        List<ProdutoRemovidoEntity> removidos = removidoRepository.findBySequenciaBetweenOrderBySequenciaAsc(
+                token + 1, ultimaPublicada, Limit.of(limite + 1));
+
+        // intercala as duas listas por sequência até o limite
+        List<Produto> produtos = new ArrayList<>();
+        List<Long> idsRemovidos = new ArrayList<>();
+        long novoToken = token;
+        int s = 0;
+        int r = 0;
+        while (produtos.size() + idsRemovidos.size() < limite && (s < salvos.size() || r < removidos.size())) {
+            boolean proximoESalvo = r >= removidos.size()
+                    || (s < salvos.size() && salvos.get(s).getSequencia() < removidos.get(r).getSequencia());
+            if (proximoESalvo) {
+                ProdutoEntity entity = salvos.get(s++);
+                produtos.add(ProdutoEntityMapper.entityToDomain(entity));
+                novoToken = entity.getSequencia();
+            } else {
+                ProdutoRemovidoEntity removido = removidos.get(r++);
+                idsRemovidos.add(removido.getProdutoId());
+                novoToken = removido.getSequencia();
+            }
+        }
+        boolean temMais = s < salvos.size() || r < removidos.size();
+        if (!temMais) {
+            // nada além do que foi devolvido até a última publicada: o próximo delta começa dali
+            novoToken = ultimaPublicada;
+        }
+        return new ProdutoDelta(produtos, idsRemovidos, novoToken, temMais);
+    }
+}
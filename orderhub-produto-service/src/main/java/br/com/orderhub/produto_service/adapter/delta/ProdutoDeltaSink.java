@@ -0,0 +1,47 @@
+package br.com.orderhub.produto_service.adapter.delta;
+
+import br.com.orderhub.produto_service.adapter.outbox.ProdutoAlteracao;
+import br.com.orderhub.produto_service.adapter.outbox.ProdutoAlteracaoSink;
+import br.com.orderhub.produto_service.adapter.outbox.TipoAlteracao;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoRemovidoEntity;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoRemovidoRepository;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Aplica as sequências publicadas pelo relay em produtos.sequencia e nas marcas de exclusão.
+// Roda na transação do relay, então um leitor do delta nunca vê uma sequência sem as anteriores.
+@Component
+public class ProdutoDeltaSink implements ProdutoAlteracaoSink {
+
+    private final ProdutoRepository produtoRepository;
+    private final ProdutoRemovidoRepository removidoRepository;
+
+    public ProdutoDeltaSink(ProdutoRepository produtoRepository, ProdutoRemovidoRepository removidoRepository) {
+        this.produtoRepository = produtoRepository;
+        this.removidoRepository = removidoRepository;
+    }
+
+    @Override
+    public void publicar(List<ProdutoAlteracao> alteracoes) {
+        // só a última alteração de cada produto no lote importa
+        Map<Long, ProdutoAlteracao> ultimas = new LinkedHashMap<>();
+        for (ProdutoAlteracao alteracao : alteracoes) {
+            ultimas.put(alteracao.produtoId(), alteracao);
+        }
+
+        List<ProdutoRemovidoEntity> removidos = new ArrayList<>();
+        for (ProdutoAlteracao alteracao : ultimas.values()) {
+            if (alteracao.tipo() == TipoAlteracao.REMOVIDO) {
+                removidos.add(new ProdutoRemovidoEntity(alteracao.produtoId(), alteracao.sequencia(), alteracao.ocorridoEm()));
+            } else {
+                produtoRepository.updateSequencia(alteracao.produtoId(), alteracao.sequencia());
+            }
+        }
+        removidoRepository.saveAll(removidos);
+    }
+}
@@ -0,0 +1,9 @@
+package br.com.orderhub.produto_service.adapter.dto;
+
+import br.com.orderhub.produto_service.adapter.outbox.ProdutoAlteracao;
+
+import java.util.List;
+
+// proximo: valor de "since" para a próxima chamada
+public record ProdutoAlteracoesApiResponseDto(List<ProdutoAlteracao> alteracoes, Long proximo) {
+}
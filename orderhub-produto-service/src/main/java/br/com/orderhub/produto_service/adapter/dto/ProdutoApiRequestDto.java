@@ -1,4 +1,9 @@
 package br.com.orderhub.produto_service.adapter.dto;
 
-public record ProdutoApiRequestDto(String nome, String descricao, Double preco) {
+// Aceita o preço em centavos (precoCentavos, exato) ou, para compatibilidade, em reais (preco)
+public record ProdutoApiRequestDto(String nome, String descricao, Double preco, Long precoCentavos) {
+
+    public ProdutoApiRequestDto(String nome, String descricao, Double preco) {
+        this(nome, descricao, preco, null);
+    }
 }
@@ -1,4 +1,11 @@
 package br.com.orderhub.produto_service.adapter.dto;
 
-public record ProdutoApiResponseDto(Long id, String nome, String descricao, Double preco) {
+import br.com.orderhub.produto_service.adapter.mapper.PrecoMapper;
+
+// preco (reais, double) continua no JSON para os clientes antigos; precoCentavos é o valor exato
+public record ProdutoApiResponseDto(Long id, String nome, String descricao, Double preco, Long precoCentavos) {
+
+    public ProdutoApiResponseDto(Long id, String nome, String descricao, Double preco) {
+        this(id, nome, descricao, preco, PrecoMapper.reaisParaCentavosOuNulo(preco));
+    }
 }
@@ -0,0 +1,6 @@
+package br.com.orderhub.produto_service.adapter.dto;
+
+// Corpo do PATCH: só os campos que mudam; os ausentes (null) ficam como estão. O id é obrigatório no
+// PATCH em lote e, no PATCH por id, opcional (se vier, precisa ser o da URL).
+public record ProdutoAtualizacaoParcialApiRequestDto(Long id, String nome, String descricao, Double preco, Long precoCentavos) {
+}
@@ -0,0 +1,10 @@
+package br.com.orderhub.produto_service.adapter.dto;
+
+import java.util.List;
+
+public record ProdutoAtualizacaoParcialApiResponseDto(
+        int atualizados,
+        List<Long> naoEncontrados,
+        List<ProdutoImportacaoResultadoDto> invalidos
+) {
+}
@@ -0,0 +1,14 @@
+package br.com.orderhub.produto_service.adapter.dto;
+
+public record ProdutoCacheEstatisticasApiResponseDto(
+        long tamanho,
+        long acertos,
+        long faltas,
+        double taxaAcerto,
+        long despejos,
+        long acertosPorNome,
+        long faltasPorNome,
+        long carregamentosExecutados,
+        long carregamentosCoalescidos
+) {
+}
@@ -0,0 +1,12 @@
+package br.com.orderhub.produto_service.adapter.dto;
+
+import java.util.List;
+
+// token: valor de "since" para o próximo delta; temMais: chamar de novo em seguida, sem esperar
+public record ProdutoDeltaApiResponseDto(
+        List<ProdutoApiResponseDto> salvos,
+        List<Long> removidos,
+        Long token,
+        boolean temMais
+) {
+}
@@ -0,0 +1,11 @@
+package br.com.orderhub.produto_service.adapter.dto;
+
+import java.util.List;
+
+public record ProdutoImportacaoApiResponseDto(
+        int criados,
+        int atualizados,
+        int invalidos,
+        List<ProdutoImportacaoResultadoDto> resultados
+) {
+}
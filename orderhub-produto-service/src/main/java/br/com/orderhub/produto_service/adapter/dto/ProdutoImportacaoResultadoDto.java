@@ -0,0 +1,7 @@
+package br.com.orderhub.produto_service.adapter.dto;
+
+public record ProdutoImportacaoResultadoDto(int linha, Long id, String status, String erro) {
+    public static final String CRIADO = "CRIADO";
+    public static final String ATUALIZADO = "ATUALIZADO";
+    public static final String INVALIDO = "INVALIDO";
+}
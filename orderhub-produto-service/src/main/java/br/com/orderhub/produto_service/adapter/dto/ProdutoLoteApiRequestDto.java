@@ -0,0 +1,6 @@
+package br.com.orderhub.produto_service.adapter.dto;
+
+import java.util.List;
+
+public record ProdutoLoteApiRequestDto(List<Long> ids) {
+}
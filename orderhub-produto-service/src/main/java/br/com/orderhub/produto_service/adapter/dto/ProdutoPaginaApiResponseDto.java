@@ -0,0 +1,12 @@
+package br.com.orderhub.produto_service.adapter.dto;
+
+import java.util.List;
+
+// proximo: último id da página (ordenação por id, parâmetro "after"); cursor: posição opaca que
+// serve para qualquer ordenação (parâmetro "cursor"). Ambos null na última página.
+public record ProdutoPaginaApiResponseDto(List<ProdutoApiResponseDto> produtos, Long proximo, String cursor) {
+
+    public ProdutoPaginaApiResponseDto(List<ProdutoApiResponseDto> produtos, Long proximo) {
+        this(produtos, proximo, proximo == null ? null : String.valueOf(proximo));
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.orderhub.produto_service.adapter.dto;
+
+// origem: SNAPSHOT (arquivo + outbox) ou BANCO (leitura da tabela); nula enquanto a réplica não está pronta
+public record ProdutoReplicaApiResponseDto(
+        boolean pronta,
+        String origem,
+        int quantidade,
+        long ultimaSequencia,
+        long bytesForaDoHeap,
+        long bytesIndice
+) {
+}
@@ -0,0 +1,11 @@
+package br.com.orderhub.produto_service.adapter.dto;
+
+import java.time.Instant;
+
+public record ProdutoReplicaSnapshotApiResponseDto(
+        long sequencia,
+        int quantidade,
+        long bytes,
+        Instant geradoEm
+) {
+}
@@ -0,0 +1,99 @@
+package br.com.orderhub.produto_service.adapter.execucao;
+
+import br.com.orderhub.produto_service.adapter.protecao.PrazoRequisicao;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Pool limitado onde os endpoints assíncronos (ProdutoAsyncApiController) fazem o trabalho bloqueante
+// de JPA, fora das threads do servlet. Threads e fila têm tamanho fixo: com tudo ocupado, a tarefa é
+// recusada na hora (RejectedExecutionException -> 503 com Retry-After) em vez de enfileirar sem fim.
+// Cada tarefa tem um prazo (orderhub.produto.async.timeout, ou o que resta do X-Request-Deadline, se for
+// menor); vencido, a resposta sai com 504. Esse prazo segue com a tarefa para a thread do pool, onde vira o
+// timeout das consultas (PrazoJpaTransactionManager).
+//
+// Não é um bean Executor de propósito: um Executor no contexto faz o Spring Boot deixar de criar o
+// applicationTaskExecutor, que é o que atende o StreamingResponseBody e o SSE.
+@Component
+public class ProdutoExecutorConsultas implements MeterBinder, DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    public ProdutoExecutorConsultas(@Value("${orderhub.produto.async.threads:16}") int threads,
+                                    @Value("${orderhub.produto.async.fila:100}") int fila,
+                                    @Value("${orderhub.produto.async.timeout:2s}") Duration timeout) {
+        if (threads < 1 || fila < 1) {
+            throw new IllegalArgumentException("orderhub.produto.async.threads e orderhub.produto.async.fila devem ser maiores que zero.");
+        }
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(fila), novaThread(), new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.timeout = timeout;
+    }
+
+    // Lança RejectedExecutionException se o pool e a fila estão cheios; o futuro falha com
+    // TimeoutException se a tarefa não terminar dentro do prazo. O mesmo prazo vai para a tarefa via
+    // PrazoRequisicao: o orTimeout só responde ao chamador, quem interrompe a consulta no banco é o timeout
+    // da transação, e a thread volta ao pool em vez de seguir ocupada depois do 504.
+    public <T> CompletableFuture<T> executar(Supplier<T> tarefa) throws RejectedExecutionException {
+        long agora = System.nanoTime();
+        long prazo = agora + timeout.toNanos();
+        Long prazoRequisicao = PrazoRequisicao.atual();
+        if (prazoRequisicao != null && prazoRequisicao - prazo < 0) {
+            prazo = prazoRequisicao;
+        }
+        long prazoTarefa = prazo;
+        return CompletableFuture.supplyAsync(() -> executarAte(prazoTarefa, tarefa), executor)
+                .orTimeout(Math.max(0, TimeUnit.NANOSECONDS.toMillis(prazo - agora)), TimeUnit.MILLISECONDS);
+    }
+
+    // Tarefa que venceu ainda na fila nem começa: o chamador já recebeu o 504
+    private static <T> T executarAte(long prazo, Supplier<T> tarefa) {
+        if (prazo - System.nanoTime() <= 0) {
+            throw new CompletionException(new TimeoutException("O prazo venceu antes de a tarefa sair da fila."));
+        }
+        return PrazoRequisicao.executarCom(prazo, tarefa);
+    }
+
+    public Duration timeout() {
+        return timeout;
+    }
+
+    // executor.* (ativas, fila, concluídas, tempo ocioso) com name=produtos.consultas
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor, "produtos.consultas", Tags.empty()).bindTo(registry);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static ThreadFactory novaThread() {
+        AtomicInteger contador = new AtomicInteger();
+        return tarefa -> {
+            Thread thread = new Thread(tarefa, "produto-consulta-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.orderhub.produto_service.adapter.gateway;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// Single-flight: chamadas concorrentes para a mesma chave compartilham um único carregamento. A primeira
+// executa o carregador; as que chegam enquanto ele está em andamento esperam e recebem o mesmo resultado
+// (ou a mesma exceção). Nada fica guardado depois que o carregamento termina: quem guarda é o cache.
+class CarregamentoUnico<K, V> {
+
+    static final String CARREGAMENTOS = "produtos.cache.carregamentos";
+
+    private final String nome;
+    private final ConcurrentMap<K, CompletableFuture<V>> emAndamento = new ConcurrentHashMap<>();
+    private final LongAdder executados = new LongAdder();
+    private final LongAdder coalescidos = new LongAdder();
+
+    CarregamentoUnico(String nome) {
+        this.nome = nome;
+    }
+
+    V carregar(K chave, Function<K, V> carregador) {
+        CompletableFuture<V> proprio = new CompletableFuture<>();
+        CompletableFuture<V> existente = emAndamento.putIfAbsent(chave, proprio);
+        if (existente != null) {
+            coalescidos.increment();
+            return aguardar(existente);
+        }
+
+        executados.increment();
+        try {
+            V valor = carregador.apply(chave);
+            proprio.complete(valor);
+            return valor;
+        } catch (RuntimeException | Error ex) {
+            proprio.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            emAndamento.remove(chave, proprio);
+        }
+    }
+
+    // Depois de uma escrita, quem chegar não pode pegar carona num carregamento que começou antes dela
+    void esquecer(K chave) {
+        emAndamento.remove(chave);
+    }
+
+    long executados() {
+        return executados.sum();
+    }
+
+    long coalescidos() {
+        return coalescidos.sum();
+    }
+
+    void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(CARREGAMENTOS, executados, LongAdder::sum)
+                .tag("cache", nome).tag("resultado", "executado")
+                .description("Carregamentos do banco feitos por uma falta no cache")
+                .register(registry);
+        FunctionCounter.builder(CARREGAMENTOS, coalescidos, LongAdder::sum)
+                .tag("cache", nome).tag("resultado", "coalescido")
+                .description("Faltas no cache que esperaram um carregamento já em andamento")
+                .register(registry);
+    }
+
+    private static <V> V aguardar(CompletableFuture<V> carregamento) {
+        try {
+            return carregamento.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (ex.getCause() instanceof Error erro) {
+                throw erro;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package br.com.orderhub.produto_service.adapter.gateway;
+
+import br.com.orderhub.core.domain.entities.Produto;
+
+import java.util.List;
+
+// atualizados: estado completo de cada produto depois do PATCH; naoEncontrados: ids sem linha no banco
+public record ProdutoAtualizacaoParcialResultado(List<Produto> atualizados, List<Long> naoEncontrados) {
+}
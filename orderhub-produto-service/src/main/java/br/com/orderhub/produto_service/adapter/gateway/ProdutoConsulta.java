@@ -0,0 +1,11 @@
+package br.com.orderhub.produto_service.adapter.gateway;
+
+// Faixa de preço (centavos, inclusiva), ordenação e cursor da página anterior (null na primeira)
+public record ProdutoConsulta(
+        long minPrecoCentavos,
+        long maxPrecoCentavos,
+        ProdutoOrdenacao ordenacao,
+        String cursor,
+        int limite
+) {
+}
@@ -0,0 +1,50 @@
+package br.com.orderhub.produto_service.adapter.gateway;
+
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Posição do último produto de uma página, enviada ao cliente como texto opaco: o id na ordenação
+// por id (o mesmo valor de "after"/"proximo") e base64url de "preco:id:nome" nas demais.
+record ProdutoCursor(long precoCentavos, long id, String nome) {
+
+    // maior que qualquer nome real na comparação de strings do banco: início da ordem decrescente
+    private static final String NOME_MAXIMO = String.valueOf(Character.MAX_VALUE);
+
+    static ProdutoCursor inicial(ProdutoOrdenacao ordenacao) {
+        return switch (ordenacao) {
+            case ID, NOME_ASC -> new ProdutoCursor(Long.MIN_VALUE, 0L, "");
+            case PRECO_ASC -> new ProdutoCursor(Long.MIN_VALUE, Long.MIN_VALUE, "");
+            case PRECO_DESC -> new ProdutoCursor(Long.MAX_VALUE, Long.MAX_VALUE, NOME_MAXIMO);
+            case NOME_DESC -> new ProdutoCursor(Long.MAX_VALUE, Long.MAX_VALUE, NOME_MAXIMO);
+        };
+    }
+
+    static ProdutoCursor ler(ProdutoOrdenacao ordenacao, String texto) {
+        if (texto == null || texto.isBlank()) {
+            return inicial(ordenacao);
+        }
+        try {
+            if (ordenacao == ProdutoOrdenacao.ID) {
+                return new ProdutoCursor(Long.MIN_VALUE, Long.parseLong(texto), "");
+            }
+            String[] partes = new String(Base64.getUrlDecoder().decode(texto), StandardCharsets.UTF_8).split(":", 3);
+            return new ProdutoCursor(Long.parseLong(partes[0]), Long.parseLong(partes[1]), partes[2]);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException ex) {
+            throw new IllegalArgumentException("Cursor inválido: " + texto);
+        }
+    }
+
+    static ProdutoCursor apos(ProdutoEntity ultimo) {
+        return new ProdutoCursor(ultimo.getPrecoCentavos(), ultimo.getId(), ultimo.getNome() == null ? "" : ultimo.getNome());
+    }
+
+    String texto(ProdutoOrdenacao ordenacao) {
+        if (ordenacao == ProdutoOrdenacao.ID) {
+            return String.valueOf(id);
+        }
+        String valor = precoCentavos + ":" + id + ":" + nome;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+}
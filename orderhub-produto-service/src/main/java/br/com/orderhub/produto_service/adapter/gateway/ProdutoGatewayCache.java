@@ -0,0 +1,217 @@
+package br.com.orderhub.produto_service.adapter.gateway;
+
+import br.com.orderhub.core.domain.entities.Produto;
+import br.com.orderhub.core.exceptions.ProdutoNaoEncontradoException;
+import br.com.orderhub.core.interfaces.IProdutoGateway;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BooleanSupplier;
+
+// Decorator de leitura sobre o gateway JPA: guarda os produtos por id e mantém um índice nome -> id.
+// As operações de escrita passam direto para o delegate e atualizam/invalidam as entradas afetadas.
+// Faltas concorrentes para o mesmo id (ou nome) compartilham uma só consulta ao delegate (CarregamentoUnico),
+// para que um produto quente recém-invalidado não leve milhares de requisições ao pool de conexões.
+//
+// A invalidação vence o carregamento: uma consulta que leu a linha antes de uma escrita confirmar só
+// termina depois da invalidação dessa escrita, e não pode guardar o valor antigo. Cada invalidação
+// incrementa a geração da faixa do id (e a geração geral, para as buscas por nome, cujo id só se conhece
+// depois da consulta); o carregamento anota a geração antes de consultar e só guarda se ela não mudou.
+// A verificação e a gravação são atômicas (asMap().compute), e a invalidação incrementa a geração antes
+// de remover a entrada: ou o compute vê a geração nova, ou a remoção vem depois dele.
+public class ProdutoGatewayCache implements IProdutoGateway, MeterBinder {
+
+    private static final int FAIXAS_GERACAO = 1024;
+
+    private final IProdutoGateway delegate;
+    private final Cache<Long, Produto> produtosPorId;
+    private final Cache<String, Long> idsPorNome;
+    private final CarregamentoUnico<Long, Produto> carregamentosPorId = new CarregamentoUnico<>("produtos.por.id");
+    private final CarregamentoUnico<String, Produto> carregamentosPorNome = new CarregamentoUnico<>("produtos.por.nome");
+    private final AtomicLongArray geracoesPorId = new AtomicLongArray(FAIXAS_GERACAO);
+    private final AtomicLong geracao = new AtomicLong();
+
+    public ProdutoGatewayCache(IProdutoGateway delegate, long tamanhoMaximo, Duration ttl) {
+        this.delegate = delegate;
+        this.produtosPorId = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.idsPorNome = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Produto buscarPorId(Long id) {
+        Produto produto = produtosPorId.getIfPresent(id);
+        if (produto == null) {
+            produto = carregamentosPorId.carregar(id, this::carregarPorId);
+            if (produto == null) {
+                return null;
+            }
+        }
+        return copiar(produto);
+    }
+
+    @Override
+    public Produto buscarPorNome(String nome) {
+        Long id = idsPorNome.getIfPresent(nome);
+        if (id != null) {
+            Produto produto = produtosPorId.getIfPresent(id);
+            // o produto pode ter sido renomeado depois que o índice foi preenchido
+            if (produto != null && nome.equals(produto.getNome())) {
+                return copiar(produto);
+            }
+            idsPorNome.invalidate(nome);
+        }
+
+        Produto produto = carregamentosPorNome.carregar(nome, this::carregarPorNome);
+        if (produto == null) {
+            return null;
+        }
+        return copiar(produto);
+    }
+
+    // O id só existe depois da inserção: anota a geração geral, como a busca por nome
+    @Override
+    public Produto criar(Produto produto) {
+        long anotada = geracao.get();
+        Produto criado = delegate.criar(produto);
+        guardarSe(criado, () -> geracao.get() == anotada);
+        return copiar(criado);
+    }
+
+    // Duas escritas concorrentes no mesmo id podem confirmar em ordem diferente da que invalidaram: só guarda
+    // quem não viu outra invalidação depois da sua; se viu, não sabe qual versão venceu e invalida de novo
+    @Override
+    public Produto atualizar(Produto produto) throws ProdutoNaoEncontradoException {
+        int faixa = faixa(produto.getId());
+        long anotada = invalidar(produto.getId());
+        Produto atualizado = delegate.atualizar(produto);
+        if (!guardarSe(atualizado, () -> geracoesPorId.get(faixa) == anotada)) {
+            invalidar(atualizado.getId());
+        }
+        return copiar(atualizado);
+    }
+
+    @Override
+    public void deletar(Long id) throws ProdutoNaoEncontradoException {
+        invalidar(id);
+        delegate.deletar(id);
+    }
+
+    @Override
+    public List<Produto> listarTodos() {
+        return delegate.listarTodos();
+    }
+
+    // Escritas que não passam por este decorator (importação em lote, por exemplo) chegam por evento,
+    // depois do commit. Invalidar em vez de guardar evita sobrescrever uma entrada mais nova.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarProdutos(ProdutosAlteradosEvent evento) {
+        evento.salvos().forEach(produto -> invalidar(produto.getId()));
+        evento.removidos().forEach(this::invalidar);
+    }
+
+    // Publica acertos, faltas, despejos e tamanho dos dois caches (cache.gets, cache.evictions, ...) e os
+    // carregamentos executados/coalescidos de cada um (produtos.cache.carregamentos)
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new CaffeineCacheMetrics<>(produtosPorId, "produtos.por.id", Tags.empty()).bindTo(registry);
+        new CaffeineCacheMetrics<>(idsPorNome, "produtos.por.nome", Tags.empty()).bindTo(registry);
+        carregamentosPorId.bindTo(registry);
+        carregamentosPorNome.bindTo(registry);
+    }
+
+    public CacheStats estatisticasPorId() {
+        return produtosPorId.stats();
+    }
+
+    public CacheStats estatisticasPorNome() {
+        return idsPorNome.stats();
+    }
+
+    public long tamanho() {
+        return produtosPorId.estimatedSize();
+    }
+
+    public long carregamentosExecutados() {
+        return carregamentosPorId.executados() + carregamentosPorNome.executados();
+    }
+
+    public long carregamentosCoalescidos() {
+        return carregamentosPorId.coalescidos() + carregamentosPorNome.coalescidos();
+    }
+
+    // Executados uma vez por chave para todas as faltas concorrentes; quem esperou recebe a mesma instância,
+    // por isso as leituras acima sempre devolvem uma cópia
+    private Produto carregarPorId(Long id) {
+        int faixa = faixa(id);
+        long anotada = geracoesPorId.get(faixa);
+        Produto produto = delegate.buscarPorId(id);
+        if (produto != null) {
+            guardarSe(produto, () -> geracoesPorId.get(faixa) == anotada);
+        }
+        return produto;
+    }
+
+    private Produto carregarPorNome(String nome) {
+        long anotada = geracao.get();
+        Produto produto = delegate.buscarPorNome(nome);
+        if (produto != null) {
+            guardarSe(produto, () -> geracao.get() == anotada);
+        }
+        return produto;
+    }
+
+    private boolean guardarSe(Produto produto, BooleanSupplier semInvalidacao) {
+        Produto copia = copiar(produto);
+        Produto guardado = produtosPorId.asMap().compute(copia.getId(),
+                (id, atual) -> semInvalidacao.getAsBoolean() ? copia : atual);
+        // um nome antigo no índice não chega a ser servido: buscarPorNome confere o nome do produto
+        if (guardado != copia) {
+            return false;
+        }
+        if (copia.getNome() != null) {
+            idsPorNome.put(copia.getNome(), copia.getId());
+        }
+        return true;
+    }
+
+    // Devolve a geração da faixa do id depois do incremento
+    private long invalidar(Long id) {
+        long nova = geracoesPorId.incrementAndGet(faixa(id));
+        geracao.incrementAndGet();
+        carregamentosPorId.esquecer(id);
+        // asMap().remove não conta como acerto/falta nas estatísticas
+        Produto anterior = produtosPorId.asMap().remove(id);
+        if (anterior != null && anterior.getNome() != null) {
+            idsPorNome.invalidate(anterior.getNome());
+            carregamentosPorNome.esquecer(anterior.getNome());
+        }
+        return nova;
+    }
+
+    private static int faixa(Long id) {
+        return Long.hashCode(id) & (FAIXAS_GERACAO - 1);
+    }
+
+    // Produto é mutável: o cache nunca entrega nem guarda a instância que circula fora dele
+    private static Produto copiar(Produto produto) {
+        return new Produto(produto.getId(), produto.getNome(), produto.getDescricao(), produto.getPreco());
+    }
+}
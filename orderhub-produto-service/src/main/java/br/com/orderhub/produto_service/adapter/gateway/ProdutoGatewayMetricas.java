@@ -0,0 +1,109 @@
+package br.com.orderhub.produto_service.adapter.gateway;
+
+import br.com.orderhub.core.domain.entities.Produto;
+import br.com.orderhub.core.exceptions.ProdutoNaoEncontradoException;
+import br.com.orderhub.core.interfaces.IProdutoGateway;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Decorator que mede cada método do IProdutoGateway visto pelo core (já com o cache).
+// Timers e contadores são criados uma vez no construtor; no caminho quente só há o record().
+public class ProdutoGatewayMetricas implements IProdutoGateway {
+
+    static final String TIMER = "produto.gateway";
+    static final String NAO_ENCONTRADOS = "produto.gateway.nao.encontrados";
+    static final String ERROS = "produto.gateway.erros";
+
+    private final IProdutoGateway delegate;
+    private final MeterRegistry meterRegistry;
+    private final Timer buscarPorId;
+    private final Timer buscarPorNome;
+    private final Timer criar;
+    private final Timer atualizar;
+    private final Timer deletar;
+    private final Timer listarTodos;
+    private final Counter naoEncontradosPorId;
+    private final Counter naoEncontradosPorNome;
+
+    public ProdutoGatewayMetricas(IProdutoGateway delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.buscarPorId = timer("buscarPorId");
+        this.buscarPorNome = timer("buscarPorNome");
+        this.criar = timer("criar");
+        this.atualizar = timer("atualizar");
+        this.deletar = timer("deletar");
+        this.listarTodos = timer("listarTodos");
+        this.naoEncontradosPorId = Counter.builder(NAO_ENCONTRADOS).tag("metodo", "buscarPorId").register(meterRegistry);
+        this.naoEncontradosPorNome = Counter.builder(NAO_ENCONTRADOS).tag("metodo", "buscarPorNome").register(meterRegistry);
+    }
+
+    @Override
+    public Produto buscarPorId(Long id) {
+        Produto produto = medir(buscarPorId, "buscarPorId", () -> delegate.buscarPorId(id));
+        if (produto == null) {
+            naoEncontradosPorId.increment();
+        }
+        return produto;
+    }
+
+    @Override
+    public Produto buscarPorNome(String nome) {
+        Produto produto = medir(buscarPorNome, "buscarPorNome", () -> delegate.buscarPorNome(nome));
+        if (produto == null) {
+            naoEncontradosPorNome.increment();
+        }
+        return produto;
+    }
+
+    @Override
+    public Produto criar(Produto produto) {
+        return medir(criar, "criar", () -> delegate.criar(produto));
+    }
+
+    @Override
+    public Produto atualizar(Produto produto) throws ProdutoNaoEncontradoException {
+        return medir(atualizar, "atualizar", () -> delegate.atualizar(produto));
+    }
+
+    @Override
+    public void deletar(Long id) throws ProdutoNaoEncontradoException {
+        medir(deletar, "deletar", () -> {
+            delegate.deletar(id);
+            return null;
+        });
+    }
+
+    @Override
+    public List<Produto> listarTodos() {
+        return medir(listarTodos, "listarTodos", delegate::listarTodos);
+    }
+
+    private <T> T medir(Timer timer, String metodo, Supplier<T> chamada) {
+        long inicio = System.nanoTime();
+        try {
+            return chamada.get();
+        } catch (RuntimeException ex) {
+            // só no caminho de erro: o registry resolve (ou cria) o contador pelo tipo da exceção
+            meterRegistry.counter(ERROS, "metodo", metodo, "exception", ex.getClass().getSimpleName()).increment();
+            throw ex;
+        } finally {
+            timer.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(String metodo) {
+        return Timer.builder(TIMER)
+                .tag("metodo", metodo)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(1_000))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,313 @@
+package br.com.orderhub.produto_service.adapter.gateway;
+
+import br.com.orderhub.core.domain.entities.Produto;
+import br.com.orderhub.core.exceptions.ProdutoNaoEncontradoException;
+import br.com.orderhub.core.interfaces.IProdutoGateway;
+import br.com.orderhub.produto_service.adapter.mapper.PrecoMapper;
+import br.com.orderhub.produto_service.adapter.outbox.CursorAlteracoesExpiradoException;
+import br.com.orderhub.produto_service.adapter.outbox.ProdutoAlteracao;
+import br.com.orderhub.produto_service.adapter.outbox.ProdutoOutbox;
+import br.com.orderhub.produto_service.adapter.outbox.TipoAlteracao;
+import br.com.orderhub.produto_service.adapter.replica.ProdutoReplicaArquivo;
+import br.com.orderhub.produto_service.adapter.replica.ProdutoReplicaCatalogo;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+// Decorator opcional (orderhub.produto.replica.habilitada) à frente do cache: buscarPorId responde da
+// réplica compacta do catálogo inteiro (ProdutoReplicaCatalogo), sem consulta nem lock. Enquanto não está
+// pronta, e para tudo que não é busca por id, vale o delegate.
+//
+// Montagem na subida: do snapshot em arquivo (orderhub.produto.replica.snapshot.arquivo), se houver um
+// válido, mais as alterações da outbox posteriores à sequência dele; senão, uma leitura da tabela inteira.
+// Depois, a réplica segue a outbox (alterações de todos os pods, em ordem) e recebe na hora, pelos
+// ProdutosAlteradosEvent, as escritas deste pod. Os dois caminhos não andam juntos: o evento pode gravar a
+// v2 antes de a outbox chegar na v1 do mesmo produto, e a outbox pode passar da v3 de outro pod antes de o
+// evento da v2 chegar. Por isso cada slot da réplica guarda a versão do produto e nenhum caminho grava por
+// cima de uma versão mais nova:
+// - a outbox grava uma linha se a versão dela não é menor que a do slot (a mesma versão pode ter chegado
+//   antes pelo evento, com o conteúdo de uma escrita anterior deste pod; ver abaixo);
+// - o evento não traz a versão; ela é lida do banco depois do commit, e pode já ser a de uma escrita
+//   posterior de outro pod. O evento só grava se essa versão é maior que a do slot. Se gravar o conteúdo
+//   deste pod com a versão do outro, a linha da outbox dessa versão ainda vem e corrige;
+// - uma exclusão marca o slot como removido, e nenhuma linha SALVO grava por cima dela. Quando a réplica
+//   compacta o índice, os slots removidos saem; uma linha SALVO antiga que chegue depois disso volta o
+//   produto só até a linha REMOVIDO, que vem logo atrás na outbox.
+// As duas aplicações e a montagem passam pelo monitor da réplica, para a versão comparada ser a gravada.
+public class ProdutoGatewayReplica implements IProdutoGateway, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ProdutoGatewayReplica.class);
+
+    static final int LOTE_ALTERACOES = 1000;
+    static final String ORIGEM_SNAPSHOT = "SNAPSHOT";
+    static final String ORIGEM_BANCO = "BANCO";
+
+    private final IProdutoGateway delegate;
+    private final ProdutoRepositoryJpaGatewayImpl produtoGateway;
+    private final ProdutoOutbox produtoOutbox;
+    private final Path arquivoSnapshot;
+
+    private volatile ProdutoReplicaCatalogo catalogo;
+    private volatile long ultimaSequencia;
+    private volatile String origem;
+    // não nulo durante uma montagem: alterações confirmadas enquanto o catálogo é lido, reaplicadas no fim
+    private List<AlteracaoLocal> pendentes;
+
+    private record Montagem(ProdutoReplicaCatalogo catalogo, long sequencia, String origem) {
+    }
+
+    // Escrita deste pod com a versão de cada produto salvo lida depois do commit (sem os já excluídos)
+    private record AlteracaoLocal(ProdutosAlteradosEvent evento, Map<Long, Long> versoes) {
+    }
+
+    // arquivoSnapshot nulo: sem snapshot, a réplica sempre é montada a partir do banco
+    public ProdutoGatewayReplica(IProdutoGateway delegate, ProdutoRepositoryJpaGatewayImpl produtoGateway,
+                                 ProdutoOutbox produtoOutbox, Path arquivoSnapshot) {
+        this.delegate = delegate;
+        this.produtoGateway = produtoGateway;
+        this.produtoOutbox = produtoOutbox;
+        this.arquivoSnapshot = arquivoSnapshot;
+    }
+
+    @Override
+    public Produto buscarPorId(Long id) {
+        ProdutoReplicaCatalogo atual = catalogo;
+        if (atual == null || id == null) {
+            return delegate.buscarPorId(id);
+        }
+        return atual.buscar(id);
+    }
+
+    @Override
+    public Produto buscarPorNome(String nome) {
+        return delegate.buscarPorNome(nome);
+    }
+
+    @Override
+    public Produto criar(Produto produto) {
+        return delegate.criar(produto);
+    }
+
+    @Override
+    public Produto atualizar(Produto produto) throws ProdutoNaoEncontradoException {
+        return delegate.atualizar(produto);
+    }
+
+    @Override
+    public void deletar(Long id) throws ProdutoNaoEncontradoException {
+        delegate.deletar(id);
+    }
+
+    @Override
+    public List<Produto> listarTodos() {
+        return delegate.listarTodos();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void montar() {
+        synchronized (this) {
+            pendentes = new ArrayList<>();
+        }
+        Montagem montagem = carregarSnapshot();
+        if (montagem == null) {
+            montagem = montarDoBanco();
+        }
+        log.info("Réplica do catálogo montada: origem={}, produtos={}, sequencia={}",
+                montagem.origem(), montagem.catalogo().quantidade(), montagem.sequencia());
+
+        synchronized (this) {
+            ProdutoReplicaCatalogo novo = montagem.catalogo();
+            pendentes.forEach(alteracao -> aplicar(novo, alteracao));
+            pendentes = null;
+            ultimaSequencia = montagem.sequencia();
+            origem = montagem.origem();
+            catalogo = novo;
+        }
+    }
+
+    // Traz para a réplica as alterações publicadas na outbox desde a última aplicada. Se a outbox já
+    // descartou parte delas (retenção), só uma montagem nova deixa a réplica consistente.
+    @Scheduled(fixedDelayString = "${orderhub.produto.replica.intervalo-ms:1000}")
+    public void acompanharAlteracoes() {
+        ProdutoReplicaCatalogo atual = catalogo;
+        if (atual == null) {
+            return;
+        }
+        try {
+            ultimaSequencia = alcancar(atual, ultimaSequencia);
+        } catch (CursorAlteracoesExpiradoException ex) {
+            log.warn("Réplica do catálogo ficou para trás da retenção da outbox; montando de novo", ex);
+            montar();
+        }
+    }
+
+    // Grava o estado atual da réplica em arquivo, sem consultar a tabela. A sequência é lida antes da
+    // cópia: o que entrar na réplica depois dela também será reaplicado por quem carregar o arquivo.
+    public ProdutoReplicaArquivo.Resumo exportarSnapshot() {
+        ProdutoReplicaCatalogo atual = catalogo;
+        if (arquivoSnapshot == null || atual == null) {
+            throw new IllegalStateException("A réplica não está pronta ou orderhub.produto.replica.snapshot.arquivo não foi configurado.");
+        }
+        ProdutoReplicaArquivo.Resumo resumo = ProdutoReplicaArquivo.gravar(arquivoSnapshot, ultimaSequencia, atual);
+        log.info("Snapshot da réplica gravado em {}: produtos={}, sequencia={}, bytes={}",
+                arquivoSnapshot, resumo.quantidade(), resumo.sequencia(), resumo.bytes());
+        return resumo;
+    }
+
+    // Mantém o arquivo recente o bastante para que a subida só precise alcançar poucos minutos de outbox
+    @Scheduled(initialDelayString = "${orderhub.produto.replica.snapshot.intervalo-ms:600000}",
+            fixedDelayString = "${orderhub.produto.replica.snapshot.intervalo-ms:600000}")
+    public void exportarSnapshotPeriodico() {
+        if (!podeExportar()) {
+            return;
+        }
+        try {
+            exportarSnapshot();
+        } catch (RuntimeException ex) {
+            log.warn("Falha ao gravar o snapshot da réplica em {}", arquivoSnapshot, ex);
+        }
+    }
+
+    // Roda depois do commit, ainda dentro da chamada de escrita: quem escreveu já lê o valor novo
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarProdutos(ProdutosAlteradosEvent evento) {
+        AlteracaoLocal alteracao = new AlteracaoLocal(evento, evento.salvos().isEmpty()
+                ? Map.of()
+                : produtoGateway.buscarVersoes(evento.salvos().stream().map(Produto::getId).toList()));
+        synchronized (this) {
+            if (pendentes != null) {
+                pendentes.add(alteracao);
+            }
+            ProdutoReplicaCatalogo atual = catalogo;
+            if (atual != null) {
+                aplicar(atual, alteracao);
+            }
+        }
+    }
+
+    public boolean pronta() {
+        return catalogo != null;
+    }
+
+    public boolean podeExportar() {
+        return arquivoSnapshot != null && catalogo != null;
+    }
+
+    public long ultimaSequencia() {
+        return ultimaSequencia;
+    }
+
+    public String origem() {
+        return origem;
+    }
+
+    public int quantidade() {
+        return (int) medir(ProdutoReplicaCatalogo::quantidade);
+    }
+
+    public long bytesForaDoHeap() {
+        return (long) medir(ProdutoReplicaCatalogo::bytesForaDoHeap);
+    }
+
+    public long bytesIndice() {
+        return (long) medir(ProdutoReplicaCatalogo::bytesIndice);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("produtos.replica.produtos", this, replica -> replica.medir(ProdutoReplicaCatalogo::quantidade))
+                .description("Produtos na réplica do catálogo")
+                .register(registry);
+        Gauge.builder("produtos.replica.bytes", this, replica -> replica.medir(ProdutoReplicaCatalogo::bytesForaDoHeap))
+                .tag("area", "registros")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("produtos.replica.bytes", this, replica -> replica.medir(ProdutoReplicaCatalogo::bytesIndice))
+                .tag("area", "indice")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private double medir(ToLongFunction<ProdutoReplicaCatalogo> medida) {
+        ProdutoReplicaCatalogo atual = catalogo;
+        return atual == null ? 0 : medida.applyAsLong(atual);
+    }
+
+    private Montagem carregarSnapshot() {
+        if (arquivoSnapshot == null || !Files.exists(arquivoSnapshot)) {
+            return null;
+        }
+        try {
+            ProdutoReplicaArquivo.Snapshot snapshot = ProdutoReplicaArquivo.ler(arquivoSnapshot);
+            long sequencia = alcancar(snapshot.catalogo(), snapshot.sequencia());
+            return new Montagem(snapshot.catalogo(), sequencia, ORIGEM_SNAPSHOT);
+        } catch (CursorAlteracoesExpiradoException | IllegalStateException | UncheckedIOException ex) {
+            log.warn("Snapshot da réplica em {} não pôde ser usado; montando a partir do banco", arquivoSnapshot, ex);
+            return null;
+        }
+    }
+
+    // A sequência é lida antes da tabela: o que for confirmado durante a leitura volta pela outbox e é
+    // reaplicado, em ordem, sobre os slots lidos (de versão desconhecida)
+    private Montagem montarDoBanco() {
+        long sequencia = produtoOutbox.ultimaSequencia();
+        ProdutoReplicaCatalogo novo = new ProdutoReplicaCatalogo();
+        produtoGateway.percorrerResumos(resumo ->
+                novo.guardar(resumo.id(), resumo.nome(), resumo.descricao(), resumo.precoCentavos()));
+        return new Montagem(novo, sequencia, ORIGEM_BANCO);
+    }
+
+    // Aplica em ordem as alterações publicadas depois de "sequencia" e devolve a última aplicada
+    private long alcancar(ProdutoReplicaCatalogo catalogo, long sequencia) {
+        List<ProdutoAlteracao> alteracoes;
+        do {
+            alteracoes = produtoOutbox.buscarDesde(sequencia, LOTE_ALTERACOES);
+            synchronized (this) {
+                for (ProdutoAlteracao alteracao : alteracoes) {
+                    aplicar(catalogo, alteracao);
+                    sequencia = alteracao.sequencia();
+                }
+            }
+        } while (alteracoes.size() == LOTE_ALTERACOES);
+        return sequencia;
+    }
+
+    // Linhas gravadas antes da V0009 não têm versão: só valem para slots de versão desconhecida
+    private static void aplicar(ProdutoReplicaCatalogo catalogo, ProdutoAlteracao alteracao) {
+        if (alteracao.tipo() == TipoAlteracao.REMOVIDO) {
+            catalogo.remover(alteracao.produtoId());
+            return;
+        }
+        long versao = alteracao.versao() == null ? ProdutoReplicaCatalogo.VERSAO_DESCONHECIDA : alteracao.versao();
+        if (versao >= catalogo.versao(alteracao.produtoId())) {
+            catalogo.guardar(alteracao.produtoId(), versao, alteracao.nome(), alteracao.descricao(),
+                    alteracao.precoCentavos());
+        }
+    }
+
+    // Sem versão no banco, o produto já foi excluído depois desta escrita: a exclusão vem pela outbox
+    private static void aplicar(ProdutoReplicaCatalogo catalogo, AlteracaoLocal alteracao) {
+        for (Produto produto : alteracao.evento().salvos()) {
+            Long versao = alteracao.versoes().get(produto.getId());
+            if (versao != null && versao > catalogo.versao(produto.getId())) {
+                catalogo.guardar(produto.getId(), versao, produto.getNome(), produto.getDescricao(),
+                        PrecoMapper.reaisParaCentavos(produto.getPreco()));
+            }
+        }
+        alteracao.evento().removidos().forEach(catalogo::remover);
+    }
+}
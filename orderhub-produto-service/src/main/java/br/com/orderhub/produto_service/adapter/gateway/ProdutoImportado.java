@@ -0,0 +1,6 @@
+package br.com.orderhub.produto_service.adapter.gateway;
+
+import br.com.orderhub.core.domain.entities.Produto;
+
+public record ProdutoImportado(Produto produto, boolean criado) {
+}
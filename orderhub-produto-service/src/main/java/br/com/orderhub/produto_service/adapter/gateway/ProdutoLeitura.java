@@ -0,0 +1,27 @@
+package br.com.orderhub.produto_service.adapter.gateway;
+
+import br.com.orderhub.core.domain.entities.Produto;
+import br.com.orderhub.core.interfaces.IProdutoGateway;
+
+import java.util.Optional;
+
+// Buscas por chave para a camada de API: a falta é um Optional vazio, não uma ProdutoNaoEncontradoException.
+// O core lança uma exceção (com stack trace) a cada produto inexistente, e os scanners e o serviço de pedidos
+// geram muitas faltas. Usa o mesmo IProdutoGateway decorado que o core (métricas, réplica/cache, JPA), então
+// a falta continua contada em produto.gateway.nao.encontrados.
+public class ProdutoLeitura {
+
+    private final IProdutoGateway produtoGateway;
+
+    public ProdutoLeitura(IProdutoGateway produtoGateway) {
+        this.produtoGateway = produtoGateway;
+    }
+
+    public Optional<Produto> buscarPorId(Long id) {
+        return Optional.ofNullable(produtoGateway.buscarPorId(id));
+    }
+
+    public Optional<Produto> buscarPorNome(String nome) {
+        return Optional.ofNullable(produtoGateway.buscarPorNome(nome));
+    }
+}
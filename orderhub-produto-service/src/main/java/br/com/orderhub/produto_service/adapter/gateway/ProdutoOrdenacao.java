@@ -0,0 +1,38 @@
+package br.com.orderhub.produto_service.adapter.gateway;
+
+import java.util.Locale;
+
+// Ordenações aceitas em GET /produtos?sort=campo,direcao. Todas são paginadas por cursor (keyset)
+// sobre um índice; o desempate por id deixa a ordem total mesmo com preços repetidos.
+public enum ProdutoOrdenacao {
+    ID,
+    PRECO_ASC,
+    PRECO_DESC,
+    NOME_ASC,
+    NOME_DESC;
+
+    public static ProdutoOrdenacao de(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return ID;
+        }
+        String[] partes = sort.split(",");
+        String campo = partes[0].trim().toLowerCase(Locale.ROOT);
+        String direcao = partes.length > 1 ? partes[1].trim().toLowerCase(Locale.ROOT) : "asc";
+        if (!direcao.equals("asc") && !direcao.equals("desc")) {
+            throw new IllegalArgumentException("Direção de ordenação inválida: " + partes[1].trim() + ". Use asc ou desc.");
+        }
+        boolean asc = direcao.equals("asc");
+        return switch (campo) {
+            case "id" -> {
+                if (!asc) {
+                    throw new IllegalArgumentException("A ordenação por id só aceita asc.");
+                }
+                yield ID;
+            }
+            case "preco" -> asc ? PRECO_ASC : PRECO_DESC;
+            case "nome" -> asc ? NOME_ASC : NOME_DESC;
+            default -> throw new IllegalArgumentException("Campo de ordenação inválido: " + partes[0].trim()
+                    + ". Use id, preco ou nome.");
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package br.com.orderhub.produto_service.adapter.gateway;
+
+import br.com.orderhub.core.domain.entities.Produto;
+
+import java.util.List;
+
+// proximoCursor é null quando não há mais páginas
+public record ProdutoPagina(List<Produto> produtos, String proximoCursor) {
+}
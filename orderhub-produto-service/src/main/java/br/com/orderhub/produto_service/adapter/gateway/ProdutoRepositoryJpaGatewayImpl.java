@@ -1,26 +1,61 @@
 package br.com.orderhub.produto_service.adapter.gateway;
 
 import br.com.orderhub.core.domain.entities.Produto;
+import br.com.orderhub.core.exceptions.ProdutoJaExisteException;
 import br.com.orderhub.core.exceptions.ProdutoNaoEncontradoException;
 import br.com.orderhub.core.interfaces.IProdutoGateway;
+import br.com.orderhub.produto_service.adapter.mapper.PrecoMapper;
 import br.com.orderhub.produto_service.adapter.mapper.ProdutoEntityMapper;
+import br.com.orderhub.produto_service.adapter.persistence.CatalogoVersao;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoAtualizacaoParcial;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoAtualizacaoParcialJdbc;
 import br.com.orderhub.produto_service.adapter.persistence.ProdutoEntity;
 import br.com.orderhub.produto_service.adapter.persistence.ProdutoRepository;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoResumo;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoVersaoId;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Component
 public class ProdutoRepositoryJpaGatewayImpl implements IProdutoGateway {
 
+    static final String INDICE_NOME_UNICO = "UK_PRODUTOS_NOME";
+
     private final ProdutoRepository produtoRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProdutoAtualizacaoParcialJdbc atualizacaoParcialJdbc;
 
-    public ProdutoRepositoryJpaGatewayImpl(ProdutoRepository produtoRepository) {
+    public ProdutoRepositoryJpaGatewayImpl(ProdutoRepository produtoRepository,
+                                           EntityManager entityManager,
+                                           ApplicationEventPublisher eventPublisher,
+                                           ProdutoAtualizacaoParcialJdbc atualizacaoParcialJdbc) {
         this.produtoRepository = produtoRepository;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.atualizacaoParcialJdbc = atualizacaoParcialJdbc;
     }
 
+    // Leituras com readOnly: o Hibernate carrega as entidades como somente leitura (sem o snapshot do
+    // estado para dirty checking) e não faz flush no fim
     @Override
+    @Transactional(readOnly = true)
     public Produto buscarPorId(Long id) {
         Optional<ProdutoEntity> produtoOp = this.produtoRepository.findById(id);
         if(produtoOp.isEmpty()) {
@@ -32,6 +67,7 @@ public class ProdutoRepositoryJpaGatewayImpl implements IProdutoGateway {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Produto buscarPorNome(String nome) {
         Optional<ProdutoEntity> produtoOp = this.produtoRepository.findByNome(nome);
         if(produtoOp.isEmpty()) {
@@ -41,28 +77,242 @@ public class ProdutoRepositoryJpaGatewayImpl implements IProdutoGateway {
         return ProdutoEntityMapper.entityToDomain(produtoEntity);
     }
 
+    // Escritas transacionais: o evento grava a outbox na mesma transação (ver ProdutoOutbox)
     @Override
+    @Transactional
     public Produto criar(Produto produto) {
         ProdutoEntity produtoEntity = ProdutoEntityMapper.domainToEntity(produto);
-        return ProdutoEntityMapper.entityToDomain(this.produtoRepository.save(produtoEntity));
+        Produto criado = ProdutoEntityMapper.entityToDomain(salvar(produtoEntity));
+        eventPublisher.publishEvent(ProdutosAlteradosEvent.salvos(List.of(criado)));
+        return criado;
     }
 
+    // Um único UPDATE por id, sem SELECT antes; zero linhas alteradas é produto inexistente. A versão é
+    // incrementada no próprio UPDATE, então ETags e o cache por versão continuam mudando a cada escrita.
     @Override
+    @Transactional
     public Produto atualizar(Produto produto) throws ProdutoNaoEncontradoException {
-        ProdutoEntity produtoEntity = ProdutoEntityMapper.domainToEntity(produto);
-        produtoRepository.save(produtoEntity);
-        return ProdutoEntityMapper.entityToDomain(produtoEntity);
+        long precoCentavos = PrecoMapper.reaisParaCentavos(produto.getPreco());
+        int alterados;
+        try {
+            alterados = produtoRepository.updateProduto(produto.getId(), produto.getNome(), produto.getDescricao(),
+                    precoCentavos, Instant.now());
+        } catch (DataIntegrityViolationException ex) {
+            throw traduzirViolacao(ex, "O produto " + produto.getNome() + " já existe!");
+        }
+        if (alterados == 0) {
+            throw new ProdutoNaoEncontradoException(mensagemNaoEncontrado(produto.getId()));
+        }
+
+        Produto atualizado = new Produto(produto.getId(), produto.getNome(), produto.getDescricao(),
+                PrecoMapper.centavosParaReais(precoCentavos));
+        eventPublisher.publishEvent(ProdutosAlteradosEvent.salvos(List.of(atualizado)));
+        return atualizado;
     }
 
+    // DELETE direto por id: o deleteById do Spring Data carrega a entidade antes de removê-la
     @Override
+    @Transactional
     public void deletar(Long id) throws ProdutoNaoEncontradoException {
-        produtoRepository.deleteById(id);
+        if (produtoRepository.deleteProdutoById(id) == 0) {
+            throw new ProdutoNaoEncontradoException(mensagemNaoEncontrado(id));
+        }
+        eventPublisher.publishEvent(ProdutosAlteradosEvent.removido(id));
+    }
+
+    // PATCH: UPDATE só das colunas informadas, agrupado em batch JDBC, e uma consulta (IN) pelo estado
+    // final dos produtos alterados, que é o que o evento (outbox, cache, índice de busca) precisa
+    @Transactional
+    public ProdutoAtualizacaoParcialResultado atualizarParcial(List<ProdutoAtualizacaoParcial> alteracoes) {
+        boolean[] encontrados;
+        try {
+            encontrados = atualizacaoParcialJdbc.atualizar(alteracoes, Instant.now());
+        } catch (DataIntegrityViolationException ex) {
+            throw traduzirViolacao(ex, alteracoes.size() == 1
+                    ? "O produto " + alteracoes.get(0).nome() + " já existe!"
+                    : "Um dos produtos do lote já existe!");
+        }
+
+        List<Long> atualizadosIds = new ArrayList<>(alteracoes.size());
+        List<Long> naoEncontrados = new ArrayList<>();
+        for (int i = 0; i < alteracoes.size(); i++) {
+            (encontrados[i] ? atualizadosIds : naoEncontrados).add(alteracoes.get(i).id());
+        }
+        if (atualizadosIds.isEmpty()) {
+            return new ProdutoAtualizacaoParcialResultado(List.of(), naoEncontrados);
+        }
+
+        List<Produto> atualizados = produtoRepository.findResumosByIdIn(atualizadosIds)
+                .stream().map(ProdutoEntityMapper::resumoToDomain)
+                .toList();
+        eventPublisher.publishEvent(ProdutosAlteradosEvent.salvos(atualizados));
+        return new ProdutoAtualizacaoParcialResultado(atualizados, naoEncontrados);
+    }
+
+    @Transactional
+    public Produto atualizarParcial(ProdutoAtualizacaoParcial alteracao) throws ProdutoNaoEncontradoException {
+        ProdutoAtualizacaoParcialResultado resultado = atualizarParcial(List.of(alteracao));
+        if (resultado.atualizados().isEmpty()) {
+            throw new ProdutoNaoEncontradoException(mensagemNaoEncontrado(alteracao.id()));
+        }
+        return resultado.atualizados().get(0);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Produto> listarTodos() {
         return produtoRepository.findAll()
                 .stream().map(ProdutoEntityMapper::entityToDomain)
                 .toList();
     }
+
+    // Uma única consulta (IN) para todos os ids; a ordem do resultado não é garantida
+    @Transactional(readOnly = true)
+    public List<Produto> buscarPorIds(Collection<Long> ids) {
+        return produtoRepository.findAllById(ids)
+                .stream().map(ProdutoEntityMapper::entityToDomain)
+                .toList();
+    }
+
+    // Versões por projeção das leituras em lista, para quem só monta a resposta da API: uma alocação
+    // por produto em vez de entidade gerenciada + Produto
+    @Transactional(readOnly = true)
+    public List<ProdutoResumo> buscarResumosPorIds(Collection<Long> ids) {
+        return produtoRepository.findResumosByIdIn(ids);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProdutoResumo> listarResumos(Long aposId, int limite) {
+        return produtoRepository.findResumosAposId(aposId == null ? 0L : aposId, Limit.of(limite));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProdutoResumo> listarTodosResumos() {
+        return produtoRepository.findResumosOrdenadosPorId();
+    }
+
+    // Como percorrerTodos, mas sem entidades: nada entra no persistence context, então não há o que desanexar
+    @Transactional(readOnly = true)
+    public void percorrerResumos(Consumer<ProdutoResumo> consumidor) {
+        try (Stream<ProdutoResumo> resumos = produtoRepository.streamResumosOrdenadosPorId()) {
+            resumos.forEach(consumidor);
+        }
+    }
+
+    // Upsert de um lote pelo nome: uma consulta para achar os existentes e INSERT/UPDATE agrupados em batch
+    // JDBC no flush. O persistence context é limpo no fim para o próximo lote começar vazio.
+    @Transactional
+    public List<ProdutoImportado> importarLote(List<Produto> produtos) {
+        List<String> nomes = produtos.stream().map(Produto::getNome).distinct().toList();
+        Map<String, ProdutoEntity> porNome = new HashMap<>();
+        for (ProdutoEntity existente : produtoRepository.findByNomeIn(nomes)) {
+            porNome.put(existente.getNome(), existente);
+        }
+
+        List<ProdutoEntity> entidades = new ArrayList<>(produtos.size());
+        List<Boolean> criados = new ArrayList<>(produtos.size());
+        List<ProdutoEntity> novos = new ArrayList<>();
+        for (Produto produto : produtos) {
+            ProdutoEntity produtoEntity = porNome.get(produto.getNome());
+            boolean criado = produtoEntity == null;
+            if (criado) {
+                produtoEntity = new ProdutoEntity(null, produto.getNome(), produto.getDescricao(), produto.getPreco());
+                porNome.put(produto.getNome(), produtoEntity);
+                novos.add(produtoEntity);
+            } else {
+                produtoEntity.setDescricao(produto.getDescricao());
+                produtoEntity.setPreco(produto.getPreco());
+            }
+            entidades.add(produtoEntity);
+            criados.add(criado);
+        }
+
+        try {
+            produtoRepository.saveAll(novos);
+            entityManager.flush();
+        } catch (DataIntegrityViolationException | PersistenceException ex) {
+            // o flush direto no EntityManager não passa pela tradução de exceções do Spring Data
+            throw traduzirViolacao(ex, "Um dos produtos do lote já existe!");
+        }
+
+        List<ProdutoImportado> importados = new ArrayList<>(entidades.size());
+        for (int i = 0; i < entidades.size(); i++) {
+            importados.add(new ProdutoImportado(ProdutoEntityMapper.entityToDomain(entidades.get(i)), criados.get(i)));
+        }
+        entityManager.clear();
+
+        eventPublisher.publishEvent(ProdutosAlteradosEvent.salvos(
+                importados.stream().map(ProdutoImportado::produto).toList()));
+        return importados;
+    }
+
+    // Versão atual de cada id, numa consulta; os inexistentes ficam de fora (ProdutoGatewayReplica)
+    public Map<Long, Long> buscarVersoes(Collection<Long> ids) {
+        Map<Long, Long> versoes = new HashMap<>();
+        for (ProdutoVersaoId versao : produtoRepository.findVersoesByIdIn(ids)) {
+            versoes.put(versao.id(), versao.versao());
+        }
+        return versoes;
+    }
+
+    public CatalogoVersao buscarVersaoCatalogo() {
+        return produtoRepository.findVersaoCatalogo();
+    }
+
+    @Transactional(readOnly = true)
+    public ProdutoPagina listarPagina(ProdutoConsulta consulta) {
+        long min = consulta.minPrecoCentavos();
+        long max = consulta.maxPrecoCentavos();
+        ProdutoCursor cursor = ProdutoCursor.ler(consulta.ordenacao(), consulta.cursor());
+        Limit limit = Limit.of(consulta.limite());
+
+        List<ProdutoEntity> entities = switch (consulta.ordenacao()) {
+            case ID -> produtoRepository.findByPrecoCentavosBetweenAndIdGreaterThanOrderByIdAsc(min, max, cursor.id(), limit);
+            case PRECO_ASC -> produtoRepository.findFaixaOrdenadaPorPrecoAsc(min, max, cursor.precoCentavos(), cursor.id(), limit);
+            case PRECO_DESC -> produtoRepository.findFaixaOrdenadaPorPrecoDesc(min, max, cursor.precoCentavos(), cursor.id(), limit);
+            case NOME_ASC -> produtoRepository.findFaixaOrdenadaPorNomeAsc(min, max, cursor.nome(), limit);
+            case NOME_DESC -> produtoRepository.findFaixaOrdenadaPorNomeDesc(min, max, cursor.nome(), limit);
+        };
+
+        String proximoCursor = entities.size() < consulta.limite()
+                ? null
+                : ProdutoCursor.apos(entities.get(entities.size() - 1)).texto(consulta.ordenacao());
+        return new ProdutoPagina(entities.stream().map(ProdutoEntityMapper::entityToDomain).toList(), proximoCursor);
+    }
+
+    // Percorre o catálogo inteiro com um cursor JDBC, desanexando cada entidade depois de entregue
+    // para que o persistence context (e o heap) não cresça com o tamanho da tabela.
+    @Transactional(readOnly = true)
+    public void percorrerTodos(Consumer<Produto> consumidor) {
+        try (Stream<ProdutoEntity> produtos = produtoRepository.streamTodosOrdenadosPorId()) {
+            produtos.forEach(produtoEntity -> {
+                consumidor.accept(ProdutoEntityMapper.entityToDomain(produtoEntity));
+                entityManager.detach(produtoEntity);
+            });
+        }
+    }
+
+    // Mesmo texto do ProdutoController do core, que é o que os clientes da API já recebem no 404
+    static String mensagemNaoEncontrado(Long id) {
+        return "Produto com ID " + id + "não encontrado";
+    }
+
+    // saveAndFlush: a violação aparece aqui, e não no commit de uma transação externa, para poder ser traduzida
+    private ProdutoEntity salvar(ProdutoEntity produtoEntity) {
+        try {
+            return produtoRepository.saveAndFlush(produtoEntity);
+        } catch (DataIntegrityViolationException ex) {
+            throw traduzirViolacao(ex, "O produto " + produtoEntity.getNome() + " já existe!");
+        }
+    }
+
+    // O índice único em nome substitui a checagem ler-antes-de-gravar quando duas criações concorrem:
+    // a violação vira o mesmo ProdutoJaExisteException (409) que o core lança.
+    private static RuntimeException traduzirViolacao(RuntimeException ex, String mensagemConflito) {
+        String mensagem = NestedExceptionUtils.getMostSpecificCause(ex).getMessage();
+        if (mensagem != null && mensagem.toUpperCase().contains(INDICE_NOME_UNICO)) {
+            return new ProdutoJaExisteException(mensagemConflito);
+        }
+        return ex;
+    }
 }
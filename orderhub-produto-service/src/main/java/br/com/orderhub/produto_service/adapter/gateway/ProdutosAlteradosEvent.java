@@ -0,0 +1,17 @@
+package br.com.orderhub.produto_service.adapter.gateway;
+
+import br.com.orderhub.core.domain.entities.Produto;
+
+import java.util.List;
+
+// Publicado pelo gateway JPA a cada escrita, para quem mantém cópias do catálogo (cache, índices, etc.)
+public record ProdutosAlteradosEvent(List<Produto> salvos, List<Long> removidos) {
+
+    public static ProdutosAlteradosEvent salvos(List<Produto> salvos) {
+        return new ProdutosAlteradosEvent(salvos, List.of());
+    }
+
+    public static ProdutosAlteradosEvent removido(Long id) {
+        return new ProdutosAlteradosEvent(List.of(), List.of(id));
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.orderhub.produto_service.adapter.log;
+
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+// Log de eventos frequentes e esperados (ex.: produto não encontrado) com teto de linhas por janela.
+// Cada linha leva o dado do evento como par chave/valor (API fluente do SLF4J 2, que o logback escreve
+// como campo no log estruturado) e "suprimidos": quantos eventos ficaram sem linha desde a anterior.
+// Sem lock: quem primeiro percebe que a janela venceu abre a próxima por CAS; o teto é aproximado
+// quando várias threads viram a janela ao mesmo tempo.
+public class LogLimitado {
+
+    private final Logger log;
+    private final Level nivel;
+    private final int maximoPorJanela;
+    private final long janelaNanos;
+    private final LongSupplier relogio;
+    private final AtomicLong inicioJanela;
+    private final AtomicInteger emitidosNaJanela = new AtomicInteger();
+    private final LongAdder suprimidos = new LongAdder();
+
+    public LogLimitado(Logger log, Level nivel, int maximoPorJanela, Duration janela) {
+        this(log, nivel, maximoPorJanela, janela, System::nanoTime);
+    }
+
+    LogLimitado(Logger log, Level nivel, int maximoPorJanela, Duration janela, LongSupplier relogio) {
+        if (maximoPorJanela < 1 || janela.isNegative() || janela.isZero()) {
+            throw new IllegalArgumentException("O log limitado precisa de ao menos uma linha por janela e de uma janela positiva.");
+        }
+        this.log = log;
+        this.nivel = nivel;
+        this.maximoPorJanela = maximoPorJanela;
+        this.janelaNanos = janela.toNanos();
+        this.relogio = relogio;
+        this.inicioJanela = new AtomicLong(relogio.getAsLong());
+    }
+
+    public void registrar(String mensagem, String chave, Object valor) {
+        if (!log.isEnabledForLevel(nivel)) {
+            return;
+        }
+        long agora = relogio.getAsLong();
+        long inicio = inicioJanela.get();
+        if (agora - inicio >= janelaNanos && inicioJanela.compareAndSet(inicio, agora)) {
+            emitidosNaJanela.set(0);
+        }
+        if (emitidosNaJanela.incrementAndGet() > maximoPorJanela) {
+            suprimidos.increment();
+            return;
+        }
+        log.atLevel(nivel)
+                .addKeyValue(chave, valor)
+                .addKeyValue("suprimidos", suprimidos.sumThenReset())
+                .log(mensagem);
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.orderhub.produto_service.adapter.mapper;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+// Conversão entre o preço em reais (Double, como o core e os clientes JSON antigos usam) e o preço
+// em centavos (long), que é o que fica no banco. BigDecimal.valueOf parte da representação decimal
+// mais curta do double, então 4999.9 vira exatamente 499990.
+public class PrecoMapper {
+
+    public PrecoMapper() {}
+
+    public static long reaisParaCentavos(Double reais) {
+        if (reais == null) {
+            throw new IllegalArgumentException("O preço do produto é obrigatório.");
+        }
+        return BigDecimal.valueOf(reais)
+                .movePointRight(2)
+                .setScale(0, RoundingMode.HALF_UP)
+                .longValueExact();
+    }
+
+    public static Long reaisParaCentavosOuNulo(Double reais) {
+        return reais == null ? null : reaisParaCentavos(reais);
+    }
+
+    public static Double centavosParaReais(long centavos) {
+        return centavos / 100.0;
+    }
+}
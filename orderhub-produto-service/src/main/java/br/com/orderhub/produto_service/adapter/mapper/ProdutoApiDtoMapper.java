@@ -1,9 +1,11 @@
 package br.com.orderhub.produto_service.adapter.mapper;
 
+import br.com.orderhub.core.domain.entities.Produto;
 import br.com.orderhub.core.dto.produtos.CriarProdutoDTO;
 import br.com.orderhub.core.dto.produtos.ProdutoDTO;
 import br.com.orderhub.produto_service.adapter.dto.ProdutoApiRequestDto;
 import br.com.orderhub.produto_service.adapter.dto.ProdutoApiResponseDto;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoResumo;
 
 public class ProdutoApiDtoMapper {
     public static ProdutoApiResponseDto produtoDtoToResponseDto(ProdutoDTO produtoDTO ) {
@@ -15,11 +17,31 @@ public class ProdutoApiDtoMapper {
         );
     }
 
+    public static ProdutoApiResponseDto produtoToResponseDto(Produto produto) {
+        return new ProdutoApiResponseDto(
+                produto.getId(),
+                produto.getNome(),
+                produto.getDescricao(),
+                produto.getPreco()
+        );
+    }
+
+    // Caminho direto das leituras em lista: da projeção para a resposta, sem Produto nem ProdutoDTO no meio
+    public static ProdutoApiResponseDto resumoToResponseDto(ProdutoResumo resumo) {
+        return new ProdutoApiResponseDto(
+                resumo.id(),
+                resumo.nome(),
+                resumo.descricao(),
+                PrecoMapper.centavosParaReais(resumo.precoCentavos()),
+                resumo.precoCentavos()
+        );
+    }
+
     public static CriarProdutoDTO requestDtoToCriarProdutoDto(ProdutoApiRequestDto requestDto) {
         return new CriarProdutoDTO(
                 requestDto.nome(),
                 requestDto.descricao(),
-                requestDto.preco()
+                precoEmReais(requestDto)
         );
     }
 
@@ -28,7 +50,39 @@ public class ProdutoApiDtoMapper {
                 id,
                 requestDto.nome(),
                 requestDto.descricao(),
-                requestDto.preco()
+                precoEmReais(requestDto)
+        );
+    }
+
+    public static Produto requestDtoToProduto(Long id, ProdutoApiRequestDto requestDto) {
+        return new Produto(
+                id,
+                requestDto.nome(),
+                requestDto.descricao(),
+                precoEmReais(requestDto)
         );
     }
+
+    // precoCentavos tem precedência; preco em reais é o formato antigo. Os dois juntos precisam concordar.
+    public static Double precoEmReais(ProdutoApiRequestDto requestDto) {
+        if (requestDto.precoCentavos() == null) {
+            return requestDto.preco();
+        }
+        if (requestDto.preco() != null
+                && PrecoMapper.reaisParaCentavos(requestDto.preco()) != requestDto.precoCentavos()) {
+            throw new IllegalArgumentException("Os campos preco e precoCentavos informam valores diferentes.");
+        }
+        return PrecoMapper.centavosParaReais(requestDto.precoCentavos());
+    }
+
+    // Mesma regra para o PATCH, já em centavos; null quando nenhum dos dois campos veio
+    public static Long precoEmCentavos(Double preco, Long precoCentavos) {
+        if (precoCentavos == null) {
+            return PrecoMapper.reaisParaCentavosOuNulo(preco);
+        }
+        if (preco != null && PrecoMapper.reaisParaCentavos(preco) != precoCentavos) {
+            throw new IllegalArgumentException("Os campos preco e precoCentavos informam valores diferentes.");
+        }
+        return precoCentavos;
+    }
 }
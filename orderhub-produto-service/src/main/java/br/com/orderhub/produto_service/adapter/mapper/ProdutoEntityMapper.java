@@ -4,6 +4,7 @@ package br.com.orderhub.produto_service.adapter.mapper;
 
 import br.com.orderhub.core.domain.entities.Produto;
 import br.com.orderhub.produto_service.adapter.persistence.ProdutoEntity;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoResumo;
 
 public class ProdutoEntityMapper {
 
@@ -19,6 +20,15 @@ public class ProdutoEntityMapper {
         );
     }
 
+    public static Produto resumoToDomain(ProdutoResumo resumo) {
+        return new Produto(
+                resumo.id(),
+                resumo.nome(),
+                resumo.descricao(),
+                PrecoMapper.centavosParaReais(resumo.precoCentavos())
+        );
+    }
+
     public static ProdutoEntity domainToEntity(Produto produto) {
         return new ProdutoEntity(
                 produto.getId(),
@@ -0,0 +1,10 @@
+package br.com.orderhub.produto_service.adapter.outbox;
+
+// O cursor pedido é anterior às alterações ainda retidas na outbox: o consumidor precisa
+// recarregar o catálogo inteiro e recomeçar da sequência atual.
+public class CursorAlteracoesExpiradoException extends RuntimeException {
+
+    public CursorAlteracoesExpiradoException(String message) {
+        super(message);
+    }
+}
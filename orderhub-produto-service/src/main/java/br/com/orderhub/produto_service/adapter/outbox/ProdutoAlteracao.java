@@ -0,0 +1,19 @@
+package br.com.orderhub.produto_service.adapter.outbox;
+
+import java.time.Instant;
+
+// Uma alteração publicada, na ordem de sequencia. Quem mantém uma cópia do catálogo aplica as
+// alterações em ordem e guarda a última sequencia para continuar dali. versao é a do produto depois da
+// alteração (nula nas exclusões); o relay não publica uma alteração mais antiga que outra já publicada.
+public record ProdutoAlteracao(
+        Long sequencia,
+        TipoAlteracao tipo,
+        Long produtoId,
+        Long versao,
+        String nome,
+        String descricao,
+        Double preco,
+        Long precoCentavos,
+        Instant ocorridoEm
+) {
+}
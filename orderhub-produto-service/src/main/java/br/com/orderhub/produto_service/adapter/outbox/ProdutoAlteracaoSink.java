@@ -0,0 +1,11 @@
+package br.com.orderhub.produto_service.adapter.outbox;
+
+import java.util.List;
+
+// Destino das alterações publicadas pelo ProdutoOutboxRelay (broker, webhook, etc.).
+// Chamado dentro da transação que marca o lote como publicado: se lançar exceção, o lote volta a
+// ficar pendente e é reenviado no próximo ciclo (entrega pelo menos uma vez).
+public interface ProdutoAlteracaoSink {
+
+    void publicar(List<ProdutoAlteracao> alteracoes);
+}
@@ -0,0 +1,54 @@
+package br.com.orderhub.produto_service.adapter.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// Sink em processo: entrega as alterações aos assinantes locais (long-poll e SSE do
+// ProdutoAlteracoesApiController). Só repassa depois do commit do relay, para que um assinante
+// nunca veja uma sequência que ainda pode ser desfeita.
+@Component
+public class ProdutoAlteracaoSinkLocal implements ProdutoAlteracaoSink {
+
+    private static final Logger log = LoggerFactory.getLogger(ProdutoAlteracaoSinkLocal.class);
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final List<Consumer<List<ProdutoAlteracao>>> assinantes = new CopyOnWriteArrayList<>();
+
+    public ProdutoAlteracaoSinkLocal(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void publicar(List<ProdutoAlteracao> alteracoes) {
+        eventPublisher.publishEvent(new ProdutoAlteracoesPublicadasEvent(alteracoes));
+    }
+
+    // Devolve a ação que cancela a assinatura
+    public Runnable assinar(Consumer<List<ProdutoAlteracao>> assinante) {
+        assinantes.add(assinante);
+        return () -> assinantes.remove(assinante);
+    }
+
+    public int quantidadeAssinantes() {
+        return assinantes.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoPublicarAlteracoes(ProdutoAlteracoesPublicadasEvent evento) {
+        for (Consumer<List<ProdutoAlteracao>> assinante : assinantes) {
+            try {
+                assinante.accept(evento.alteracoes());
+            } catch (RuntimeException ex) {
+                // um assinante com a conexão quebrada não impede a entrega aos demais
+                log.debug("Falha ao entregar alterações a um assinante local", ex);
+            }
+        }
+    }
+}
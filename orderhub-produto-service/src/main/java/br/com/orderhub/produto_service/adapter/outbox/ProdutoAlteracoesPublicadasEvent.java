@@ -0,0 +1,6 @@
+package br.com.orderhub.produto_service.adapter.outbox;
+
+import java.util.List;
+
+public record ProdutoAlteracoesPublicadasEvent(List<ProdutoAlteracao> alteracoes) {
+}
@@ -0,0 +1,105 @@
+package br.com.orderhub.produto_service.adapter.outbox;
+
+import br.com.orderhub.core.domain.entities.Produto;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutosAlteradosEvent;
+import br.com.orderhub.produto_service.adapter.mapper.PrecoMapper;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoOutboxEntity;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoOutboxRepository;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoRepository;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoVersaoId;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Grava as alterações do gateway JPA na outbox e serve a leitura por cursor.
+// O listener é síncrono (@EventListener, não @TransactionalEventListener) e exige a transação da
+// escrita: a linha da outbox é confirmada ou desfeita junto com o produto. Cada linha leva a versão que
+// a escrita deixou no produto, lida na mesma transação (uma consulta por escrita, pela PK), para que o
+// ProdutoOutboxRelay saiba qual de duas alterações do mesmo produto é a mais nova.
+@Component
+public class ProdutoOutbox {
+
+    // A exclusão é definitiva (ids não são reaproveitados): vale mais que qualquer versão do produto
+    static final long VERSAO_REMOVIDO = Long.MAX_VALUE;
+
+    private final ProdutoOutboxRepository outboxRepository;
+    private final ProdutoRepository produtoRepository;
+
+    public ProdutoOutbox(ProdutoOutboxRepository outboxRepository, ProdutoRepository produtoRepository) {
+        this.outboxRepository = outboxRepository;
+        this.produtoRepository = produtoRepository;
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void aoAlterarProdutos(ProdutosAlteradosEvent evento) {
+        Instant agora = Instant.now();
+        Map<Long, Long> versoes = versoes(evento.salvos());
+        List<ProdutoOutboxEntity> registros = new ArrayList<>(evento.salvos().size() + evento.removidos().size());
+        for (Produto produto : evento.salvos()) {
+            registros.add(new ProdutoOutboxEntity(null, produto.getId(), versoes.get(produto.getId()),
+                    TipoAlteracao.SALVO.name(), produto.getNome(), produto.getDescricao(),
+                    PrecoMapper.reaisParaCentavosOuNulo(produto.getPreco()), agora, null));
+        }
+        for (Long id : evento.removidos()) {
+            registros.add(new ProdutoOutboxEntity(null, id, VERSAO_REMOVIDO, TipoAlteracao.REMOVIDO.name(),
+                    null, null, null, agora, null));
+        }
+        outboxRepository.saveAll(registros);
+    }
+
+    // A consulta vê as escritas ainda não confirmadas da própria transação (o Hibernate descarrega as
+    // pendentes antes dela), inclusive os updates diretos que incrementam versao no banco
+    private Map<Long, Long> versoes(List<Produto> salvos) {
+        if (salvos.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = salvos.stream().map(Produto::getId).toList();
+        Map<Long, Long> versoes = new HashMap<>();
+        for (ProdutoVersaoId versao : produtoRepository.findVersoesByIdIn(ids)) {
+            versoes.put(versao.id(), versao.versao());
+        }
+        return versoes;
+    }
+
+    // Alterações publicadas depois de "sequencia", em ordem
+    @Transactional(readOnly = true)
+    public List<ProdutoAlteracao> buscarDesde(long sequencia, int limite) {
+        Long primeira = outboxRepository.findPrimeiraSequencia();
+        if (primeira != null && sequencia < primeira - 1) {
+            throw new CursorAlteracoesExpiradoException("As alterações posteriores à sequência " + sequencia
+                    + " não estão mais disponíveis. Recarregue o catálogo e continue a partir da sequência atual.");
+        }
+        return outboxRepository.findBySequenciaGreaterThanOrderBySequenciaAsc(sequencia, Limit.of(limite))
+                .stream()
+                .map(ProdutoOutbox::toAlteracao)
+                .toList();
+    }
+
+    public long ultimaSequencia() {
+        Long ultima = outboxRepository.findUltimaSequencia();
+        return ultima == null ? 0L : ultima;
+    }
+
+    static ProdutoAlteracao toAlteracao(ProdutoOutboxEntity registro) {
+        return new ProdutoAlteracao(
+                registro.getSequencia(),
+                TipoAlteracao.valueOf(registro.getTipo()),
+                registro.getProdutoId(),
+                registro.getTipo().equals(TipoAlteracao.REMOVIDO.name()) ? null : registro.getVersao(),
+                registro.getNome(),
+                registro.getDescricao(),
+                registro.getPrecoCentavos() == null ? null : PrecoMapper.centavosParaReais(registro.getPrecoCentavos()),
+                registro.getPrecoCentavos(),
+                registro.getCriadoEm()
+        );
+    }
+}
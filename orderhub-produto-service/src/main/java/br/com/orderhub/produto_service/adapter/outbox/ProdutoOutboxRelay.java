@@ -0,0 +1,117 @@
+package br.com.orderhub.produto_service.adapter.outbox;
+
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoOutboxEntity;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoOutboxRepository;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoVersaoId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Publica as alterações pendentes da outbox nos sinks, em lotes. Cada lote recebe sequências
+// contíguas (última publicada + 1, ...) na mesma transação em que é entregue: a ordem das sequências
+// é a ordem de publicação. Os pendentes são lidos por id, e os ids (sequence pooled, um bloco por pod)
+// não seguem a ordem de commit: a alteração mais nova de um produto pode sair antes de uma mais antiga.
+// Por isso cada alteração leva a versão do produto, e a que não é mais nova que a maior já publicada
+// do mesmo produto é descartada em vez de publicada, para que nenhum consumidor volte a um estado antigo.
+@Component
+public class ProdutoOutboxRelay {
+
+    private final ProdutoOutboxRepository outboxRepository;
+    private final List<ProdutoAlteracaoSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanhoLote;
+    private final Duration retencao;
+
+    public ProdutoOutboxRelay(ProdutoOutboxRepository outboxRepository,
+                              List<ProdutoAlteracaoSink> sinks,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${orderhub.produto.outbox.tamanho-lote:500}") int tamanhoLote,
+                              @Value("${orderhub.produto.outbox.retencao:7d}") Duration retencao) {
+        this.outboxRepository = outboxRepository;
+        this.sinks = sinks;
+        this.transactionTemplate = transactionTemplate;
+        this.tamanhoLote = tamanhoLote;
+        this.retencao = retencao;
+    }
+
+    // Esvazia a fila a cada ciclo; um lote cheio indica que pode haver mais pendentes
+    @Scheduled(fixedDelayString = "${orderhub.produto.outbox.intervalo-ms:200}")
+    public void publicarPendentes() {
+        int publicados;
+        do {
+            publicados = publicarLote();
+        } while (publicados == tamanhoLote);
+    }
+
+    int publicarLote() {
+        Integer publicados = transactionTemplate.execute(status -> {
+            List<ProdutoOutboxEntity> pendentes = outboxRepository.findBySequenciaIsNullOrderByIdAsc(Limit.of(tamanhoLote));
+            if (pendentes.isEmpty()) {
+                return 0;
+            }
+            Map<Long, Long> versoesPublicadas = versoesPublicadas(pendentes);
+            List<ProdutoOutboxEntity> publicar = new ArrayList<>(pendentes.size());
+            List<ProdutoOutboxEntity> obsoletos = new ArrayList<>();
+            for (ProdutoOutboxEntity registro : pendentes) {
+                Long publicada = versoesPublicadas.get(registro.getProdutoId());
+                if (registro.getVersao() != null && publicada != null && registro.getVersao() <= publicada) {
+                    obsoletos.add(registro);
+                } else {
+                    publicar.add(registro);
+                    if (registro.getVersao() != null) {
+                        versoesPublicadas.merge(registro.getProdutoId(), registro.getVersao(), Math::max);
+                    }
+                }
+            }
+            outboxRepository.deleteAll(obsoletos);
+
+            Long ultima = outboxRepository.findUltimaSequencia();
+            long sequencia = ultima == null ? 0L : ultima;
+            for (ProdutoOutboxEntity registro : publicar) {
+                registro.setSequencia(++sequencia);
+            }
+            // grava as sequências antes de entregar: se outro relay publicou o mesmo intervalo,
+            // o índice único falha aqui e nada é entregue
+            outboxRepository.flush();
+
+            if (!publicar.isEmpty()) {
+                List<ProdutoAlteracao> alteracoes = publicar.stream().map(ProdutoOutbox::toAlteracao).toList();
+                sinks.forEach(sink -> sink.publicar(alteracoes));
+            }
+            return pendentes.size();
+        });
+        return publicados == null ? 0 : publicados;
+    }
+
+    // Maior versão já publicada de cada produto do lote; registros sem versão (anteriores à V0009) não entram
+    private Map<Long, Long> versoesPublicadas(List<ProdutoOutboxEntity> pendentes) {
+        Set<Long> produtoIds = new HashSet<>();
+        for (ProdutoOutboxEntity registro : pendentes) {
+            produtoIds.add(registro.getProdutoId());
+        }
+        Map<Long, Long> versoes = new HashMap<>();
+        for (ProdutoVersaoId versao : outboxRepository.findVersoesPublicadas(produtoIds)) {
+            if (versao.versao() != null) {
+                versoes.put(versao.id(), versao.versao());
+            }
+        }
+        return versoes;
+    }
+
+    @Scheduled(fixedDelayString = "${orderhub.produto.outbox.limpeza-intervalo-ms:3600000}")
+    public void removerPublicadasAntigas() {
+        transactionTemplate.executeWithoutResult(status ->
+                outboxRepository.deletePublicadasAntesDe(Instant.now().minus(retencao)));
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.orderhub.produto_service.adapter.outbox;
+
+public enum TipoAlteracao {
+    // produto criado ou alterado: a alteração traz o estado completo
+    SALVO,
+    // produto excluído: a alteração traz só o id
+    REMOVIDO
+}
@@ -0,0 +1,6 @@
+package br.com.orderhub.produto_service.adapter.persistence;
+
+import java.time.Instant;
+
+public record CatalogoVersao(Long quantidade, Instant ultimaAtualizacao) {
+}
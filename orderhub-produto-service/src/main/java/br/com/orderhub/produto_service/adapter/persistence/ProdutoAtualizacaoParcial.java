@@ -0,0 +1,9 @@
+package br.com.orderhub.produto_service.adapter.persistence;
+
+// Alteração esparsa de um produto (PATCH): campos null ficam como estão no banco
+public record ProdutoAtualizacaoParcial(Long id, String nome, String descricao, Long precoCentavos) {
+
+    public boolean vazia() {
+        return nome == null && descricao == null && precoCentavos == null;
+    }
+}
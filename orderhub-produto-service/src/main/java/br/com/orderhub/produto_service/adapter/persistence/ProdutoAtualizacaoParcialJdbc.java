@@ -0,0 +1,84 @@
+package br.com.orderhub.produto_service.adapter.persistence;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// UPDATE só das colunas informadas em cada alteração. Alterações com o mesmo conjunto de colunas
+// compartilham o mesmo SQL e vão num único batch JDBC (um preço alterado em 100 mil produtos vira
+// um só "update produtos set preco_centavos = ? ..." em batch). Fica fora do JPA porque o Hibernate
+// só gera UPDATE parcial para entidades carregadas, o que exigiria um SELECT por produto.
+@Repository
+public class ProdutoAtualizacaoParcialJdbc {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProdutoAtualizacaoParcialJdbc(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Devolve, na ordem de entrada, se cada alteração encontrou o produto. Roda na transação de quem chama.
+    public boolean[] atualizar(List<ProdutoAtualizacaoParcial> alteracoes, Instant atualizadoEm) {
+        Map<String, List<Integer>> porSql = new LinkedHashMap<>();
+        for (int i = 0; i < alteracoes.size(); i++) {
+            porSql.computeIfAbsent(sql(alteracoes.get(i)), sql -> new ArrayList<>()).add(i);
+        }
+
+        Timestamp quando = Timestamp.from(atualizadoEm);
+        boolean[] encontrados = new boolean[alteracoes.size()];
+        for (Map.Entry<String, List<Integer>> grupo : porSql.entrySet()) {
+            // em ordem de id: dois lotes concorrentes travam as linhas na mesma ordem e não entram em deadlock
+            List<Integer> indices = grupo.getValue();
+            indices.sort(Comparator.comparing(i -> alteracoes.get(i).id()));
+
+            List<Object[]> parametros = new ArrayList<>(indices.size());
+            for (Integer indice : indices) {
+                parametros.add(parametros(alteracoes.get(indice), quando));
+            }
+            int[] linhas = jdbcTemplate.batchUpdate(grupo.getKey(), parametros);
+            for (int i = 0; i < linhas.length; i++) {
+                encontrados[indices.get(i)] = linhas[i] > 0 || linhas[i] == Statement.SUCCESS_NO_INFO;
+            }
+        }
+        return encontrados;
+    }
+
+    // versao e atualizado_em acompanham qualquer alteração, como no update completo (ProdutoRepository.updateProduto)
+    static String sql(ProdutoAtualizacaoParcial alteracao) {
+        StringBuilder sql = new StringBuilder("update produtos set ");
+        if (alteracao.nome() != null) {
+            sql.append("nome = ?, ");
+        }
+        if (alteracao.descricao() != null) {
+            sql.append("descricao = ?, ");
+        }
+        if (alteracao.precoCentavos() != null) {
+            sql.append("preco_centavos = ?, ");
+        }
+        return sql.append("versao = versao + 1, atualizado_em = ? where id = ?").toString();
+    }
+
+    private static Object[] parametros(ProdutoAtualizacaoParcial alteracao, Timestamp atualizadoEm) {
+        List<Object> parametros = new ArrayList<>(5);
+        if (alteracao.nome() != null) {
+            parametros.add(alteracao.nome());
+        }
+        if (alteracao.descricao() != null) {
+            parametros.add(alteracao.descricao());
+        }
+        if (alteracao.precoCentavos() != null) {
+            parametros.add(alteracao.precoCentavos());
+        }
+        parametros.add(atualizadoEm);
+        parametros.add(alteracao.id());
+        return parametros.toArray();
+    }
+}
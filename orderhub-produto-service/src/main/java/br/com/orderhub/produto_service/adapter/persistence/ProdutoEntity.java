@@ -1,21 +1,53 @@
 package br.com.orderhub.produto_service.adapter.persistence;
 
+import br.com.orderhub.produto_service.adapter.mapper.PrecoMapper;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.Instant;
+
 
 @Entity
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
 @Table(name = "produtos")
 public class ProdutoEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "produtos_seq")
+    @SequenceGenerator(name = "produtos_seq", sequenceName = "produtos_seq", allocationSize = 50)
     private Long id;
     private String nome;
     private String descricao;
-    private Double preco;
+    private long precoCentavos;
+
+    @Version
+    private Long versao;
+    private Instant atualizadoEm;
+
+    // Escrita só pelo ProdutoDeltaSink (update direto): o Hibernate não pode sobrescrevê-la
+    @Column(insertable = false, updatable = false)
+    private Long sequencia;
+
+    public ProdutoEntity(Long id, String nome, String descricao, Double preco) {
+        this.id = id;
+        this.nome = nome;
+        this.descricao = descricao;
+        setPreco(preco);
+    }
+
+    // Preço em reais para o domínio (core), que ainda usa Double; o banco guarda centavos
+    public Double getPreco() {
+        return PrecoMapper.centavosParaReais(precoCentavos);
+    }
+
+    public void setPreco(Double preco) {
+        this.precoCentavos = PrecoMapper.reaisParaCentavos(preco);
+    }
 
+    @PrePersist
+    @PreUpdate
+    void registrarAlteracao() {
+        this.atualizadoEm = Instant.now();
+    }
 }
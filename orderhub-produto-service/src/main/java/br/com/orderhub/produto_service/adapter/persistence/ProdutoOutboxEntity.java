@@ -0,0 +1,28 @@
+package br.com.orderhub.produto_service.adapter.persistence;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "produtos_outbox")
+public class ProdutoOutboxEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "produtos_outbox_seq")
+    @SequenceGenerator(name = "produtos_outbox_seq", sequenceName = "produtos_outbox_seq", allocationSize = 50)
+    private Long id;
+    private Long produtoId;
+    // versao do produto gravada pela alteração (ProdutoOutbox.VERSAO_REMOVIDO nas exclusões)
+    private Long versao;
+    private String tipo;
+    private String nome;
+    private String descricao;
+    private Long precoCentavos;
+    private Instant criadoEm;
+    private Long sequencia;
+}
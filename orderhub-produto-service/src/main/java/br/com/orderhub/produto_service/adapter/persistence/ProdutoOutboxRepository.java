@@ -0,0 +1,36 @@
+package br.com.orderhub.produto_service.adapter.persistence;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface ProdutoOutboxRepository extends JpaRepository<ProdutoOutboxEntity, Long> {
+
+    // Pendentes de publicação, na ordem em que foram gravados
+    List<ProdutoOutboxEntity> findBySequenciaIsNullOrderByIdAsc(Limit limit);
+
+    List<ProdutoOutboxEntity> findBySequenciaGreaterThanOrderBySequenciaAsc(Long sequencia, Limit limit);
+
+    @Query("select max(o.sequencia) from ProdutoOutboxEntity o")
+    Long findUltimaSequencia();
+
+    @Query("select min(o.sequencia) from ProdutoOutboxEntity o")
+    Long findPrimeiraSequencia();
+
+    // Maior versão já publicada de cada produto (o id do record é o do produto)
+    @Query("select new br.com.orderhub.produto_service.adapter.persistence.ProdutoVersaoId(o.produtoId, max(o.versao)) "
+            + "from ProdutoOutboxEntity o where o.sequencia is not null and o.produtoId in :produtoIds group by o.produtoId")
+    List<ProdutoVersaoId> findVersoesPublicadas(@Param("produtoIds") Collection<Long> produtoIds);
+
+    // Nunca apaga a última publicada, para que a sequência continue de onde parou
+    @Modifying
+    @Query("delete from ProdutoOutboxEntity o where o.criadoEm < :limite and o.sequencia < "
+            + "(select max(u.sequencia) from ProdutoOutboxEntity u)")
+    int deletePublicadasAntesDe(@Param("limite") Instant limite);
+}
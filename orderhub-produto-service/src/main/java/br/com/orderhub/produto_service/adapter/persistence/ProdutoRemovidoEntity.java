@@ -0,0 +1,19 @@
+package br.com.orderhub.produto_service.adapter.persistence;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "produtos_removidos")
+public class ProdutoRemovidoEntity {
+    @Id
+    private Long produtoId;
+    private Long sequencia;
+    private Instant removidoEm;
+}
@@ -0,0 +1,11 @@
+package br.com.orderhub.produto_service.adapter.persistence;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ProdutoRemovidoRepository extends JpaRepository<ProdutoRemovidoEntity, Long> {
+
+    List<ProdutoRemovidoEntity> findBySequenciaBetweenOrderBySequenciaAsc(Long de, Long ate, Limit limit);
+}
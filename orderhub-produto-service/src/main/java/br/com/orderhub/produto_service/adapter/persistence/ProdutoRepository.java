@@ -1,10 +1,108 @@
 package br.com.orderhub.produto_service.adapter.persistence;
 
-import br.com.orderhub.produto_service.adapter.mapper.ProdutoEntityMapper;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface ProdutoRepository extends JpaRepository<ProdutoEntity, Long> {
     Optional<ProdutoEntity> findByNome(String nome);
+
+    List<ProdutoEntity> findByNomeIn(Collection<String> nomes);
+
+    // Faixa de preço com paginação por cursor (GET /produtos?minPreco=&maxPreco=&sort=)
+    List<ProdutoEntity> findByPrecoCentavosBetweenAndIdGreaterThanOrderByIdAsc(long min, long max, Long id, Limit limit);
+
+    // O ">=" repetido antes do OR dá ao banco o início do intervalo no índice (preco_centavos, id);
+    // o OR só desempata dentro do mesmo preço.
+    @Query("select p from ProdutoEntity p where p.precoCentavos between :min and :max "
+            + "and p.precoCentavos >= :preco and (p.precoCentavos > :preco or p.id > :id) "
+            + "order by p.precoCentavos asc, p.id asc")
+    List<ProdutoEntity> findFaixaOrdenadaPorPrecoAsc(@Param("min") long min, @Param("max") long max,
+                                                     @Param("preco") long preco, @Param("id") long id, Limit limit);
+
+    @Query("select p from ProdutoEntity p where p.precoCentavos between :min and :max "
+            + "and p.precoCentavos <= :preco and (p.precoCentavos < :preco or p.id < :id) "
+            + "order by p.precoCentavos desc, p.id desc")
+    List<ProdutoEntity> findFaixaOrdenadaPorPrecoDesc(@Param("min") long min, @Param("max") long max,
+                                                      @Param("preco") long preco, @Param("id") long id, Limit limit);
+
+    // nome é único: o próprio nome é o cursor
+    @Query("select p from ProdutoEntity p where p.precoCentavos between :min and :max and p.nome > :nome "
+            + "order by p.nome asc")
+    List<ProdutoEntity> findFaixaOrdenadaPorNomeAsc(@Param("min") long min, @Param("max") long max,
+                                                    @Param("nome") String nome, Limit limit);
+
+    @Query("select p from ProdutoEntity p where p.precoCentavos between :min and :max and p.nome < :nome "
+            + "order by p.nome desc")
+    List<ProdutoEntity> findFaixaOrdenadaPorNomeDesc(@Param("min") long min, @Param("max") long max,
+                                                     @Param("nome") String nome, Limit limit);
+
+    @Query("select p from ProdutoEntity p order by p.id")
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<ProdutoEntity> streamTodosOrdenadosPorId();
+
+    // Leituras em lista pela projeção ProdutoResumo (listagem, lote, exportação e snapshot do catálogo)
+    @Query("select new br.com.orderhub.produto_service.adapter.persistence.ProdutoResumo(p.id, p.nome, p.descricao, p.precoCentavos) "
+            + "from ProdutoEntity p where p.id > :id order by p.id")
+    List<ProdutoResumo> findResumosAposId(@Param("id") Long id, Limit limit);
+
+    @Query("select new br.com.orderhub.produto_service.adapter.persistence.ProdutoResumo(p.id, p.nome, p.descricao, p.precoCentavos) "
+            + "from ProdutoEntity p where p.id in :ids")
+    List<ProdutoResumo> findResumosByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select new br.com.orderhub.produto_service.adapter.persistence.ProdutoResumo(p.id, p.nome, p.descricao, p.precoCentavos) "
+            + "from ProdutoEntity p order by p.id")
+    List<ProdutoResumo> findResumosOrdenadosPorId();
+
+    @Query("select new br.com.orderhub.produto_service.adapter.persistence.ProdutoResumo(p.id, p.nome, p.descricao, p.precoCentavos) "
+            + "from ProdutoEntity p order by p.id")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    Stream<ProdutoResumo> streamResumosOrdenadosPorId();
+
+    // Versões gravadas pela transação corrente, para a outbox (ProdutoOutbox); fora dela, as já confirmadas
+    @Query("select new br.com.orderhub.produto_service.adapter.persistence.ProdutoVersaoId(p.id, p.versao) "
+            + "from ProdutoEntity p where p.id in :ids")
+    List<ProdutoVersaoId> findVersoesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Consulta mínima para o GET condicional do catálogo: count/max pelo índice, sem carregar as linhas
+    @Query("select new br.com.orderhub.produto_service.adapter.persistence.CatalogoVersao(count(p), max(p.atualizadoEm)) "
+            + "from ProdutoEntity p")
+    CatalogoVersao findVersaoCatalogo();
+
+    // Escritas num único comando, sem ler a entidade antes: a contagem de linhas diz se o produto existia.
+    // @Version e @PreUpdate não valem para update em JPQL, então versao e atualizado_em são mantidos aqui.
+    @Modifying
+    @Query("update ProdutoEntity p set p.nome = :nome, p.descricao = :descricao, p.precoCentavos = :precoCentavos, "
+            + "p.versao = p.versao + 1, p.atualizadoEm = :atualizadoEm where p.id = :id")
+    int updateProduto(@Param("id") Long id, @Param("nome") String nome, @Param("descricao") String descricao,
+                      @Param("precoCentavos") long precoCentavos, @Param("atualizadoEm") Instant atualizadoEm);
+
+    @Modifying
+    @Query("delete from ProdutoEntity p where p.id = :id")
+    int deleteProdutoById(@Param("id") Long id);
+
+    // Delta: produtos alterados num intervalo de sequências, em ordem
+    List<ProdutoEntity> findBySequenciaBetweenOrderBySequenciaAsc(Long de, Long ate, Limit limit);
+
+    // Não volta a sequência se uma alteração mais nova do mesmo produto já foi aplicada
+    @Modifying
+    @Query("update ProdutoEntity p set p.sequencia = :sequencia "
+            + "where p.id = :id and (p.sequencia is null or p.sequencia < :sequencia)")
+    int updateSequencia(@Param("id") Long id, @Param("sequencia") Long sequencia);
 }
@@ -0,0 +1,6 @@
+package br.com.orderhub.produto_service.adapter.persistence;
+
+// Projeção de leitura com só as colunas da resposta: não vira entidade gerenciada, então não há
+// snapshot para dirty checking nem passagem pelo domínio do core
+public record ProdutoResumo(Long id, String nome, String descricao, long precoCentavos) {
+}
@@ -0,0 +1,4 @@
+package br.com.orderhub.produto_service.adapter.persistence;
+
+public record ProdutoVersaoId(Long id, Long versao) {
+}
@@ -0,0 +1,95 @@
+package br.com.orderhub.produto_service.adapter.protecao;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Limite de requisições simultâneas calculado a partir da latência observada, no estilo do Gradient2
+// (concurrency-limits da Netflix). Compara a latência recente (média móvel curta) com a de referência
+// (média longa): gradiente = tolerância x referência / recente, entre 0,5 e 1. Enquanto a latência não
+// passa da tolerância, o gradiente é 1 e o limite cresce pela folga (raiz do limite); quando o banco fica
+// lento a recente sobe, o gradiente cai e o limite encolhe na mesma proporção. Respostas de sobrecarga
+// (503/504) cortam 10% na hora. O limite só cresce se estava de fato em uso (pelo menos metade ocupada).
+public class LimiteConcorrenciaAdaptativo {
+
+    static final double TOLERANCIA = 1.5;
+    static final double SUAVIZACAO = 0.2;
+    static final double PESO_RECENTE = 0.1;
+    static final int JANELA_REFERENCIA = 600;
+    static final double CORTE_SOBRECARGA = 0.9;
+
+    private final int minimo;
+    private final int maximo;
+    private final AtomicInteger emVoo = new AtomicInteger();
+
+    private volatile double limite;
+    // só sob o lock de atualizar()
+    private double latenciaRecente;
+    private double latenciaReferencia;
+    private long amostras;
+
+    public LimiteConcorrenciaAdaptativo(int minimo, int maximo, int inicial) {
+        if (minimo < 1 || maximo < minimo || inicial < minimo || inicial > maximo) {
+            throw new IllegalArgumentException("O limite de concorrência exige 1 <= mínimo <= inicial <= máximo.");
+        }
+        this.minimo = minimo;
+        this.maximo = maximo;
+        this.limite = inicial;
+    }
+
+    public boolean tentarAdquirir() {
+        int atual;
+        do {
+            atual = emVoo.get();
+            if (atual >= (int) limite) {
+                return false;
+            }
+        } while (!emVoo.compareAndSet(atual, atual + 1));
+        return true;
+    }
+
+    // Devolve a vaga e usa a requisição como amostra de latência
+    public void liberar(long latenciaNanos, boolean sobrecarga) {
+        int emVooNaSaida = emVoo.getAndDecrement();
+        atualizar(latenciaNanos, sobrecarga, emVooNaSaida);
+    }
+
+    // Devolve a vaga sem amostra: a latência desta requisição não diz nada sobre a carga do serviço
+    public void liberarSemAmostra() {
+        emVoo.decrementAndGet();
+    }
+
+    public int limite() {
+        return (int) limite;
+    }
+
+    public int emVoo() {
+        return emVoo.get();
+    }
+
+    private synchronized void atualizar(long latenciaNanos, boolean sobrecarga, int emVooNaSaida) {
+        if (sobrecarga) {
+            limite = Math.max(minimo, limite * CORTE_SOBRECARGA);
+            return;
+        }
+
+        amostras++;
+        if (amostras == 1) {
+            latenciaRecente = latenciaNanos;
+            latenciaReferencia = latenciaNanos;
+        } else {
+            latenciaRecente += (latenciaNanos - latenciaRecente) * PESO_RECENTE;
+            latenciaReferencia += (latenciaNanos - latenciaReferencia) / Math.min(amostras, JANELA_REFERENCIA);
+        }
+        // depois de um pico longo a referência fica alta demais; aproxima-a da recente para voltar a reagir
+        if (latenciaReferencia > latenciaRecente * 2) {
+            latenciaReferencia *= 0.95;
+        }
+
+        double gradiente = Math.max(0.5, Math.min(1.0, TOLERANCIA * latenciaReferencia / Math.max(latenciaRecente, 1)));
+        double novo = limite * gradiente + Math.sqrt(limite);
+        if (novo > limite && emVooNaSaida < limite / 2) {
+            return;
+        }
+        novo = limite * (1 - SUAVIZACAO) + novo * SUAVIZACAO;
+        limite = Math.max(minimo, Math.min(maximo, novo));
+    }
+}
@@ -0,0 +1,169 @@
+package br.com.orderhub.produto_service.adapter.protecao;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+// Descarte de carga na frente da API de produtos: com o limite adaptativo (LimiteConcorrenciaAdaptativo)
+// ocupado, a requisição recebe 503 com Retry-After antes de pegar conexão ou thread do pool. Assim, quando
+// o banco fica lento, o serviço responde rápido "tente de novo" em vez de acumular requisições esperando.
+// Feed de alterações, exportação e endpoints de operação ficam de fora: são longos por natureza e
+// distorceriam a latência usada no cálculo do limite. Importação e PATCH em lote ocupam vaga, mas não
+// entram no cálculo. Só 503 e 504 do próprio serviço contam como sobrecarga: o 504 de um X-Request-Deadline
+// que venceu é o orçamento do chamador, não lentidão nossa. Desligado por padrão
+// (orderhub.produto.limite.habilitado).
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class LimiteConcorrenciaFilter extends OncePerRequestFilter implements MeterBinder {
+
+    static final String PREFIXO = "/produtos";
+    static final List<String> FORA_DO_LIMITE = List.of(
+            "/produtos/changes", "/produtos/stream", "/produtos/replica", "/produtos/cache");
+    static final String IMPORTACAO = "/produtos/import";
+
+    private final boolean habilitado;
+    private final LimiteConcorrenciaAdaptativo limite;
+    private final LongAdder rejeitadas = new LongAdder();
+
+    public LimiteConcorrenciaFilter(@Value("${orderhub.produto.limite.habilitado:false}") boolean habilitado,
+                                    @Value("${orderhub.produto.limite.minimo:10}") int minimo,
+                                    @Value("${orderhub.produto.limite.maximo:500}") int maximo,
+                                    @Value("${orderhub.produto.limite.inicial:50}") int inicial) {
+        this.habilitado = habilitado;
+        this.limite = new LimiteConcorrenciaAdaptativo(minimo, maximo, inicial);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!habilitado) {
+            return true;
+        }
+        String caminho = caminho(request);
+        if (!caminho.equals(PREFIXO) && !caminho.startsWith(PREFIXO + "/")) {
+            return true;
+        }
+        return FORA_DO_LIMITE.stream().anyMatch(caminho::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!limite.tentarAdquirir()) {
+            rejeitadas.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getWriter().write("Serviço sobrecarregado. Tente novamente em instantes.");
+            return;
+        }
+
+        long inicio = System.nanoTime();
+        boolean amostrar = !emLote(request);
+        // o PrazoRequisicaoFilter roda antes; com o cabeçalho, o prazo é o do chamador
+        Long prazoChamador = request.getHeader(PrazoRequisicaoFilter.CABECALHO) != null ? PrazoRequisicao.atual() : null;
+        boolean assincrona = false;
+        try {
+            chain.doFilter(request, response);
+            // /produtos/async: a vaga só é devolvida quando a resposta realmente sai
+            if (request.isAsyncStarted()) {
+                assincrona = true;
+                request.getAsyncContext().addListener(new LiberarAoConcluir(inicio, amostrar, prazoChamador, response));
+            }
+        } finally {
+            if (!assincrona) {
+                liberar(inicio, amostrar, prazoChamador, response.getStatus());
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("produtos.limite.concorrencia", limite, LimiteConcorrenciaAdaptativo::limite)
+                .description("Limite atual de requisições simultâneas, calculado pela latência")
+                .register(registry);
+        Gauge.builder("produtos.limite.em.voo", limite, LimiteConcorrenciaAdaptativo::emVoo)
+                .description("Requisições em andamento dentro do limite")
+                .register(registry);
+        FunctionCounter.builder("produtos.limite.rejeitadas", rejeitadas, LongAdder::sum)
+                .description("Requisições recusadas com 503 por excesso de concorrência")
+                .register(registry);
+    }
+
+    LimiteConcorrenciaAdaptativo limite() {
+        return limite;
+    }
+
+    private void liberar(long inicio, boolean amostrar, Long prazoChamador, int status) {
+        boolean timeout = status == HttpStatus.GATEWAY_TIMEOUT.value();
+        if (!amostrar || (timeout && prazoChamador != null && prazoChamador - System.nanoTime() <= 0)) {
+            limite.liberarSemAmostra();
+            return;
+        }
+        limite.liberar(System.nanoTime() - inicio, timeout || status == HttpStatus.SERVICE_UNAVAILABLE.value());
+    }
+
+    // POST /produtos/import e PATCH /produtos: a duração cresce com o tamanho do lote, não com a carga
+    private static boolean emLote(HttpServletRequest request) {
+        String caminho = caminho(request);
+        return caminho.equals(IMPORTACAO)
+                || (HttpMethod.PATCH.matches(request.getMethod()) && caminho.equals(PREFIXO));
+    }
+
+    private static String caminho(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private class LiberarAoConcluir implements AsyncListener {
+        private final long inicio;
+        private final boolean amostrar;
+        private final Long prazoChamador;
+        private final HttpServletResponse response;
+
+        LiberarAoConcluir(long inicio, boolean amostrar, Long prazoChamador, HttpServletResponse response) {
+            this.inicio = inicio;
+            this.amostrar = amostrar;
+            this.prazoChamador = prazoChamador;
+            this.response = response;
+        }
+
+        // chamado também depois de timeout e erro
+        @Override
+        public void onComplete(AsyncEvent event) {
+            liberar(inicio, amostrar, prazoChamador, response.getStatus());
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
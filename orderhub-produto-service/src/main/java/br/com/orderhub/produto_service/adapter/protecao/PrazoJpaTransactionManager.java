@@ -0,0 +1,35 @@
+package br.com.orderhub.produto_service.adapter.protecao;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+
+import java.time.Duration;
+
+// JpaTransactionManager que limita o timeout de cada transação nova ao que resta do prazo da requisição
+// (PrazoRequisicao). O timeout da transação já chega sozinho a todas as consultas: o Hibernate o aplica a
+// cada statement (setQueryTimeout) e o ConnectionHolder o repassa ao JdbcTemplate. Assim repositórios,
+// JPQL e os batches JDBC ganham timeout sem mudar nenhum deles. A granularidade é de segundos, arredondada
+// para cima.
+public class PrazoJpaTransactionManager extends JpaTransactionManager {
+
+    public PrazoJpaTransactionManager(EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory);
+    }
+
+    @Override
+    protected int determineTimeout(TransactionDefinition definition) {
+        int timeout = super.determineTimeout(definition);
+        Duration restante = PrazoRequisicao.restante();
+        if (restante == null) {
+            return timeout;
+        }
+        if (restante.isNegative() || restante.isZero()) {
+            throw new TransactionTimedOutException("O prazo da requisição venceu antes de a transação começar.");
+        }
+
+        int segundos = (int) Math.min(Integer.MAX_VALUE, Math.max(1L, (restante.toMillis() + 999) / 1000));
+        return timeout == TransactionDefinition.TIMEOUT_DEFAULT ? segundos : Math.min(timeout, segundos);
+    }
+}
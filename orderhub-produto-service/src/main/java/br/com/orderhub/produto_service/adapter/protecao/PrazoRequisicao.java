@@ -0,0 +1,44 @@
+package br.com.orderhub.produto_service.adapter.protecao;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+// Prazo (deadline) da requisição em andamento, em System.nanoTime(). O PrazoRequisicaoFilter o define a
+// partir do X-Request-Deadline; o PrazoJpaTransactionManager o converte no timeout de cada transação, e
+// o ProdutoExecutorConsultas o leva junto para a thread do pool. Sem prazo, nada muda.
+public final class PrazoRequisicao {
+
+    private static final ThreadLocal<Long> PRAZO = new ThreadLocal<>();
+
+    private PrazoRequisicao() {
+    }
+
+    // null: requisição sem prazo (ou código fora de uma requisição, como os @Scheduled)
+    public static Long atual() {
+        return PRAZO.get();
+    }
+
+    // null sem prazo; zero ou negativo se já venceu
+    public static Duration restante() {
+        Long prazo = PRAZO.get();
+        return prazo == null ? null : Duration.ofNanos(prazo - System.nanoTime());
+    }
+
+    public static <T> T executarCom(Long prazo, Supplier<T> tarefa) {
+        Long anterior = PRAZO.get();
+        definir(prazo);
+        try {
+            return tarefa.get();
+        } finally {
+            definir(anterior);
+        }
+    }
+
+    static void definir(Long prazo) {
+        if (prazo == null) {
+            PRAZO.remove();
+        } else {
+            PRAZO.set(prazo);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.orderhub.produto_service.adapter.protecao;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.atomic.LongAdder;
+
+// Lê o prazo do chamador (X-Request-Deadline: instante absoluto, em epoch millis ou ISO-8601) e o deixa
+// em PrazoRequisicao durante a requisição. Uma requisição que chega com o prazo vencido recebe 504 sem
+// tocar no banco. Sem o cabeçalho vale orderhub.produto.prazo.padrao (0 = sem prazo).
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class PrazoRequisicaoFilter extends OncePerRequestFilter implements MeterBinder {
+
+    public static final String CABECALHO = "X-Request-Deadline";
+    private static final Duration PRAZO_MAXIMO = Duration.ofDays(1);
+
+    private final Duration padrao;
+    private final LongAdder vencidas = new LongAdder();
+
+    public PrazoRequisicaoFilter(@Value("${orderhub.produto.prazo.padrao:0s}") Duration padrao) {
+        this.padrao = padrao;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Long prazo;
+        try {
+            prazo = prazo(request.getHeader(CABECALHO));
+        } catch (NumberFormatException | DateTimeParseException ex) {
+            responder(response, HttpStatus.BAD_REQUEST,
+                    "Cabeçalho " + CABECALHO + " inválido: use epoch em milissegundos ou um instante ISO-8601.");
+            return;
+        }
+        if (prazo != null && prazo - System.nanoTime() <= 0) {
+            vencidas.increment();
+            responder(response, HttpStatus.GATEWAY_TIMEOUT, "O prazo da requisição já venceu.");
+            return;
+        }
+
+        PrazoRequisicao.definir(prazo);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            PrazoRequisicao.definir(null);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("produtos.prazo.vencidos", vencidas, LongAdder::sum)
+                .description("Requisições que chegaram com o prazo (X-Request-Deadline) já vencido")
+                .register(registry);
+    }
+
+    // O instante do chamador vira um prazo em System.nanoTime(), que não anda para trás com ajustes de relógio
+    private Long prazo(String cabecalho) {
+        if (cabecalho == null || cabecalho.isBlank()) {
+            return padrao.isZero() || padrao.isNegative() ? null : System.nanoTime() + padrao.toNanos();
+        }
+        String valor = cabecalho.trim();
+        long prazoMillis = Character.isDigit(valor.charAt(0))
+                ? Long.parseLong(valor)
+                : Instant.parse(valor).toEpochMilli();
+        // um prazo absurdo no futuro não pode estourar o long em nanos
+        long restanteMillis = Math.min(prazoMillis - System.currentTimeMillis(), PRAZO_MAXIMO.toMillis());
+        return System.nanoTime() + Duration.ofMillis(restanteMillis).toNanos();
+    }
+
+    private static void responder(HttpServletResponse response, HttpStatus status, String mensagem) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(mensagem);
+    }
+}
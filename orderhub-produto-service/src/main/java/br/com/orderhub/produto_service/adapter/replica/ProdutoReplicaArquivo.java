@@ -0,0 +1,116 @@
+package br.com.orderhub.produto_service.adapter.replica;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+
+// Snapshot da réplica em arquivo, para um pod novo subir já com o catálogo em memória (ProdutoGatewayReplica).
+// Leitura e escrita por mapeamento de memória (FileChannel.map); o formato é o próprio layout da réplica:
+//
+//   cabeçalho  int mágico "OHRP" | int versão do formato | long sequência da outbox | long gerado em (epoch ms)
+//              | int quantidade | int bytes de registros
+//   índice     quantidade x (long id, int posição)
+//   registros  bytes de registros, no layout de ProdutoReplicaCatalogo
+//
+// A sequência é a última alteração da outbox já contida no arquivo: quem carrega continua dali.
+// A gravação vai para um arquivo temporário ao lado e só então substitui o anterior (move atômico),
+// então um pod que sobe no meio de uma exportação lê o snapshot anterior inteiro.
+public class ProdutoReplicaArquivo {
+
+    static final int MAGICO = 0x4F485250;
+    static final int VERSAO_FORMATO = 1;
+    static final int TAMANHO_CABECALHO = Integer.BYTES * 2 + Long.BYTES * 2 + Integer.BYTES * 2;
+    static final int TAMANHO_ENTRADA_INDICE = Long.BYTES + Integer.BYTES;
+
+    public record Snapshot(long sequencia, Instant geradoEm, ProdutoReplicaCatalogo catalogo) {
+    }
+
+    public record Resumo(long sequencia, Instant geradoEm, int quantidade, long bytes) {
+    }
+
+    private ProdutoReplicaArquivo() {
+    }
+
+    public static Resumo gravar(Path destino, long sequencia, ProdutoReplicaCatalogo catalogo) {
+        Path temporario = destino.resolveSibling(destino.getFileName() + ".tmp");
+        Instant geradoEm = Instant.now();
+        Resumo resumo;
+        try {
+            if (destino.getParent() != null) {
+                Files.createDirectories(destino.getParent());
+            }
+            try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                // segura o lock da réplica entre medir e copiar, para que nenhuma escrita mude os tamanhos no meio
+                synchronized (catalogo) {
+                    int quantidade = catalogo.quantidade();
+                    int bytesRegistros = catalogo.bytesVivos();
+                    long tamanhoIndice = (long) quantidade * TAMANHO_ENTRADA_INDICE;
+                    long tamanho = TAMANHO_CABECALHO + tamanhoIndice + bytesRegistros;
+                    if (tamanho > Integer.MAX_VALUE) {
+                        throw new IllegalStateException("O snapshot da réplica passou do tamanho máximo de um mapeamento (2 GB).");
+                    }
+
+                    MappedByteBuffer mapa = canal.map(FileChannel.MapMode.READ_WRITE, 0, tamanho);
+                    mapa.putInt(MAGICO)
+                            .putInt(VERSAO_FORMATO)
+                            .putLong(sequencia)
+                            .putLong(geradoEm.toEpochMilli())
+                            .putInt(quantidade)
+                            .putInt(bytesRegistros);
+                    catalogo.exportar(
+                            mapa.slice(TAMANHO_CABECALHO, (int) tamanhoIndice),
+                            mapa.slice(TAMANHO_CABECALHO + (int) tamanhoIndice, bytesRegistros));
+                    mapa.force();
+                    resumo = new Resumo(sequencia, geradoEm, quantidade, tamanho);
+                }
+            }
+            Files.move(temporario, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return resumo;
+    }
+
+    // IllegalStateException se o arquivo não é um snapshot desta versão do formato ou está truncado/corrompido
+    public static Snapshot ler(Path origem) {
+        try (FileChannel canal = FileChannel.open(origem, StandardOpenOption.READ)) {
+            long tamanho = canal.size();
+            if (tamanho < TAMANHO_CABECALHO || tamanho > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Arquivo da réplica com tamanho inválido: " + tamanho + " bytes.");
+            }
+
+            MappedByteBuffer mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, tamanho);
+            if (mapa.getInt() != MAGICO) {
+                throw new IllegalStateException("O arquivo " + origem + " não é um snapshot da réplica de produtos.");
+            }
+            int versao = mapa.getInt();
+            if (versao != VERSAO_FORMATO) {
+                throw new IllegalStateException("Versão " + versao + " do snapshot da réplica não suportada (esperada "
+                        + VERSAO_FORMATO + ").");
+            }
+            long sequencia = mapa.getLong();
+            Instant geradoEm = Instant.ofEpochMilli(mapa.getLong());
+            int quantidade = mapa.getInt();
+            int bytesRegistros = mapa.getInt();
+            long tamanhoIndice = (long) quantidade * TAMANHO_ENTRADA_INDICE;
+            if (quantidade < 0 || bytesRegistros < 0 || TAMANHO_CABECALHO + tamanhoIndice + bytesRegistros != tamanho) {
+                throw new IllegalStateException("Snapshot da réplica truncado ou corrompido: " + origem);
+            }
+
+            ByteBuffer indice = mapa.slice(TAMANHO_CABECALHO, (int) tamanhoIndice);
+            ByteBuffer registros = mapa.slice(TAMANHO_CABECALHO + (int) tamanhoIndice, bytesRegistros);
+            ProdutoReplicaCatalogo catalogo = ProdutoReplicaCatalogo.importar(indice, quantidade, registros, bytesRegistros);
+            return new Snapshot(sequencia, geradoEm, catalogo);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package br.com.orderhub.produto_service.adapter.replica;
+
+import br.com.orderhub.core.domain.entities.Produto;
+import br.com.orderhub.produto_service.adapter.mapper.PrecoMapper;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Cópia do catálogo inteiro em formato compacto: os registros (preço em centavos, nome e descrição em
+// UTF-8) ficam num ByteBuffer direto, fora do heap, e o índice id -> posição é um par de long[] com
+// endereçamento aberto (sondagem linear). Não há Long, Double, String nem entrada de HashMap por produto;
+// no heap ficam só 24 bytes por slot do índice.
+//
+// Cada slot guarda também a versão do produto gravado (a coluna versao), para quem aplica alterações que
+// chegam fora de ordem descartar as mais antigas. Uma exclusão marca a versão como VERSAO_REMOVIDO. O que
+// veio do arquivo ou da leitura da tabela fica com VERSAO_DESCONHECIDA.
+//
+// Leitura sem lock: buscar() lê o estado publicado uma vez e sonda os arrays com getAcquire. Há um único
+// escritor por vez (métodos synchronized), que grava o registro novo no fim do buffer e só depois publica
+// a posição (setRelease) e, se a chave é nova, a chave. Registros antigos nunca são sobrescritos; quando o
+// buffer ou o índice enchem, só os registros vivos são recopiados para um estado novo (o buffer dobra se,
+// compactado, ainda ficaria mais da metade ocupado), e quem estava lendo o antigo termina a leitura nele.
+public class ProdutoReplicaCatalogo {
+
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    // ids vêm da sequência produtos_seq e são sempre positivos: 0 marca slot vazio
+    private static final long VAZIO = 0L;
+    private static final long REMOVIDO = -1L;
+    private static final int SEM_TEXTO = -1;
+    private static final int CABECALHO = Long.BYTES + Integer.BYTES + Integer.BYTES;
+    private static final int CAPACIDADE_MAXIMA_REGISTROS = Integer.MAX_VALUE - 8;
+
+    public static final long VERSAO_DESCONHECIDA = -1L;
+    // Ids não são reaproveitados: a exclusão vale mais que qualquer versão do produto
+    public static final long VERSAO_REMOVIDO = Long.MAX_VALUE;
+
+    private record Estado(long[] chaves, long[] posicoes, long[] versoes, ByteBuffer registros) {
+    }
+
+    private volatile Estado estado;
+
+    // só o escritor (sob o lock) mexe nestes
+    private int fim;
+    private int ocupados;
+    private int vivos;
+    private long bytesMortos;
+
+    public ProdutoReplicaCatalogo() {
+        this(1024);
+    }
+
+    public ProdutoReplicaCatalogo(int quantidadeEsperada) {
+        this(capacidadeIndicePara(quantidadeEsperada), Math.max(4096L, quantidadeEsperada * 64L));
+    }
+
+    private ProdutoReplicaCatalogo(int capacidadeIndice, long capacidadeRegistros) {
+        this.estado = new Estado(new long[capacidadeIndice], new long[capacidadeIndice],
+                versoesDesconhecidas(capacidadeIndice),
+                ByteBuffer.allocateDirect((int) Math.min(CAPACIDADE_MAXIMA_REGISTROS, capacidadeRegistros)));
+    }
+
+    // Monta a réplica a partir do que exportar() escreveu (ProdutoReplicaArquivo): os registros vêm numa
+    // cópia só, sem decodificar texto, e o índice é refeito a partir dos pares (id, posição).
+    static ProdutoReplicaCatalogo importar(ByteBuffer indice, int quantidade, ByteBuffer registros, int bytesRegistros) {
+        ProdutoReplicaCatalogo catalogo = new ProdutoReplicaCatalogo(capacidadeIndicePara(quantidade),
+                Math.max(4096L, bytesRegistros * 2L));
+        Estado novo = catalogo.estado;
+        novo.registros().put(0, registros, 0, bytesRegistros);
+
+        for (int i = 0; i < quantidade; i++) {
+            long id = indice.getLong();
+            int posicao = indice.getInt();
+            if (id <= 0 || !registroDentroDe(novo.registros(), posicao, bytesRegistros)) {
+                throw new IllegalStateException("Registro inválido no arquivo da réplica (id " + id + ").");
+            }
+            int slot = localizar(novo.chaves(), id);
+            if (novo.chaves()[slot] == id) {
+                throw new IllegalStateException("Id repetido no arquivo da réplica (id " + id + ").");
+            }
+            novo.chaves()[slot] = id;
+            novo.posicoes()[slot] = posicao;
+        }
+
+        catalogo.fim = bytesRegistros;
+        catalogo.ocupados = quantidade;
+        catalogo.vivos = quantidade;
+        return catalogo;
+    }
+
+    public Produto buscar(long id) {
+        if (id <= 0) {
+            return null;
+        }
+        Estado atual = estado;
+        long[] chaves = atual.chaves();
+        int mascara = chaves.length - 1;
+        for (int slot = espalhar(id) & mascara; ; slot = (slot + 1) & mascara) {
+            long chave = (long) SLOTS.getAcquire(chaves, slot);
+            if (chave == VAZIO) {
+                return null;
+            }
+            if (chave == id) {
+                long posicao = (long) SLOTS.getAcquire(atual.posicoes(), slot);
+                return posicao < 0 ? null : ler(atual.registros(), id, (int) posicao);
+            }
+        }
+    }
+
+    public synchronized void guardar(long id, String nome, String descricao, long precoCentavos) {
+        guardar(id, VERSAO_DESCONHECIDA, nome, descricao, precoCentavos);
+    }
+
+    public synchronized void guardar(long id, long versao, String nome, String descricao, long precoCentavos) {
+        if (id <= 0) {
+            throw new IllegalArgumentException("A réplica só guarda produtos com id positivo.");
+        }
+        byte[] bytesNome = bytes(nome);
+        byte[] bytesDescricao = bytes(descricao);
+        int tamanho = CABECALHO + comprimento(bytesNome) + comprimento(bytesDescricao);
+
+        garantirEspaco(tamanho);
+        Estado atual = estado;
+        int posicao = fim;
+        ByteBuffer registros = atual.registros();
+        registros.putLong(posicao, precoCentavos);
+        int proximo = escreverTexto(registros, posicao + Long.BYTES, bytesNome);
+        escreverTexto(registros, proximo, bytesDescricao);
+        fim += tamanho;
+
+        int slot = localizar(atual.chaves(), id);
+        atual.versoes()[slot] = versao;
+        if (atual.chaves()[slot] == id) {
+            long anterior = atual.posicoes()[slot];
+            if (anterior >= 0) {
+                bytesMortos += tamanhoRegistro(registros, (int) anterior);
+            } else {
+                vivos++;
+            }
+            SLOTS.setRelease(atual.posicoes(), slot, (long) posicao);
+        } else {
+            // posição antes da chave: quem enxergar a chave já enxerga a posição e o registro
+            SLOTS.setRelease(atual.posicoes(), slot, (long) posicao);
+            SLOTS.setRelease(atual.chaves(), slot, id);
+            ocupados++;
+            vivos++;
+        }
+    }
+
+    public synchronized void remover(long id) {
+        if (id <= 0) {
+            return;
+        }
+        Estado atual = estado;
+        int slot = localizar(atual.chaves(), id);
+        long posicao = atual.posicoes()[slot];
+        if (atual.chaves()[slot] == id && posicao >= 0) {
+            bytesMortos += tamanhoRegistro(atual.registros(), (int) posicao);
+            SLOTS.setRelease(atual.posicoes(), slot, REMOVIDO);
+            atual.versoes()[slot] = VERSAO_REMOVIDO;
+            vivos--;
+        }
+    }
+
+    // Versão gravada junto com o produto; VERSAO_DESCONHECIDA também para um id que a réplica não tem
+    public synchronized long versao(long id) {
+        if (id <= 0) {
+            return VERSAO_DESCONHECIDA;
+        }
+        Estado atual = estado;
+        int slot = localizar(atual.chaves(), id);
+        return atual.chaves()[slot] == id ? atual.versoes()[slot] : VERSAO_DESCONHECIDA;
+    }
+
+    public int quantidade() {
+        return vivos;
+    }
+
+    public long bytesForaDoHeap() {
+        return estado.registros().capacity();
+    }
+
+    public long bytesIndice() {
+        return estado.chaves().length * 3L * Long.BYTES;
+    }
+
+    // Tamanho dos registros vivos, já sem o espaço morto: é o que exportar() escreve
+    synchronized int bytesVivos() {
+        return (int) (fim - bytesMortos);
+    }
+
+    // Escreve, compactados, os pares (id, posição) em "indice" e os registros vivos em "registros".
+    // Quem chama segura o lock da réplica desde o bytesVivos()/quantidade() usados para dimensionar os buffers.
+    synchronized void exportar(ByteBuffer indice, ByteBuffer registros) {
+        Estado atual = estado;
+        int destino = 0;
+        for (int i = 0; i < atual.chaves().length; i++) {
+            long chave = atual.chaves()[i];
+            long posicao = atual.posicoes()[i];
+            if (chave == VAZIO || posicao < 0) {
+                continue;
+            }
+            int tamanho = tamanhoRegistro(atual.registros(), (int) posicao);
+            registros.put(destino, atual.registros(), (int) posicao, tamanho);
+            indice.putLong(chave).putInt(destino);
+            destino += tamanho;
+        }
+    }
+
+    private void garantirEspaco(int tamanhoRegistro) {
+        Estado atual = estado;
+        int capacidadeIndice = atual.chaves().length;
+        boolean indiceCheio = (ocupados + 1) * 10L > capacidadeIndice * 7L;
+        boolean bufferCheio = (long) fim + tamanhoRegistro > atual.registros().capacity();
+        if (!indiceCheio && !bufferCheio) {
+            return;
+        }
+
+        long bytesVivos = fim - bytesMortos + tamanhoRegistro;
+        long capacidadeRegistros = atual.registros().capacity();
+        // só cresce o buffer se a compactação sozinha não deixar pelo menos metade livre
+        if (bytesVivos * 2 > capacidadeRegistros) {
+            capacidadeRegistros = Math.max(capacidadeRegistros * 2, bytesVivos * 2);
+        }
+        reconstruir(capacidadeIndicePara(vivos + 1), capacidadeRegistros, bytesVivos);
+    }
+
+    // Copia só os registros vivos para um índice e um buffer novos e publica o estado novo de uma vez
+    private void reconstruir(int capacidadeIndice, long capacidadeRegistrosDesejada, long bytesNecessarios) {
+        if (bytesNecessarios > CAPACIDADE_MAXIMA_REGISTROS) {
+            throw new IllegalStateException("A réplica do catálogo passou do tamanho máximo de um buffer (2 GB).");
+        }
+        Estado atual = estado;
+        long[] chaves = new long[capacidadeIndice];
+        long[] posicoes = new long[capacidadeIndice];
+        long[] versoes = versoesDesconhecidas(capacidadeIndice);
+        ByteBuffer registros = ByteBuffer.allocateDirect((int) Math.min(CAPACIDADE_MAXIMA_REGISTROS, capacidadeRegistrosDesejada));
+
+        int novoFim = 0;
+        for (int i = 0; i < atual.chaves().length; i++) {
+            long chave = atual.chaves()[i];
+            long posicao = atual.posicoes()[i];
+            if (chave == VAZIO || posicao < 0) {
+                continue;
+            }
+            int tamanho = tamanhoRegistro(atual.registros(), (int) posicao);
+            registros.put(novoFim, atual.registros(), (int) posicao, tamanho);
+            int slot = localizar(chaves, chave);
+            chaves[slot] = chave;
+            posicoes[slot] = novoFim;
+            versoes[slot] = atual.versoes()[i];
+            novoFim += tamanho;
+        }
+
+        fim = novoFim;
+        ocupados = vivos;
+        bytesMortos = 0;
+        estado = new Estado(chaves, posicoes, versoes, registros);
+    }
+
+    // Slot da chave, ou o primeiro vazio da sequência de sondagem (só para o escritor)
+    private static int localizar(long[] chaves, long id) {
+        int mascara = chaves.length - 1;
+        int slot = espalhar(id) & mascara;
+        while (chaves[slot] != VAZIO && chaves[slot] != id) {
+            slot = (slot + 1) & mascara;
+        }
+        return slot;
+    }
+
+    // ids são sequenciais: sem misturar os bits, ids vizinhos ocupariam slots vizinhos e as sondagens se alongariam
+    private static int espalhar(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static long[] versoesDesconhecidas(int capacidadeIndice) {
+        long[] versoes = new long[capacidadeIndice];
+        Arrays.fill(versoes, VERSAO_DESCONHECIDA);
+        return versoes;
+    }
+
+    // Potência de 2 com carga de no máximo 50% logo depois de montar
+    private static int capacidadeIndicePara(int quantidade) {
+        long desejada = Math.max(16L, quantidade * 2L);
+        if (desejada > (1 << 30)) {
+            throw new IllegalStateException("Quantidade de produtos grande demais para o índice da réplica.");
+        }
+        return Integer.highestOneBit((int) desejada - 1) << 1;
+    }
+
+    private static Produto ler(ByteBuffer registros, long id, int posicao) {
+        long precoCentavos = registros.getLong(posicao);
+        int posicaoNome = posicao + Long.BYTES;
+        int tamanhoNome = registros.getInt(posicaoNome);
+        int posicaoDescricao = posicaoNome + Integer.BYTES + Math.max(tamanhoNome, 0);
+        return new Produto(
+                id,
+                lerTexto(registros, posicaoNome + Integer.BYTES, tamanhoNome),
+                lerTexto(registros, posicaoDescricao + Integer.BYTES, registros.getInt(posicaoDescricao)),
+                PrecoMapper.centavosParaReais(precoCentavos)
+        );
+    }
+
+    private static int tamanhoRegistro(ByteBuffer registros, int posicao) {
+        int posicaoNome = posicao + Long.BYTES;
+        int tamanhoNome = Math.max(registros.getInt(posicaoNome), 0);
+        int posicaoDescricao = posicaoNome + Integer.BYTES + tamanhoNome;
+        int tamanhoDescricao = Math.max(registros.getInt(posicaoDescricao), 0);
+        return CABECALHO + tamanhoNome + tamanhoDescricao;
+    }
+
+    // Confere, sem sair de [0, limite), que o registro em "posicao" cabe inteiro antes de confiar nos tamanhos dele
+    private static boolean registroDentroDe(ByteBuffer registros, int posicao, int limite) {
+        long posicaoNome = (long) posicao + Long.BYTES;
+        if (posicao < 0 || posicaoNome + Integer.BYTES > limite) {
+            return false;
+        }
+        int tamanhoNome = registros.getInt((int) posicaoNome);
+        long posicaoDescricao = posicaoNome + Integer.BYTES + Math.max(tamanhoNome, 0);
+        if (tamanhoNome < SEM_TEXTO || posicaoDescricao + Integer.BYTES > limite) {
+            return false;
+        }
+        int tamanhoDescricao = registros.getInt((int) posicaoDescricao);
+        return tamanhoDescricao >= SEM_TEXTO
+                && posicaoDescricao + Integer.BYTES + Math.max(tamanhoDescricao, 0) <= limite;
+    }
+
+    private static String lerTexto(ByteBuffer registros, int posicao, int tamanho) {
+        if (tamanho == SEM_TEXTO) {
+            return null;
+        }
+        byte[] bytes = new byte[tamanho];
+        registros.get(posicao, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int escreverTexto(ByteBuffer registros, int posicao, byte[] bytes) {
+        if (bytes == null) {
+            registros.putInt(posicao, SEM_TEXTO);
+            return posicao + Integer.BYTES;
+        }
+        registros.putInt(posicao, bytes.length);
+        registros.put(posicao + Integer.BYTES, bytes);
+        return posicao + Integer.BYTES + bytes.length;
+    }
+
+    private static byte[] bytes(String texto) {
+        return texto == null ? null : texto.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int comprimento(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+}
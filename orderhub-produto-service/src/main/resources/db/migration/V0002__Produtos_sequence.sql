@@ -0,0 +1,3 @@
+-- Sequence com incremento 50 (pooled) para que o Hibernate consiga agrupar os INSERTs em batch JDBC.
+-- Começa acima dos ids já gerados pela identity da V0001.
+create sequence produtos_seq start with 1000 increment by 50;
@@ -0,0 +1,3 @@
+-- findByNome (GET /produtos/nome/{nome} e a checagem de nome duplicado do core) deixa de ser full scan.
+-- O índice único também garante a regra de nome único sob concorrência.
+create unique index uk_produtos_nome on produtos (nome);
@@ -0,0 +1,6 @@
+-- Versão (optimistic locking / ETag) e data da última alteração (Last-Modified) de cada produto.
+alter table produtos add column versao bigint default 0 not null;
+alter table produtos add column atualizado_em timestamp(6) with time zone default current_timestamp not null;
+
+-- max(atualizado_em) para a versão do catálogo sai do índice, sem varrer a tabela
+create index ix_produtos_atualizado_em on produtos (atualizado_em);
@@ -0,0 +1,19 @@
+-- Outbox das alterações de produtos: gravada na mesma transação da escrita e publicada pelo ProdutoOutboxRelay.
+-- A sequência de publicação (sequencia) é atribuída pelo relay, em ordem de commit; nula = pendente.
+create sequence produtos_outbox_seq start with 1 increment by 50;
+
+create table produtos_outbox (
+    id bigint not null,
+    produto_id bigint not null,
+    tipo varchar(20) not null,
+    nome varchar(255),
+    descricao varchar(255),
+    preco float(53),
+    criado_em timestamp(6) with time zone not null,
+    sequencia bigint,
+    primary key (id)
+);
+
+-- Pendentes (sequencia is null) e leitura por cursor (sequencia > ?). Único para que dois relays
+-- concorrentes não publiquem a mesma sequência: o segundo falha e tenta de novo no próximo ciclo.
+create unique index uk_produtos_outbox_sequencia on produtos_outbox (sequencia);
@@ -0,0 +1,19 @@
+-- Sequência de alteração de cada produto para o delta (GET /produtos/delta). Preenchida pelo
+-- ProdutoDeltaSink com a sequência da outbox, na ordem de publicação; nula até o relay publicar.
+alter table produtos add column sequencia bigint;
+create index ix_produtos_sequencia on produtos (sequencia);
+
+-- Marcas de exclusão: o produto some de produtos, mas a exclusão continua visível para o delta
+create table produtos_removidos (
+    produto_id bigint not null,
+    sequencia bigint not null,
+    removido_em timestamp(6) with time zone not null,
+    primary key (produto_id)
+);
+create index ix_produtos_removidos_sequencia on produtos_removidos (sequencia);
+
+-- Produtos existentes entram no delta pela outbox, como qualquer outra alteração
+insert into produtos_outbox (id, produto_id, tipo, nome, descricao, preco, criado_em)
+select next value for produtos_outbox_seq, id, 'SALVO', nome, descricao, preco, current_timestamp
+from produtos
+order by id;
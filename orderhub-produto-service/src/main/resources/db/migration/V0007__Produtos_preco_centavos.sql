@@ -0,0 +1,10 @@
+-- Preço exato em centavos (inteiro) no lugar de float(53): sem arredondamento nos consumidores e
+-- comparação/ordenação por inteiro. Produtos sem preço (não permitido pela API) ficam com zero.
+alter table produtos add column preco_centavos bigint;
+update produtos set preco_centavos = coalesce(cast(round(preco * 100) as bigint), 0);
+alter table produtos alter column preco_centavos set not null;
+alter table produtos drop column preco;
+
+alter table produtos_outbox add column preco_centavos bigint;
+update produtos_outbox set preco_centavos = cast(round(preco * 100) as bigint) where preco is not null;
+alter table produtos_outbox drop column preco;
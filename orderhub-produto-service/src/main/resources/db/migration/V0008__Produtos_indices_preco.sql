@@ -0,0 +1,4 @@
+-- Faixa de preço ordenada por preço (keyset em preco_centavos, id) e por nome com filtro de preço:
+-- o filtro é avaliado na própria entrada do índice, sem ir à linha para descartar.
+create index ix_produtos_preco_id on produtos (preco_centavos, id);
+create index ix_produtos_nome_preco on produtos (nome, preco_centavos);
@@ -0,0 +1,8 @@
+-- Versão do produto gravada com cada alteração da outbox. Os ids da outbox vêm em blocos por pod (sequence
+-- pooled), então a ordem dos ids não é a de commit: duas alterações do mesmo produto feitas em pods diferentes
+-- podem ficar pendentes com a mais nova no id menor. O relay usa a versão para descartar a alteração que
+-- chega depois de uma mais nova do mesmo produto já publicada. Exclusões ficam com a maior versão possível.
+alter table produtos_outbox add column versao bigint;
+
+-- Maior versão publicada por produto, consultada pelo relay a cada lote
+create index ix_produtos_outbox_produto_versao on produtos_outbox (produto_id, versao);
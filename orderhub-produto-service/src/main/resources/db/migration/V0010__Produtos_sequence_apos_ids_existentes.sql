@@ -0,0 +1,9 @@
+-- A V0002 fixou o início de produtos_seq em 1000, mas uma base que veio da identity da V0001 pode ter ids
+-- muito acima disso (centenas de milhares de produtos), e os primeiros lotes colidiriam com chaves existentes.
+-- Reinicia a sequence depois do maior id: com o otimizador pooled do Hibernate (allocationSize 50), o valor
+-- lido é o topo de um bloco que começa 49 ids abaixo dele, então o primeiro valor fica um bloco acima do
+-- maior id. Nunca volta a sequence: numa base que já usa a sequence, blocos distribuídos continuam válidos.
+alter sequence produtos_seq restart with greatest(
+    (select coalesce(max(id), 0) + 51 from produtos),
+    (select base_value from information_schema.sequences where sequence_name = 'PRODUTOS_SEQ')
+);
@@ -0,0 +1,212 @@
+package br.com.orderhub.produto_service.adapter.api.condicional;
+
+import br.com.orderhub.core.domain.entities.Produto;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoLeitura;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoRepositoryJpaGatewayImpl;
+import br.com.orderhub.produto_service.adapter.persistence.CatalogoVersao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ProdutoGetCondicionalInterceptorTest {
+
+    private static final Instant ATUALIZADO_EM = Instant.parse("2025-07-01T10:15:30Z");
+    private static final Produto CAFE = new Produto(1L, "Cafe", "Bebida", 5.0);
+    private static final String ETAG_CAFE = ProdutoGetCondicionalInterceptor.etagConteudo(CAFE, "");
+
+    private ProdutoRepositoryJpaGatewayImpl produtoGateway;
+    private ProdutoLeitura produtoLeitura;
+    private ProdutoGetCondicionalInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        produtoGateway = mock(ProdutoRepositoryJpaGatewayImpl.class);
+        produtoLeitura = mock(ProdutoLeitura.class);
+        interceptor = new ProdutoGetCondicionalInterceptor(produtoGateway, produtoLeitura);
+    }
+
+    @Test
+    void testProduto_SemCabecalhoCondicionalSegueParaOControllerComEtag() throws Exception {
+        when(produtoLeitura.buscarPorId(1L)).thenReturn(Optional.of(CAFE));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean continua = interceptor.preHandle(requisicaoProduto("1"), response, handler("produto"));
+
+        assertTrue(continua);
+        assertEquals(ETAG_CAFE, response.getHeader("ETag"));
+        assertNull(response.getHeader("Last-Modified"));
+    }
+
+    @Test
+    void testProduto_IfNoneMatchIgualRespondeNaoModificado() throws Exception {
+        when(produtoLeitura.buscarPorId(1L)).thenReturn(Optional.of(CAFE));
+        MockHttpServletRequest request = requisicaoProduto("1");
+        request.addHeader("If-None-Match", ETAG_CAFE);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean continua = interceptor.preHandle(request, response, handler("produto"));
+
+        assertFalse(continua);
+        assertEquals(304, response.getStatus());
+    }
+
+    @Test
+    void testProduto_ConteudoAlteradoSegueParaOController() throws Exception {
+        when(produtoLeitura.buscarPorId(1L)).thenReturn(Optional.of(new Produto(1L, "Cafe", "Bebida", 6.0)));
+        MockHttpServletRequest request = requisicaoProduto("1");
+        request.addHeader("If-None-Match", ETAG_CAFE);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(request, response, handler("produto")));
+        assertNotEquals(ETAG_CAFE, response.getHeader("ETag"));
+    }
+
+    @Test
+    void testProduto_InexistenteDeixaOControllerResponder404() throws Exception {
+        when(produtoLeitura.buscarPorId(9L)).thenReturn(Optional.empty());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(requisicaoProduto("9"), response, handler("produto")));
+        assertNull(response.getHeader("ETag"));
+    }
+
+    @Test
+    void testCatalogo_IfNoneMatchIgualRespondeNaoModificado() throws Exception {
+        when(produtoGateway.buscarVersaoCatalogo()).thenReturn(new CatalogoVersao(5L, ATUALIZADO_EM));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/produtos");
+        request.addHeader("If-None-Match", "\"c5-" + ATUALIZADO_EM.toEpochMilli() + "\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean continua = interceptor.preHandle(request, response, handler("catalogo"));
+
+        assertFalse(continua);
+        assertEquals(304, response.getStatus());
+        assertNull(response.getHeader("Last-Modified"));
+    }
+
+    @Test
+    void testCatalogoGzip_TemEtagPropriaEVaryAcceptEncoding() throws Exception {
+        when(produtoGateway.buscarVersaoCatalogo()).thenReturn(new CatalogoVersao(5L, ATUALIZADO_EM));
+        String etagIdentidade = "\"c5-" + ATUALIZADO_EM.toEpochMilli() + "\"";
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/produtos");
+        request.addHeader("Accept-Encoding", "gzip");
+        request.addHeader("If-None-Match", etagIdentidade);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean continua = interceptor.preHandle(request, response, handler("catalogoGzip"));
+
+        // o ETag do corpo sem compressão não vale para o corpo gzip
+        assertTrue(continua);
+        assertEquals("\"c5-" + ATUALIZADO_EM.toEpochMilli() + "-gzip\"", response.getHeader("ETag"));
+        assertTrue(response.getHeaders("Vary").contains("Accept-Encoding"));
+
+        MockHttpServletRequest semGzip = new MockHttpServletRequest("GET", "/produtos");
+        semGzip.addHeader("If-None-Match", etagIdentidade);
+        MockHttpServletResponse naoModificado = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(semGzip, naoModificado, handler("catalogoGzip")));
+        assertEquals(304, naoModificado.getStatus());
+        assertTrue(naoModificado.getHeaders("Vary").contains("Accept-Encoding"));
+    }
+
+    @Test
+    void testCatalogo_VazioTemEtagEstavel() {
+        assertEquals("\"c0-0\"", ProdutoGetCondicionalInterceptor.etagCatalogo(new CatalogoVersao(0L, null), ""));
+    }
+
+    @Test
+    void testProduto_CborTemEtagPropriaEVaryAccept() throws Exception {
+        when(produtoLeitura.buscarPorId(1L)).thenReturn(Optional.of(CAFE));
+        MockHttpServletRequest request = requisicaoProduto("1");
+        request.addHeader("Accept", "application/cbor");
+        request.addHeader("If-None-Match", ETAG_CAFE);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean continua = interceptor.preHandle(request, response, handler("produto"));
+
+        // o ETag do JSON não vale para a representação CBOR
+        assertTrue(continua);
+        assertEquals(ProdutoGetCondicionalInterceptor.etagConteudo(CAFE, "-cbor"), response.getHeader("ETag"));
+        assertEquals("Accept", response.getHeader("Vary"));
+    }
+
+    @Test
+    void testSufixoFormato_EmpateFicaComJson() {
+        assertEquals("", ProdutoGetCondicionalInterceptor.sufixoFormato(comAccept("application/json, application/cbor")));
+        assertEquals("", ProdutoGetCondicionalInterceptor.sufixoFormato(comAccept("*/*")));
+        assertEquals("-cbor", ProdutoGetCondicionalInterceptor.sufixoFormato(comAccept("application/cbor, application/json;q=0.5")));
+        assertEquals("", ProdutoGetCondicionalInterceptor.sufixoFormato(comAccept("nao é media type")));
+    }
+
+    @Test
+    void testMetodoSemAnotacaoNaoConsultaVersao() throws Exception {
+        assertTrue(interceptor.preHandle(requisicaoProduto("1"), new MockHttpServletResponse(), handler("semCondicional")));
+        verifyNoInteractions(produtoGateway, produtoLeitura);
+    }
+
+    @Test
+    void testProduto_EtagAcompanhaOCorpoServidoENaoOBanco() throws Exception {
+        when(produtoLeitura.buscarPorId(1L)).thenReturn(Optional.of(CAFE));
+        MockHttpServletRequest request = requisicaoProduto("1");
+        request.addHeader("If-None-Match", ETAG_CAFE);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(request, response, handler("produto")));
+        assertEquals(304, response.getStatus());
+
+        // o cache (ou a réplica) do pod alcançou uma escrita de outro pod: o ETag muda junto com o corpo
+        when(produtoLeitura.buscarPorId(1L)).thenReturn(Optional.of(new Produto(1L, "Cafe", "Bebida", 6.0)));
+        MockHttpServletResponse depois = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(request, depois, handler("produto")));
+        assertNotEquals(ETAG_CAFE, depois.getHeader("ETag"));
+        verifyNoInteractions(produtoGateway);
+    }
+
+    @Test
+    void testEtagConteudo_SeparaOsCampos() {
+        assertNotEquals(
+                ProdutoGetCondicionalInterceptor.etagConteudo(new Produto(1L, "ab", "c", 1.0), ""),
+                ProdutoGetCondicionalInterceptor.etagConteudo(new Produto(1L, "a", "bc", 1.0), ""));
+    }
+
+    private static MockHttpServletRequest requisicaoProduto(String id) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/produtos/" + id);
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", id));
+        return request;
+    }
+
+    private static MockHttpServletRequest comAccept(String accept) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/produtos");
+        request.addHeader("Accept", accept);
+        return request;
+    }
+
+    private static HandlerMethod handler(String metodo) throws NoSuchMethodException {
+        return new HandlerMethod(new ControllerExemplo(), ControllerExemplo.class.getMethod(metodo));
+    }
+
+    static class ControllerExemplo {
+        @GetCondicional(GetCondicional.Escopo.PRODUTO)
+        public void produto() {
+        }
+
+        @GetCondicional(GetCondicional.Escopo.CATALOGO)
+        public void catalogo() {
+        }
+
+        @GetCondicional(value = GetCondicional.Escopo.CATALOGO, gzip = true)
+        public void catalogoGzip() {
+        }
+
+        public void semCondicional() {
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package br.com.orderhub.produto_service.adapter.busca;
+
+import br.com.orderhub.core.domain.entities.Produto;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoRepositoryJpaGatewayImpl;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutosAlteradosEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class ProdutoIndiceBuscaTest {
+
+    private ProdutoRepositoryJpaGatewayImpl gateway;
+    private ProdutoIndiceBusca indice;
+
+    @BeforeEach
+    void setUp() {
+        gateway = mock(ProdutoRepositoryJpaGatewayImpl.class);
+        doAnswer(invocation -> {
+            Consumer<Produto> consumidor = invocation.getArgument(0);
+            consumidor.accept(new Produto(1L, "Teclado Mecânico", "Teclado gamer com iluminação RGB", 279.50));
+            consumidor.accept(new Produto(2L, "Mouse Logitech", "Mouse sem fio ergonômico", 199.90));
+            consumidor.accept(new Produto(3L, "Cadeira Gamer", "Cadeira ergonômica com apoio lombar", 1299.00));
+            return null;
+        }).when(gateway).percorrerTodos(any());
+
+        indice = new ProdutoIndiceBusca(gateway);
+        indice.reconstruir();
+    }
+
+    @Test
+    void testTokenizar_RemoveAcentosEStopwords() {
+        assertEquals(List.of("cadeira", "ergonomica", "apoio"), ProdutoIndiceBusca.tokenizar("Cadeira ergonômica com apoio"));
+    }
+
+    @Test
+    void testBuscar_SemAcentoEncontraTextoAcentuado() {
+        List<Produto> resultado = indice.buscar("mecanico", 10);
+
+        assertEquals(1, resultado.size());
+        assertEquals(1L, resultado.get(0).getId());
+    }
+
+    @Test
+    void testBuscar_PorPrefixo() {
+        List<Produto> resultado = indice.buscar("ergo", 10);
+
+        assertEquals(List.of(2L, 3L), resultado.stream().map(Produto::getId).sorted().toList());
+    }
+
+    @Test
+    void testBuscar_NomePesaMaisQueDescricao() {
+        List<Produto> resultado = indice.buscar("gamer", 10);
+
+        assertEquals(2, resultado.size());
+        // "gamer" está no nome da cadeira e só na descrição do teclado
+        assertEquals(3L, resultado.get(0).getId());
+    }
+
+    @Test
+    void testBuscar_TodosOsTermosPrecisamCasar() {
+        assertEquals(1, indice.buscar("cad gam", 10).size());
+        assertTrue(indice.buscar("cadeira mouse", 10).isEmpty());
+    }
+
+    @Test
+    void testBuscar_RespeitaLimite() {
+        assertEquals(1, indice.buscar("ergo", 1).size());
+    }
+
+    @Test
+    void testEventos_AtualizamOIndice() {
+        indice.aoAlterarProdutos(ProdutosAlteradosEvent.salvos(List.of(
+                new Produto(2L, "Mouse Razer", "Mouse com fio", 250.0),
+                new Produto(4L, "Monitor LG", "Monitor LED 24", 899.99)
+        )));
+        indice.aoAlterarProdutos(ProdutosAlteradosEvent.removido(1L));
+
+        assertTrue(indice.buscar("logitech", 10).isEmpty());
+        assertEquals(2L, indice.buscar("razer", 10).get(0).getId());
+        assertEquals(4L, indice.buscar("monitor", 10).get(0).getId());
+        assertTrue(indice.buscar("teclado", 10).isEmpty());
+        assertEquals(3, indice.tamanho());
+    }
+
+    @Test
+    void testComprimentoNome_ProdutoSemNomeContaComoVazio() {
+        Produto semNome = mock(Produto.class);
+        when(semNome.getNome()).thenReturn(null);
+
+        assertEquals(0, ProdutoIndiceBusca.comprimentoNome(semNome));
+        assertEquals(5, ProdutoIndiceBusca.comprimentoNome(new Produto(9L, "Mouse", null, 1.0)));
+    }
+
+    @Test
+    void testTokenizar_IndependeDoLocalePadrao() {
+        Locale padrao = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            assertEquals(List.of("titanio", "imbuia"), ProdutoIndiceBusca.tokenizar("TITÂNIO IMBUIA"));
+        } finally {
+            Locale.setDefault(padrao);
+        }
+    }
+
+    @Test
+    void testReconstruir_BuscasSeguemNoIndiceAnteriorEEventosDuranteALeituraNaoSePerdem() {
+        List<Produto> vistosDuranteALeitura = new ArrayList<>();
+        doAnswer(invocation -> {
+            Consumer<Produto> consumidor = invocation.getArgument(0);
+            vistosDuranteALeitura.addAll(indice.buscar("logitech", 10));
+            // o mouse é removido e confirmado depois de a leitura já ter passado por ele
+            consumidor.accept(new Produto(2L, "Mouse Logitech", "Mouse sem fio ergonômico", 199.90));
+            indice.aoAlterarProdutos(ProdutosAlteradosEvent.removido(2L));
+            consumidor.accept(new Produto(5L, "Headset HyperX", "Headset gamer", 499.00));
+            return null;
+        }).when(gateway).percorrerTodos(any());
+
+        indice.reconstruir();
+
+        assertEquals(List.of(2L), vistosDuranteALeitura.stream().map(Produto::getId).toList());
+        assertTrue(indice.buscar("logitech", 10).isEmpty());
+        assertEquals(5L, indice.buscar("headset", 10).get(0).getId());
+        assertEquals(1, indice.tamanho());
+    }
+}
@@ -0,0 +1,130 @@
+package br.com.orderhub.produto_service.adapter.catalogo;
+
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoRepositoryJpaGatewayImpl;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutosAlteradosEvent;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoResumo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class ProdutoCatalogoSnapshotTest {
+
+    private ProdutoRepositoryJpaGatewayImpl produtoGateway;
+    private ProdutoCatalogoSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        produtoGateway = mock(ProdutoRepositoryJpaGatewayImpl.class);
+        snapshot = new ProdutoCatalogoSnapshot(produtoGateway, new ObjectMapper());
+    }
+
+    @Test
+    void testMontaJsonEGzipDoCatalogo() throws Exception {
+        catalogo(new ProdutoResumo(1L, "Cafe", "Bebida", 500L), new ProdutoResumo(2L, "Cha", "Bebida", 300L));
+
+        ProdutoCatalogoSnapshot.Conteudo conteudo = snapshot.obter();
+
+        String json = new String(conteudo.json(), StandardCharsets.UTF_8);
+        assertEquals("[{\"id\":1,\"nome\":\"Cafe\",\"descricao\":\"Bebida\",\"preco\":5.0,\"precoCentavos\":500},"
+                + "{\"id\":2,\"nome\":\"Cha\",\"descricao\":\"Bebida\",\"preco\":3.0,\"precoCentavos\":300}]", json);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(conteudo.gzip()))) {
+            assertEquals(json, new String(gzip.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testReusaSnapshotAteAProximaEscrita() {
+        catalogo(new ProdutoResumo(1L, "Cafe", "Bebida", 500L));
+
+        ProdutoCatalogoSnapshot.Conteudo primeiro = snapshot.obter();
+        assertSame(primeiro, snapshot.obter());
+        verify(produtoGateway, times(1)).percorrerResumos(any());
+
+        snapshot.aoAlterarProdutos(ProdutosAlteradosEvent.removido(1L));
+
+        assertNotSame(primeiro, snapshot.obter());
+        verify(produtoGateway, times(2)).percorrerResumos(any());
+    }
+
+    @Test
+    void testCatalogoVazio() {
+        catalogo();
+
+        assertEquals("[]", new String(snapshot.obter().json(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSnapshotMontadoDuranteUmaEscritaNaoFicaGuardado() {
+        doAnswer(invocacao -> {
+            // uma escrita confirmada no meio da montagem
+            snapshot.invalidar();
+            invocacao.<Consumer<ProdutoResumo>>getArgument(0).accept(new ProdutoResumo(1L, "Cafe", "Bebida", 500L));
+            return null;
+        }).doAnswer(invocacao -> null).when(produtoGateway).percorrerResumos(any(Consumer.class));
+
+        snapshot.obter();
+        snapshot.obter();
+
+        verify(produtoGateway, times(2)).percorrerResumos(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testLeitoresConcorrentesEsperamUmaUnicaMontagem() throws Exception {
+        CountDownLatch montando = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        doAnswer(invocacao -> {
+            montando.countDown();
+            liberar.await(5, TimeUnit.SECONDS);
+            invocacao.<Consumer<ProdutoResumo>>getArgument(0).accept(new ProdutoResumo(1L, "Cafe", "Bebida", 500L));
+            return null;
+        }).when(produtoGateway).percorrerResumos(any(Consumer.class));
+        ExecutorService leitores = Executors.newFixedThreadPool(2);
+        try {
+            Future<ProdutoCatalogoSnapshot.Conteudo> primeiro = leitores.submit(snapshot::obter);
+            assertTrue(montando.await(5, TimeUnit.SECONDS));
+            Future<ProdutoCatalogoSnapshot.Conteudo> segundo = leitores.submit(snapshot::obter);
+            liberar.countDown();
+
+            assertSame(primeiro.get(5, TimeUnit.SECONDS), segundo.get(5, TimeUnit.SECONDS));
+            verify(produtoGateway, times(1)).percorrerResumos(any());
+        } finally {
+            leitores.shutdownNow();
+        }
+    }
+
+    @Test
+    void testAceitaGzip() {
+        assertTrue(ProdutoCatalogoSnapshot.aceitaGzip("gzip"));
+        assertTrue(ProdutoCatalogoSnapshot.aceitaGzip("br;q=1.0, gzip;q=0.8"));
+        assertTrue(ProdutoCatalogoSnapshot.aceitaGzip("*"));
+        assertFalse(ProdutoCatalogoSnapshot.aceitaGzip("gzip;q=0"));
+        assertFalse(ProdutoCatalogoSnapshot.aceitaGzip("identity"));
+        assertFalse(ProdutoCatalogoSnapshot.aceitaGzip(""));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void catalogo(ProdutoResumo... produtos) {
+        doAnswer(invocacao -> {
+            Consumer<ProdutoResumo> consumidor = invocacao.getArgument(0);
+            List.of(produtos).forEach(consumidor);
+            return null;
+        }).when(produtoGateway).percorrerResumos(any(Consumer.class));
+    }
+}
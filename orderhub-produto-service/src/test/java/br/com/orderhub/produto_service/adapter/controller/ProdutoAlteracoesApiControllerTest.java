@@ -0,0 +1,102 @@
+package br.com.orderhub.produto_service.adapter.controller;
+
+import br.com.orderhub.produto_service.adapter.dto.ProdutoAlteracoesApiResponseDto;
+import br.com.orderhub.produto_service.adapter.outbox.ProdutoAlteracao;
+import br.com.orderhub.produto_service.adapter.outbox.ProdutoAlteracaoSinkLocal;
+import br.com.orderhub.produto_service.adapter.outbox.ProdutoAlteracoesPublicadasEvent;
+import br.com.orderhub.produto_service.adapter.outbox.ProdutoOutbox;
+import br.com.orderhub.produto_service.adapter.outbox.TipoAlteracao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ProdutoAlteracoesApiControllerTest {
+
+    private ProdutoOutbox produtoOutbox;
+    private ProdutoAlteracaoSinkLocal sinkLocal;
+    private ProdutoAlteracoesApiController controller;
+
+    @BeforeEach
+    void setUp() {
+        produtoOutbox = mock(ProdutoOutbox.class);
+        sinkLocal = new ProdutoAlteracaoSinkLocal(mock(ApplicationEventPublisher.class));
+        controller = new ProdutoAlteracoesApiController(produtoOutbox, sinkLocal);
+    }
+
+    @Test
+    void testSemSinceDevolveASequenciaAtual() {
+        when(produtoOutbox.ultimaSequencia()).thenReturn(42L);
+
+        ProdutoAlteracoesApiResponseDto resposta = corpo(controller.listarAlteracoes(null, 100, 25));
+
+        assertTrue(resposta.alteracoes().isEmpty());
+        assertEquals(42L, resposta.proximo());
+    }
+
+    @Test
+    void testComAlteracoesPendentesRespondeNaHora() {
+        when(produtoOutbox.buscarDesde(5L, 100)).thenReturn(List.of(alteracao(6L), alteracao(7L)));
+
+        DeferredResult<ResponseEntity<ProdutoAlteracoesApiResponseDto>> resultado = controller.listarAlteracoes(5L, 100, 25);
+
+        assertEquals(2, corpo(resultado).alteracoes().size());
+        assertEquals(7L, corpo(resultado).proximo());
+    }
+
+    @Test
+    void testSemAlteracoesEsperaAProximaPublicacao() {
+        when(produtoOutbox.buscarDesde(7L, 100)).thenReturn(List.of());
+
+        DeferredResult<ResponseEntity<ProdutoAlteracoesApiResponseDto>> resultado = controller.listarAlteracoes(7L, 100, 25);
+        assertFalse(resultado.hasResult());
+        assertEquals(1, sinkLocal.quantidadeAssinantes());
+
+        sinkLocal.aoPublicarAlteracoes(new ProdutoAlteracoesPublicadasEvent(List.of(alteracao(8L))));
+
+        assertEquals(8L, corpo(resultado).proximo());
+    }
+
+    @Test
+    void testLoteQueNaoEmendaNoCursorEBuscadoDoBanco() {
+        when(produtoOutbox.buscarDesde(7L, 100)).thenReturn(List.of(), List.of(alteracao(8L), alteracao(9L), alteracao(10L)));
+
+        DeferredResult<ResponseEntity<ProdutoAlteracoesApiResponseDto>> resultado = controller.listarAlteracoes(7L, 100, 25);
+        sinkLocal.aoPublicarAlteracoes(new ProdutoAlteracoesPublicadasEvent(List.of(alteracao(10L))));
+
+        assertEquals(3, corpo(resultado).alteracoes().size());
+    }
+
+    @Test
+    void testWaitZeroRespondeVazioSemEsperar() {
+        when(produtoOutbox.buscarDesde(7L, 100)).thenReturn(List.of());
+
+        DeferredResult<ResponseEntity<ProdutoAlteracoesApiResponseDto>> resultado = controller.listarAlteracoes(7L, 100, 0);
+
+        assertTrue(corpo(resultado).alteracoes().isEmpty());
+        assertEquals(7L, corpo(resultado).proximo());
+    }
+
+    @Test
+    void testLimitInvalido() {
+        assertThrows(IllegalArgumentException.class, () -> controller.listarAlteracoes(0L, 0, 25));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ProdutoAlteracoesApiResponseDto corpo(DeferredResult<ResponseEntity<ProdutoAlteracoesApiResponseDto>> resultado) {
+        assertTrue(resultado.hasResult());
+        return ((ResponseEntity<ProdutoAlteracoesApiResponseDto>) resultado.getResult()).getBody();
+    }
+
+    private static ProdutoAlteracao alteracao(long sequencia) {
+        return new ProdutoAlteracao(sequencia, TipoAlteracao.SALVO, sequencia, 1L, "Produto " + sequencia, "Descricao", 1.0, 100L,
+                Instant.EPOCH);
+    }
+}
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 
@@ -21,6 +22,7 @@ import org.springframework.test.context.jdbc.Sql;
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, classes = OrderhubProdutoServiceApplication.class)
 @ActiveProfiles("test")
@@ -37,6 +39,9 @@ public class ProdutoApiControllerIT {
     // @Autowired
     // private ProdutoRepositoryJpaGatewayImpl produtoRepositoryJpaGatewayImpl; // Não mais necessário para pré-condição se tudo vem do SQL
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @BeforeEach
@@ -164,6 +169,41 @@ public class ProdutoApiControllerIT {
                 .body("preco", equalTo(120.00f));
     }
 
+    @Test
+    @DisplayName("Should PATCH only the price and keep the other fields")
+    void shouldPatchOnlyThePrice() {
+        given()
+                .contentType(ContentType.JSON)
+                .body("{\"precoCentavos\":12345}")
+                .when()
+                .patch("/produtos/{id}", 103L)
+                .then()
+                .statusCode(200)
+                .body("nome", equalTo("Produto Original IT"))
+                .body("descricao", equalTo("Desc Original IT"))
+                .body("precoCentavos", equalTo(12345));
+    }
+
+    @Test
+    @DisplayName("Should PATCH a batch of prices and report the missing ids")
+    void shouldPatchABatchOfPrices() {
+        given()
+                .contentType(ContentType.JSON)
+                .body("[{\"id\":100,\"precoCentavos\":1100},{\"id\":101,\"preco\":55.5},{\"id\":9999,\"precoCentavos\":1}]")
+                .when()
+                .patch("/produtos")
+                .then()
+                .statusCode(200)
+                .body("atualizados", equalTo(2))
+                .body("naoEncontrados[0]", equalTo(9999));
+
+        // confere no banco: um GET passaria pelo ProdutoGatewayCache e deixaria o 101 em cache com o preço
+        // novo, que o db_clean.sql/db_load.sql (SQL puro, sem evento) não invalida para os testes seguintes
+        assertEquals(5550L, jdbcTemplate.queryForObject("select preco_centavos from produtos where id = 101", Long.class));
+        assertEquals("Produto Busca ID IT", jdbcTemplate.queryForObject("select nome from produtos where id = 101", String.class));
+        assertEquals(1100L, jdbcTemplate.queryForObject("select preco_centavos from produtos where id = 100", Long.class));
+    }
+
     @Test
     @DisplayName("Should return 404 NOT FOUND when updating non-existent product")
     void shouldReturnNotFoundWhenUpdatingNonExistentProduct() throws JsonProcessingException {
@@ -1,13 +1,22 @@
 package br.com.orderhub.produto_service.adapter.controller;
 
 import br.com.orderhub.core.controller.ProdutoController;
+import br.com.orderhub.core.domain.entities.Produto;
 import br.com.orderhub.core.dto.produtos.CriarProdutoDTO;
 import br.com.orderhub.core.dto.produtos.ProdutoDTO;
 import br.com.orderhub.core.exceptions.ProdutoJaExisteException;
 import br.com.orderhub.core.exceptions.ProdutoNaoEncontradoException;
+import br.com.orderhub.core.interfaces.IProdutoGateway;
 import br.com.orderhub.produto_service.adapter.api.handler.OrderhubExceptionHandler;
 import br.com.orderhub.produto_service.adapter.dto.ProdutoApiRequestDto;
 import br.com.orderhub.produto_service.adapter.dto.ProdutoApiResponseDto;
+import br.com.orderhub.produto_service.adapter.dto.ProdutoLoteApiRequestDto;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoConsulta;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoLeitura;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoOrdenacao;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoPagina;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoRepositoryJpaGatewayImpl;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoResumo;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.AfterEach;
@@ -15,19 +24,28 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -45,7 +63,15 @@ public class ProdutoApiControllerTest {
     @Mock
     private ProdutoController produtoController;
 
-    @InjectMocks
+    @Mock
+    private ProdutoRepositoryJpaGatewayImpl produtoGateway;
+
+    @Mock
+    private IProdutoGateway produtoGatewayDecorado;
+
+    @Mock
+    private ProdutoLeitura produtoLeitura;
+
     private ProdutoApiController produtoApiController;
 
     private MockMvc mockMvc;
@@ -58,7 +84,8 @@ public class ProdutoApiControllerTest {
     @BeforeEach
     void setUp() {
         mocks = MockitoAnnotations.openMocks(this);
-        produtoApiController = new ProdutoApiController(produtoController);
+        produtoApiController = new ProdutoApiController(produtoController, produtoGateway, produtoGatewayDecorado,
+                produtoLeitura, objectMapper);
         mockMvc = MockMvcBuilders.standaloneSetup(produtoApiController)
                 .setControllerAdvice(new OrderhubExceptionHandler())
                 .addFilter((request, response, chain) -> {
@@ -83,7 +110,8 @@ public class ProdutoApiControllerTest {
         @Test
         @DisplayName("Should return 200 OK and product by ID")
         void testBuscarProdutoPorId_success() throws Exception {
-            when(produtoController.buscarProdutoPorId(1L)).thenReturn(produtoDTO);
+            when(produtoLeitura.buscarPorId(1L))
+                    .thenReturn(Optional.of(new Produto(1L, "Produto Teste", "Descricao Teste", 100.00)));
 
             mockMvc.perform(get("/produtos/{id}", 1L)
                             .contentType(MediaType.APPLICATION_JSON))
@@ -92,14 +120,15 @@ public class ProdutoApiControllerTest {
                     .andExpect(jsonPath("$.id").value(1L))
                     .andExpect(jsonPath("$.nome").value("Produto Teste"));
 
-            verify(produtoController, times(1)).buscarProdutoPorId(1L);
+            verify(produtoLeitura, times(1)).buscarPorId(1L);
+            verifyNoInteractions(produtoController);
         }
 
         @Test
         @DisplayName("Should return 404 NOT FOUND when product by ID not found")
         void testBuscarProdutoPorId_notFound() throws Exception {
             // Seu controlador retorna NOT_FOUND().build(), que não tem corpo.
-            doThrow(new ProdutoNaoEncontradoException("Produto com ID 999 não encontrado")).when(produtoController).buscarProdutoPorId(999L);
+            when(produtoLeitura.buscarPorId(999L)).thenReturn(Optional.empty());
 
             mockMvc.perform(get("/produtos/{id}", 999L)
                             .contentType(MediaType.APPLICATION_JSON))
@@ -111,7 +140,8 @@ public class ProdutoApiControllerTest {
         @Test
         @DisplayName("Should return 200 OK and product by name")
         void testBuscarProdutoPorNome_success() throws Exception {
-            when(produtoController.buscarProdutoPorNome("Produto Teste")).thenReturn(produtoDTO);
+            when(produtoLeitura.buscarPorNome("Produto Teste"))
+                    .thenReturn(Optional.of(new Produto(1L, "Produto Teste", "Descricao Teste", 100.00)));
 
             mockMvc.perform(get("/produtos/nome/{nome}", "Produto Teste")
                             .contentType(MediaType.APPLICATION_JSON))
@@ -120,14 +150,15 @@ public class ProdutoApiControllerTest {
                     .andExpect(jsonPath("$.id").value(1L))
                     .andExpect(jsonPath("$.nome").value("Produto Teste"));
 
-            verify(produtoController, times(1)).buscarProdutoPorNome("Produto Teste");
+            verify(produtoLeitura, times(1)).buscarPorNome("Produto Teste");
+            verifyNoInteractions(produtoController);
         }
 
         @Test
         @DisplayName("Should return 404 NOT FOUND when product by name not found")
         void testBuscarProdutoPorNome_notFound() throws Exception {
             // Seu controlador retorna NOT_FOUND().build(), que não tem corpo.
-            doThrow(new ProdutoNaoEncontradoException("Produto com nome Inexistente não encontrado")).when(produtoController).buscarProdutoPorNome("Inexistente");
+            when(produtoLeitura.buscarPorNome("Inexistente")).thenReturn(Optional.empty());
 
             mockMvc.perform(get("/produtos/nome/{nome}", "Inexistente")
                             .contentType(MediaType.APPLICATION_JSON))
@@ -137,6 +168,150 @@ public class ProdutoApiControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET Listagem Paginada Cases")
+    class ListagemPaginadaCases {
+        @Test
+        @DisplayName("Should return a page and the next cursor when the page is full")
+        void testListarPagina_paginaCheia() throws Exception {
+            when(produtoGateway.listarResumos(10L, 2)).thenReturn(List.of(
+                    new ProdutoResumo(11L, "P11", "D11", 100L),
+                    new ProdutoResumo(12L, "P12", "D12", 200L)
+            ));
+
+            mockMvc.perform(get("/produtos").param("after", "10").param("limit", "2"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.produtos.length()").value(2))
+                    .andExpect(jsonPath("$.produtos[0].id").value(11L))
+                    .andExpect(jsonPath("$.proximo").value(12L));
+        }
+
+        @Test
+        @DisplayName("Should return a null cursor on the last page")
+        void testListarPagina_ultimaPagina() throws Exception {
+            when(produtoGateway.listarResumos(null, 5)).thenReturn(List.of(new ProdutoResumo(1L, "P1", "D1", 100L)));
+
+            mockMvc.perform(get("/produtos").param("limit", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.produtos.length()").value(1))
+                    .andExpect(jsonPath("$.proximo").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Should return 400 BAD REQUEST when limit is not positive")
+        void testListarPagina_limiteInvalido() throws Exception {
+            mockMvc.perform(get("/produtos").param("limit", "0"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Should filter by price band and sort by price using the opaque cursor")
+        void testListarPagina_faixaDePrecoOrdenada() throws Exception {
+            when(produtoGateway.listarPagina(any(ProdutoConsulta.class))).thenReturn(new ProdutoPagina(
+                    List.of(new Produto(7L, "P7", "D7", 10.5)), "cursor-seguinte"));
+
+            mockMvc.perform(get("/produtos")
+                            .param("minPreco", "10.50").param("maxPreco", "20")
+                            .param("sort", "preco,desc").param("limit", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.produtos[0].precoCentavos").value(1050))
+                    .andExpect(jsonPath("$.cursor").value("cursor-seguinte"))
+                    .andExpect(jsonPath("$.proximo").doesNotExist());
+
+            verify(produtoGateway).listarPagina(new ProdutoConsulta(1050L, 2000L, ProdutoOrdenacao.PRECO_DESC, null, 1));
+        }
+
+        @Test
+        @DisplayName("Should return 400 BAD REQUEST when minPreco is greater than maxPreco")
+        void testListarPagina_faixaInvertida() throws Exception {
+            mockMvc.perform(get("/produtos").param("minPreco", "30").param("maxPreco", "20").param("limit", "10"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Should return 400 BAD REQUEST for an unknown sort field")
+        void testListarPagina_ordenacaoInvalida() throws Exception {
+            mockMvc.perform(get("/produtos").param("sort", "descricao,asc").param("limit", "10"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Should return 400 BAD REQUEST when filtering without limit")
+        void testListarPagina_filtroSemLimit() throws Exception {
+            mockMvc.perform(get("/produtos").param("minPreco", "10"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Should list the whole catalog from the projection without going through the core controller")
+        void testListarTodosProdutos_projecao() throws Exception {
+            when(produtoGateway.listarTodosResumos()).thenReturn(List.of(new ProdutoResumo(1L, "P1", "D1", 1999L)));
+
+            mockMvc.perform(get("/produtos"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].id").value(1L))
+                    .andExpect(jsonPath("$[0].preco").value(19.99))
+                    .andExpect(jsonPath("$[0].precoCentavos").value(1999));
+
+            verifyNoInteractions(produtoController);
+        }
+
+        @Test
+        @DisplayName("Should stream the catalog as NDJSON")
+        void testExportarProdutos_ndjson() throws Exception {
+            doAnswer(invocation -> {
+                Consumer<ProdutoResumo> consumidor = invocation.getArgument(0);
+                consumidor.accept(new ProdutoResumo(1L, "P1", "D1", 100L));
+                consumidor.accept(new ProdutoResumo(2L, "P2", "D2", 200L));
+                return null;
+            }).when(produtoGateway).percorrerResumos(any());
+
+            MvcResult resultado = mockMvc.perform(get("/produtos/stream")).andReturn();
+
+            mockMvc.perform(asyncDispatch(resultado))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType("application/x-ndjson"))
+                    .andExpect(content().string(
+                            "{\"id\":1,\"nome\":\"P1\",\"descricao\":\"D1\",\"preco\":1.0,\"precoCentavos\":100}\n"
+                                    + "{\"id\":2,\"nome\":\"P2\",\"descricao\":\"D2\",\"preco\":2.0,\"precoCentavos\":200}\n"));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST Busca em Lote Cases")
+    class BuscaEmLoteCases {
+        @Test
+        @DisplayName("Should return found products in request order and list the missing ids")
+        void testBuscarPorIds_parcial() throws Exception {
+            when(produtoGateway.buscarResumosPorIds(Set.of(3L, 1L, 99L))).thenReturn(List.of(
+                    new ProdutoResumo(1L, "P1", "D1", 100L),
+                    new ProdutoResumo(3L, "P3", "D3", 300L)
+            ));
+
+            mockMvc.perform(post("/produtos/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(asJsonString(new ProdutoLoteApiRequestDto(List.of(3L, 1L, 99L, 3L)))))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.produtos.length()").value(2))
+                    .andExpect(jsonPath("$.produtos[0].id").value(3L))
+                    .andExpect(jsonPath("$.produtos[1].id").value(1L))
+                    .andExpect(jsonPath("$.naoEncontrados[0]").value(99L));
+
+            verify(produtoGateway, times(1)).buscarResumosPorIds(any());
+        }
+
+        @Test
+        @DisplayName("Should return 400 BAD REQUEST for an empty id list")
+        void testBuscarPorIds_vazio() throws Exception {
+            mockMvc.perform(post("/produtos/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(asJsonString(new ProdutoLoteApiRequestDto(List.of()))))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("POST CriarProduto Cases")
     class CriarProdutoCases {
@@ -171,6 +346,20 @@ public class ProdutoApiControllerTest {
                     .andExpect(content().string("O produto 'Produto Existente' já existe!")); // <-- CORREÇÃO: Espera a string pura
         }
 
+        @Test
+        @DisplayName("Should return 400 BAD REQUEST for an integrity violation other than a duplicate name")
+        void testCriarProduto_integrityViolation() throws Exception {
+            doThrow(new DataIntegrityViolationException("NULL not allowed for column \"NOME\""))
+                    .when(produtoController).criarProduto(any(CriarProdutoDTO.class));
+
+            mockMvc.perform(post("/produtos/create")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(asJsonString(produtoApiRequestDto)))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().string("Violação de integridade dos dados."));
+        }
+
         @Test
         @DisplayName("Should return 400 BAD REQUEST for invalid input (e.g., empty name)")
         void testCriarProduto_invalidInput() throws Exception {
@@ -197,7 +386,7 @@ public class ProdutoApiControllerTest {
         @Test
         @DisplayName("Should return 200 OK and updated product")
         void testEditarProduto_success() throws Exception {
-            when(produtoController.editarProduto(any(ProdutoDTO.class))).thenReturn(produtoDTO);
+            when(produtoGatewayDecorado.atualizar(any(Produto.class))).thenReturn(new Produto(1L, "Produto Teste", "Descricao Teste", 100.00));
 
             mockMvc.perform(put("/produtos/{id}", 1L)
                             .contentType(MediaType.APPLICATION_JSON)
@@ -206,7 +395,8 @@ public class ProdutoApiControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.nome").value("Produto Teste"));
 
-            verify(produtoController, times(1)).editarProduto(any(ProdutoDTO.class));
+            verify(produtoGatewayDecorado, times(1)).atualizar(any(Produto.class));
+            verifyNoInteractions(produtoController, produtoGateway);
         }
 
         @Test
@@ -215,7 +405,7 @@ public class ProdutoApiControllerTest {
             // O controller não tem um try-catch para ProdutoNaoEncontradoException no editarProduto,
             // então a exceção será capturada pelo OrderhubExceptionHandler
             doThrow(new ProdutoNaoEncontradoException("Produto com ID 999 não encontrado"))
-                    .when(produtoController).editarProduto(any(ProdutoDTO.class));
+                    .when(produtoGatewayDecorado).atualizar(any(Produto.class));
 
             mockMvc.perform(put("/produtos/{id}", 999L)
                             .contentType(MediaType.APPLICATION_JSON)
@@ -232,14 +422,15 @@ public class ProdutoApiControllerTest {
         @Test
         @DisplayName("Should return 204 NO CONTENT when product deleted successfully")
         void testDeletarProduto_success() throws Exception {
-            doNothing().when(produtoController).deletarProduto(1L);
+            doNothing().when(produtoGatewayDecorado).deletar(1L);
 
             mockMvc.perform(delete("/produtos/{id}", 1L)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andDo(print())
                     .andExpect(status().isNoContent());
 
-            verify(produtoController, times(1)).deletarProduto(1L);
+            verify(produtoGatewayDecorado, times(1)).deletar(1L);
+            verifyNoInteractions(produtoController, produtoGateway);
         }
 
         @Test
@@ -248,7 +439,7 @@ public class ProdutoApiControllerTest {
             // O controller não tem um try-catch para ProdutoNaoEncontradoException no deletarProduto,
             // então a exceção será capturada pelo OrderhubExceptionHandler
             doThrow(new ProdutoNaoEncontradoException("Produto com ID 999 não encontrado"))
-                    .when(produtoController).deletarProduto(999L);
+                    .when(produtoGatewayDecorado).deletar(999L);
 
             mockMvc.perform(delete("/produtos/{id}", 999L)
                             .contentType(MediaType.APPLICATION_JSON))
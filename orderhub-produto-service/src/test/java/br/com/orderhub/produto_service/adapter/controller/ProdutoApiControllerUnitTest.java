@@ -1,22 +1,28 @@
 package br.com.orderhub.produto_service.adapter.controller;
 
 import br.com.orderhub.core.controller.ProdutoController;
+import br.com.orderhub.core.domain.entities.Produto;
 import br.com.orderhub.core.dto.produtos.CriarProdutoDTO;
 import br.com.orderhub.core.dto.produtos.ProdutoDTO;
 import br.com.orderhub.core.exceptions.ProdutoJaExisteException;
 import br.com.orderhub.core.exceptions.ProdutoNaoEncontradoException;
+import br.com.orderhub.core.interfaces.IProdutoGateway;
 import br.com.orderhub.produto_service.adapter.dto.ProdutoApiRequestDto;
 import br.com.orderhub.produto_service.adapter.dto.ProdutoApiResponseDto;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoLeitura;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoRepositoryJpaGatewayImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy; // Importe este para testar exceções
 import static org.mockito.ArgumentMatchers.any;
@@ -33,7 +39,15 @@ class ProdutoApiControllerUnitTest {
     @Mock
     private ProdutoController produtoController;
 
-    @InjectMocks
+    @Mock
+    private ProdutoRepositoryJpaGatewayImpl produtoGateway;
+
+    @Mock
+    private IProdutoGateway produtoGatewayDecorado;
+
+    @Mock
+    private ProdutoLeitura produtoLeitura;
+
     private ProdutoApiController produtoApiController;
 
     private ProdutoDTO produtoDTO;
@@ -42,6 +56,9 @@ class ProdutoApiControllerUnitTest {
 
     @BeforeEach
     void setUp() {
+        // construído à mão: o mock do gateway JPA também é um IProdutoGateway e confundiria o @InjectMocks
+        produtoApiController = new ProdutoApiController(produtoController, produtoGateway, produtoGatewayDecorado,
+                produtoLeitura, new ObjectMapper());
         produtoDTO = new ProdutoDTO(1L, "Produto Teste", "Descricao Teste", 100.00);
         produtoApiRequestDto = new ProdutoApiRequestDto("Produto Teste", "Descricao Teste", 100.00);
         produtoApiResponseDto = new ProdutoApiResponseDto(1L, "Produto Teste", "Descricao Teste", 100.00);
@@ -50,43 +67,45 @@ class ProdutoApiControllerUnitTest {
     @Test
     @DisplayName("Deve buscar produto por ID com sucesso")
     void deveBuscarProdutoPorIdComSucesso() {
-        when(produtoController.buscarProdutoPorId(anyLong())).thenReturn(produtoDTO);
+        when(produtoLeitura.buscarPorId(anyLong()))
+                .thenReturn(Optional.of(new Produto(1L, "Produto Teste", "Descricao Teste", 100.00)));
         ResponseEntity<ProdutoApiResponseDto> response = produtoApiController.buscarProdutoPorId(1L);
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(produtoApiResponseDto);
-        verify(produtoController).buscarProdutoPorId(1L);
+        verify(produtoLeitura).buscarPorId(1L);
     }
 
     @Test
     @DisplayName("Deve retornar NOT_FOUND ao buscar produto por ID inexistente")
     void deveRetornarNotFoundAoBuscarProdutoPorIdInexistente() {
-        // Aqui o catch no controlador já lida com ProdutoNaoEncontradoException, então testamos o retorno do ResponseEntity
-        doThrow(new ProdutoNaoEncontradoException("Produto não encontrado")).when(produtoController).buscarProdutoPorId(anyLong());
+        // A busca devolve Optional vazio e o controlador responde 404 sem exceção
+        when(produtoLeitura.buscarPorId(anyLong())).thenReturn(Optional.empty());
         ResponseEntity<ProdutoApiResponseDto> response = produtoApiController.buscarProdutoPorId(99L);
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
         assertThat(response.getBody()).isNull();
-        verify(produtoController).buscarProdutoPorId(99L);
+        verify(produtoLeitura).buscarPorId(99L);
     }
 
     @Test
     @DisplayName("Deve buscar produto por nome com sucesso")
     void deveBuscarProdutoPorNomeComSucesso() {
-        when(produtoController.buscarProdutoPorNome(anyString())).thenReturn(produtoDTO);
+        when(produtoLeitura.buscarPorNome(anyString()))
+                .thenReturn(Optional.of(new Produto(1L, "Produto Teste", "Descricao Teste", 100.00)));
         ResponseEntity<ProdutoApiResponseDto> response = produtoApiController.buscarProdutoPorId("Produto Teste");
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(produtoApiResponseDto);
-        verify(produtoController).buscarProdutoPorNome("Produto Teste");
+        verify(produtoLeitura).buscarPorNome("Produto Teste");
     }
 
     @Test
     @DisplayName("Deve retornar NOT_FOUND ao buscar produto por nome inexistente")
     void deveRetornarNotFoundAoBuscarProdutoPorNomeInexistente() {
-        // Aqui o catch no controlador já lida com ProdutoNaoEncontradoException, então testamos o retorno do ResponseEntity
-        doThrow(new ProdutoNaoEncontradoException("Produto não encontrado")).when(produtoController).buscarProdutoPorNome(anyString());
+        // A busca devolve Optional vazio e o controlador responde 404 sem exceção
+        when(produtoLeitura.buscarPorNome(anyString())).thenReturn(Optional.empty());
         ResponseEntity<ProdutoApiResponseDto> response = produtoApiController.buscarProdutoPorId("Nome Inexistente");
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
         assertThat(response.getBody()).isNull();
-        verify(produtoController).buscarProdutoPorNome("Nome Inexistente");
+        verify(produtoLeitura).buscarPorNome("Nome Inexistente");
     }
 
     @Test
@@ -118,18 +137,18 @@ class ProdutoApiControllerUnitTest {
     @Test
     @DisplayName("Deve editar produto com sucesso")
     void deveEditarProdutoComSucesso() {
-        when(produtoController.editarProduto(any(ProdutoDTO.class))).thenReturn(produtoDTO);
+        when(produtoGatewayDecorado.atualizar(any(Produto.class))).thenReturn(new Produto(1L, "Produto Teste", "Descricao Teste", 100.00));
         ResponseEntity<ProdutoApiResponseDto> response = produtoApiController.editarProduto(1L, produtoApiRequestDto);
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(produtoApiResponseDto);
-        verify(produtoController).editarProduto(any(ProdutoDTO.class));
+        verify(produtoGatewayDecorado).atualizar(any(Produto.class));
     }
 
     @Test
     @DisplayName("Deve lançar ProdutoNaoEncontradoException ao tentar editar produto inexistente")
     void deveLancarProdutoNaoEncontradoExceptionAoEditarProdutoInexistente() {
         // Dado
-        doThrow(new ProdutoNaoEncontradoException("Produto não encontrado")).when(produtoController).editarProduto(any(ProdutoDTO.class));
+        doThrow(new ProdutoNaoEncontradoException("Produto não encontrado")).when(produtoGatewayDecorado).atualizar(any(Produto.class));
 
         // Quando / Então
         // O controller não tem try-catch para ProdutoNaoEncontradoException no método editarProduto,
@@ -137,25 +156,25 @@ class ProdutoApiControllerUnitTest {
         assertThatThrownBy(() -> produtoApiController.editarProduto(99L, produtoApiRequestDto))
                 .isInstanceOf(ProdutoNaoEncontradoException.class)
                 .hasMessageContaining("Produto não encontrado");
-        verify(produtoController).editarProduto(any(ProdutoDTO.class));
+        verify(produtoGatewayDecorado).atualizar(any(Produto.class));
     }
 
 
     @Test
     @DisplayName("Deve deletar produto com sucesso")
     void deveDeletarProdutoComSucesso() {
-        doNothing().when(produtoController).deletarProduto(anyLong());
+        doNothing().when(produtoGatewayDecorado).deletar(anyLong());
         ResponseEntity<Void> response = produtoApiController.deletarProduto(1L);
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
         assertThat(response.getBody()).isNull();
-        verify(produtoController).deletarProduto(1L);
+        verify(produtoGatewayDecorado).deletar(1L);
     }
 
     @Test
     @DisplayName("Deve lançar ProdutoNaoEncontradoException ao tentar deletar produto inexistente")
     void deveLancarProdutoNaoEncontradoExceptionAoDeletarProdutoInexistente() {
         // Dado
-        doThrow(new ProdutoNaoEncontradoException("Produto não encontrado")).when(produtoController).deletarProduto(anyLong());
+        doThrow(new ProdutoNaoEncontradoException("Produto não encontrado")).when(produtoGatewayDecorado).deletar(anyLong());
 
         // Quando / Então
         // O controller não tem try-catch para ProdutoNaoEncontradoException no método deletarProduto,
@@ -163,6 +182,6 @@ class ProdutoApiControllerUnitTest {
         assertThatThrownBy(() -> produtoApiController.deletarProduto(99L))
                 .isInstanceOf(ProdutoNaoEncontradoException.class)
                 .hasMessageContaining("Produto não encontrado");
-        verify(produtoController).deletarProduto(99L);
+        verify(produtoGatewayDecorado).deletar(99L);
     }
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+package br.com.orderhub.produto_service.adapter.controller;
+
+import br.com.orderhub.produto_service.adapter.api.handler.OrderhubExceptionHandler;
+import br.com.orderhub.produto_service.adapter.dto.ProdutoApiResponseDto;
+import br.com.orderhub.produto_service.adapter.dto.ProdutoLoteApiRequestDto;
+import br.com.orderhub.produto_service.adapter.dto.ProdutoLoteApiResponseDto;
+import br.com.orderhub.produto_service.adapter.execucao.ProdutoExecutorConsultas;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("ProdutoAsyncApiController Unit Tests")
+public class ProdutoAsyncApiControllerTest {
+
+    private final CountDownLatch liberar = new CountDownLatch(1);
+    private ProdutoApiController produtoApiController;
+    private ProdutoExecutorConsultas executorConsultas;
+
+    @BeforeEach
+    void setUp() {
+        produtoApiController = mock(ProdutoApiController.class);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        liberar.countDown();
+        executorConsultas.destroy();
+    }
+
+    @Test
+    @DisplayName("Should GET a product by id on the query pool")
+    void testBuscarProdutoPorId() throws Exception {
+        MockMvc mockMvc = mockMvc(2, 10, Duration.ofSeconds(5));
+        when(produtoApiController.buscarProdutoPorId(1L))
+                .thenReturn(ResponseEntity.ok(new ProdutoApiResponseDto(1L, "Cafe", "Bebida", 19.99, 1999L)));
+
+        MvcResult resultado = mockMvc.perform(get("/produtos/async/{id}", 1L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nome").value("Cafe"));
+    }
+
+    @Test
+    @DisplayName("Should POST a batch lookup on the query pool")
+    void testBuscarProdutosPorIds() throws Exception {
+        MockMvc mockMvc = mockMvc(2, 10, Duration.ofSeconds(5));
+        when(produtoApiController.buscarProdutosPorIds(any(ProdutoLoteApiRequestDto.class)))
+                .thenReturn(ResponseEntity.ok(new ProdutoLoteApiResponseDto(List.of(), List.of(7L))));
+
+        MvcResult resultado = mockMvc.perform(post("/produtos/async/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[7]}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.naoEncontrados[0]").value(7));
+    }
+
+    @Test
+    @DisplayName("Should return 504 GATEWAY TIMEOUT when the query misses its deadline")
+    void testBuscarProdutoPorId_PrazoVencido() throws Exception {
+        MockMvc mockMvc = mockMvc(1, 1, Duration.ofMillis(50));
+        when(produtoApiController.buscarProdutoPorId(1L)).thenAnswer(invocation -> {
+            liberar.await(10, TimeUnit.SECONDS);
+            return ResponseEntity.ok().build();
+        });
+
+        MvcResult resultado = mockMvc.perform(get("/produtos/async/{id}", 1L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isGatewayTimeout());
+    }
+
+    @Test
+    @DisplayName("Should return 503 with Retry-After when the query pool is full")
+    void testBuscarProdutoPorId_PoolCheio() throws Exception {
+        MockMvc mockMvc = mockMvc(1, 1, Duration.ofSeconds(5));
+        when(produtoApiController.buscarProdutoPorId(1L)).thenAnswer(invocation -> {
+            liberar.await(10, TimeUnit.SECONDS);
+            return ResponseEntity.ok().build();
+        });
+        executorConsultas.executar(() -> produtoApiController.buscarProdutoPorId(1L));
+        executorConsultas.executar(() -> produtoApiController.buscarProdutoPorId(1L));
+
+        mockMvc.perform(get("/produtos/async/{id}", 1L))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+
+    private MockMvc mockMvc(int threads, int fila, Duration timeout) {
+        executorConsultas = new ProdutoExecutorConsultas(threads, fila, timeout);
+        return MockMvcBuilders
+                .standaloneSetup(new ProdutoAsyncApiController(produtoApiController, executorConsultas))
+                .setControllerAdvice(new OrderhubExceptionHandler())
+                .build();
+    }
+}
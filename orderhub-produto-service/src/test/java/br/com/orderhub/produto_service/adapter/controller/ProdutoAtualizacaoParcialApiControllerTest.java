@@ -0,0 +1,107 @@
+package br.com.orderhub.produto_service.adapter.controller;
+
+import br.com.orderhub.core.domain.entities.Produto;
+import br.com.orderhub.core.exceptions.ProdutoNaoEncontradoException;
+import br.com.orderhub.produto_service.adapter.api.handler.OrderhubExceptionHandler;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoAtualizacaoParcialResultado;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoRepositoryJpaGatewayImpl;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoAtualizacaoParcial;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("ProdutoAtualizacaoParcialApiController Unit Tests")
+public class ProdutoAtualizacaoParcialApiControllerTest {
+
+    private ProdutoRepositoryJpaGatewayImpl produtoGateway;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        produtoGateway = mock(ProdutoRepositoryJpaGatewayImpl.class);
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new ProdutoAtualizacaoParcialApiController(produtoGateway, new ObjectMapper(), 2))
+                .setControllerAdvice(new OrderhubExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should PATCH only the supplied fields of one product")
+    void testAtualizarProdutoParcial() throws Exception {
+        when(produtoGateway.atualizarParcial(new ProdutoAtualizacaoParcial(7L, null, null, 1999L)))
+                .thenReturn(new Produto(7L, "Cafe", "Bebida", 19.99));
+
+        mockMvc.perform(patch("/produtos/{id}", 7L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"preco\":19.99}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nome").value("Cafe"))
+                .andExpect(jsonPath("$.precoCentavos").value(1999));
+    }
+
+    @Test
+    @DisplayName("Should return 404 NOT FOUND when the product does not exist")
+    void testAtualizarProdutoParcial_inexistente() throws Exception {
+        when(produtoGateway.atualizarParcial(any(ProdutoAtualizacaoParcial.class)))
+                .thenThrow(new ProdutoNaoEncontradoException("Produto com ID 9não encontrado"));
+
+        mockMvc.perform(patch("/produtos/{id}", 9L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\":\"Outro\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should return 400 BAD REQUEST for an empty PATCH")
+    void testAtualizarProdutoParcial_semCampos() throws Exception {
+        mockMvc.perform(patch("/produtos/{id}", 7L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(produtoGateway);
+    }
+
+    @Test
+    @DisplayName("Should PATCH NDJSON in batches and report missing and invalid rows")
+    void testAtualizarProdutosParcialNdjson() throws Exception {
+        when(produtoGateway.atualizarParcial(anyList()))
+                .thenReturn(new ProdutoAtualizacaoParcialResultado(List.of(new Produto(1L, "A", "D", 1.0)), List.of(2L)))
+                .thenReturn(new ProdutoAtualizacaoParcialResultado(List.of(new Produto(3L, "C", "D", 3.0)), List.of()));
+
+        String ndjson = """
+                {"id":1,"precoCentavos":100}
+                {"precoCentavos":100}
+                {"id":2,"precoCentavos":200}
+                {"id":3,"precoCentavos":300}
+                """;
+
+        mockMvc.perform(patch("/produtos")
+                        .contentType("application/x-ndjson")
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.atualizados").value(2))
+                .andExpect(jsonPath("$.naoEncontrados[0]").value(2L))
+                .andExpect(jsonPath("$.invalidos[0].linha").value(2))
+                .andExpect(jsonPath("$.invalidos[0].status").value("INVALIDO"));
+
+        verify(produtoGateway, times(2)).atualizarParcial(anyList());
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.orderhub.produto_service.adapter.controller;
+
+import br.com.orderhub.produto_service.adapter.catalogo.ProdutoCatalogoSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ProdutoCatalogoApiControllerTest {
+
+    private static final byte[] JSON = "[]".getBytes();
+    private static final byte[] GZIP = {0x1f, (byte) 0x8b};
+
+    private ProdutoCatalogoApiController controller;
+
+    @BeforeEach
+    void setUp() {
+        ProdutoCatalogoSnapshot snapshot = mock(ProdutoCatalogoSnapshot.class);
+        when(snapshot.obter()).thenReturn(new ProdutoCatalogoSnapshot.Conteudo(JSON, GZIP));
+        controller = new ProdutoCatalogoApiController(snapshot);
+    }
+
+    @Test
+    void testComGzipServeOArrayComprimido() {
+        ResponseEntity<byte[]> resposta = controller.listarCatalogo("gzip, deflate, br");
+
+        assertSame(GZIP, resposta.getBody());
+        assertEquals("gzip", resposta.getHeaders().getFirst("Content-Encoding"));
+        assertEquals("Accept-Encoding", resposta.getHeaders().getFirst("Vary"));
+    }
+
+    @Test
+    void testSemGzipServeOJson() {
+        ResponseEntity<byte[]> resposta = controller.listarCatalogo(null);
+
+        assertSame(JSON, resposta.getBody());
+        assertNull(resposta.getHeaders().getFirst("Content-Encoding"));
+    }
+}
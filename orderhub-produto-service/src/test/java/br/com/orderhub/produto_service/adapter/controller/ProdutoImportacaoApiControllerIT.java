@@ -0,0 +1,64 @@
+package br.com.orderhub.produto_service.adapter.controller;
+
+import br.com.orderhub.produto_service.OrderhubProdutoServiceApplication;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, classes = OrderhubProdutoServiceApplication.class)
+@ActiveProfiles("test")
+@Sql(scripts = {"classpath:/db_clean.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = {"classpath:/db_clean.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@DisplayName("ProdutoImportacaoApiController Integration Tests")
+public class ProdutoImportacaoApiControllerIT {
+
+    private static final int QUANTIDADE = 5_000;
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+    }
+
+    @Test
+    @DisplayName("Should import and then upsert a large NDJSON catalog")
+    void shouldImportLargeCatalog() {
+        given()
+                .contentType("application/x-ndjson")
+                .body(gerarNdjson(QUANTIDADE, 10.0))
+                .when()
+                .post("/produtos/import")
+                .then()
+                .statusCode(200)
+                .body("criados", equalTo(QUANTIDADE))
+                .body("invalidos", equalTo(0));
+
+        given()
+                .contentType("application/x-ndjson")
+                .body(gerarNdjson(QUANTIDADE, 20.0))
+                .when()
+                .post("/produtos/import")
+                .then()
+                .statusCode(200)
+                .body("atualizados", equalTo(QUANTIDADE));
+    }
+
+    private static String gerarNdjson(int quantidade, double preco) {
+        StringBuilder sb = new StringBuilder(quantidade * 64);
+        for (int i = 0; i < quantidade; i++) {
+            sb.append("{\"nome\":\"Produto Importado ").append(i)
+                    .append("\",\"descricao\":\"Importado IT\",\"preco\":").append(preco).append("}\n");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.orderhub.produto_service.adapter.controller;
+
+import br.com.orderhub.core.domain.entities.Produto;
+import br.com.orderhub.produto_service.adapter.api.handler.OrderhubExceptionHandler;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoImportado;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoRepositoryJpaGatewayImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("ProdutoImportacaoApiController Unit Tests")
+public class ProdutoImportacaoApiControllerTest {
+
+    private ProdutoRepositoryJpaGatewayImpl produtoGateway;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        produtoGateway = mock(ProdutoRepositoryJpaGatewayImpl.class);
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new ProdutoImportacaoApiController(produtoGateway, new ObjectMapper(), 2))
+                .setControllerAdvice(new OrderhubExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should import NDJSON in batches and report per-row results")
+    void testImportarNdjson() throws Exception {
+        when(produtoGateway.importarLote(anyList()))
+                .thenReturn(List.of(
+                        new ProdutoImportado(new Produto(1L, "A", "D", 1.0), true),
+                        new ProdutoImportado(new Produto(2L, "B", "D", 2.0), false)))
+                .thenReturn(List.of(
+                        new ProdutoImportado(new Produto(3L, "C", "D", 3.0), true)));
+
+        String ndjson = """
+                {"nome":"A","descricao":"D","preco":1.0}
+                {"nome":"","descricao":"D","preco":1.0}
+                {"nome":"B","descricao":"D","preco":2.0}
+                {"nome":"C","descricao":"D","preco":3.0}
+                """;
+
+        mockMvc.perform(post("/produtos/import")
+                        .contentType("application/x-ndjson")
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.criados").value(2))
+                .andExpect(jsonPath("$.atualizados").value(1))
+                .andExpect(jsonPath("$.invalidos").value(1))
+                .andExpect(jsonPath("$.resultados[1].linha").value(2))
+                .andExpect(jsonPath("$.resultados[1].status").value("INVALIDO"))
+                .andExpect(jsonPath("$.resultados[2].id").value(2L))
+                .andExpect(jsonPath("$.resultados[3].status").value("CRIADO"));
+
+        verify(produtoGateway, times(2)).importarLote(anyList());
+    }
+
+    @Test
+    @DisplayName("Should accept a JSON array")
+    void testImportarArrayJson() throws Exception {
+        when(produtoGateway.importarLote(anyList()))
+                .thenReturn(List.of(new ProdutoImportado(new Produto(1L, "A", "D", 1.0), true)));
+
+        mockMvc.perform(post("/produtos/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"nome\":\"A\",\"descricao\":\"D\",\"preco\":1.0},{\"nome\":\"X\",\"preco\":-1}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.criados").value(1))
+                .andExpect(jsonPath("$.invalidos").value(1));
+    }
+}
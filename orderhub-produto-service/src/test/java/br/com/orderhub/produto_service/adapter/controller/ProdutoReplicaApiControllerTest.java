@@ -0,0 +1,77 @@
+package br.com.orderhub.produto_service.adapter.controller;
+
+import br.com.orderhub.produto_service.adapter.api.handler.OrderhubExceptionHandler;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoGatewayReplica;
+import br.com.orderhub.produto_service.adapter.replica.ProdutoReplicaArquivo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("ProdutoReplicaApiController Unit Tests")
+public class ProdutoReplicaApiControllerTest {
+
+    private ProdutoGatewayReplica produtoGatewayReplica;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        produtoGatewayReplica = mock(ProdutoGatewayReplica.class);
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new ProdutoReplicaApiController(produtoGatewayReplica))
+                .setControllerAdvice(new OrderhubExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should report the replica state")
+    void testEstado() throws Exception {
+        when(produtoGatewayReplica.pronta()).thenReturn(true);
+        when(produtoGatewayReplica.origem()).thenReturn("SNAPSHOT");
+        when(produtoGatewayReplica.quantidade()).thenReturn(3);
+        when(produtoGatewayReplica.ultimaSequencia()).thenReturn(42L);
+
+        mockMvc.perform(get("/produtos/replica"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pronta").value(true))
+                .andExpect(jsonPath("$.origem").value("SNAPSHOT"))
+                .andExpect(jsonPath("$.quantidade").value(3))
+                .andExpect(jsonPath("$.ultimaSequencia").value(42));
+    }
+
+    @Test
+    @DisplayName("Should export the snapshot file")
+    void testExportarSnapshot() throws Exception {
+        when(produtoGatewayReplica.podeExportar()).thenReturn(true);
+        when(produtoGatewayReplica.exportarSnapshot())
+                .thenReturn(new ProdutoReplicaArquivo.Resumo(42L, Instant.now(), 3, 256L));
+
+        mockMvc.perform(post("/produtos/replica/snapshot"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.sequencia").value(42))
+                .andExpect(jsonPath("$.bytes").value(256));
+    }
+
+    @Test
+    @DisplayName("Should return 409 CONFLICT when the snapshot cannot be exported")
+    void testExportarSnapshot_IndisponivelRetornaConflito() throws Exception {
+        when(produtoGatewayReplica.podeExportar()).thenReturn(false);
+
+        mockMvc.perform(post("/produtos/replica/snapshot"))
+                .andExpect(status().isConflict());
+
+        verify(produtoGatewayReplica, never()).exportarSnapshot();
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.orderhub.produto_service.adapter.delta;
+
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoEntity;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoOutboxRepository;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoRemovidoEntity;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoRemovidoRepository;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class ProdutoDeltaLeitorTest {
+
+    private ProdutoRepository produtoRepository;
+    private ProdutoRemovidoRepository removidoRepository;
+    private ProdutoOutboxRepository outboxRepository;
+    private ProdutoDeltaLeitor leitor;
+
+    @BeforeEach
+    void setUp() {
+        produtoRepository = mock(ProdutoRepository.class);
+        removidoRepository = mock(ProdutoRemovidoRepository.class);
+        outboxRepository = mock(ProdutoOutboxRepository.class);
+        leitor = new ProdutoDeltaLeitor(produtoRepository, removidoRepository, outboxRepository);
+    }
+
+    @Test
+    void testSemPublicacoesNovasDevolveOMesmoToken() {
+        when(outboxRepository.findUltimaSequencia()).thenReturn(10L);
+
+        ProdutoDelta delta = leitor.buscarDesde(10L, 100);
+
+        assertTrue(delta.salvos().isEmpty());
+        assertTrue(delta.removidos().isEmpty());
+        assertEquals(10L, delta.token());
+        verifyNoInteractions(produtoRepository, removidoRepository);
+    }
+
+    @Test
+    void testIntercalaSalvosERemovidosAteAUltimaPublicada() {
+        when(outboxRepository.findUltimaSequencia()).thenReturn(20L);
+        when(produtoRepository.findBySequenciaBetweenOrderBySequenciaAsc(eq(11L), eq(20L), any(Limit.class)))
+                .thenReturn(List.of(produto(1L, 11L), produto(3L, 14L)));
+        when(removidoRepository.findBySequenciaBetweenOrderBySequenciaAsc(eq(11L), eq(20L), any(Limit.class)))
+                .thenReturn(List.of(new ProdutoRemovidoEntity(2L, 12L, Instant.EPOCH)));
+
+        ProdutoDelta delta = leitor.buscarDesde(10L, 100);
+
+        assertEquals(List.of(1L, 3L), delta.salvos().stream().map(p -> p.getId()).toList());
+        assertEquals(List.of(2L), delta.removidos());
+        // as sequências 15..20 foram de produtos já alterados de novo: o próximo delta começa da última publicada
+        assertEquals(20L, delta.token());
+        assertFalse(delta.temMais());
+    }
+
+    @Test
+    void testLimiteCortaEmOrdemDeSequencia() {
+        when(outboxRepository.findUltimaSequencia()).thenReturn(20L);
+        when(produtoRepository.findBySequenciaBetweenOrderBySequenciaAsc(eq(1L), eq(20L), any(Limit.class)))
+                .thenReturn(List.of(produto(1L, 1L), produto(3L, 3L)));
+        when(removidoRepository.findBySequenciaBetweenOrderBySequenciaAsc(eq(1L), eq(20L), any(Limit.class)))
+                .thenReturn(List.of(new ProdutoRemovidoEntity(2L, 2L, Instant.EPOCH)));
+
+        ProdutoDelta delta = leitor.buscarDesde(0L, 2);
+
+        assertEquals(1, delta.salvos().size());
+        assertEquals(List.of(2L), delta.removidos());
+        assertEquals(2L, delta.token());
+        assertTrue(delta.temMais());
+    }
+
+    private static ProdutoEntity produto(Long id, Long sequencia) {
+        ProdutoEntity entity = new ProdutoEntity(id, "Produto " + id, "Descricao", 1.0);
+        entity.setSequencia(sequencia);
+        return entity;
+    }
+}
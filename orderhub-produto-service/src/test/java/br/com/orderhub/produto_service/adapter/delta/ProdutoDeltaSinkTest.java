@@ -0,0 +1,54 @@
+package br.com.orderhub.produto_service.adapter.delta;
+
+import br.com.orderhub.produto_service.adapter.outbox.ProdutoAlteracao;
+import br.com.orderhub.produto_service.adapter.outbox.TipoAlteracao;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoRemovidoEntity;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoRemovidoRepository;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ProdutoDeltaSinkTest {
+
+    private ProdutoRepository produtoRepository;
+    private ProdutoRemovidoRepository removidoRepository;
+    private ProdutoDeltaSink sink;
+
+    @BeforeEach
+    void setUp() {
+        produtoRepository = mock(ProdutoRepository.class);
+        removidoRepository = mock(ProdutoRemovidoRepository.class);
+        sink = new ProdutoDeltaSink(produtoRepository, removidoRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testAplicaSoAUltimaAlteracaoDeCadaProduto() {
+        sink.publicar(List.of(
+                alteracao(1L, 1L, TipoAlteracao.SALVO),
+                alteracao(2L, 2L, TipoAlteracao.SALVO),
+                alteracao(3L, 1L, TipoAlteracao.SALVO),
+                alteracao(4L, 2L, TipoAlteracao.REMOVIDO)
+        ));
+
+        verify(produtoRepository).updateSequencia(1L, 3L);
+        verify(produtoRepository, never()).updateSequencia(eq(2L), anyLong());
+
+        ArgumentCaptor<List<ProdutoRemovidoEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(removidoRepository).saveAll(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertEquals(2L, captor.getValue().get(0).getProdutoId());
+        assertEquals(4L, captor.getValue().get(0).getSequencia());
+    }
+
+    private static ProdutoAlteracao alteracao(Long sequencia, Long produtoId, TipoAlteracao tipo) {
+        return new ProdutoAlteracao(sequencia, tipo, produtoId, null, null, null, null, null, Instant.EPOCH);
+    }
+}
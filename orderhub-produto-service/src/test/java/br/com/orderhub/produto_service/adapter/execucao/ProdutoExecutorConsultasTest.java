@@ -0,0 +1,135 @@
+package br.com.orderhub.produto_service.adapter.execucao;
+
+import br.com.orderhub.produto_service.adapter.protecao.PrazoRequisicao;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProdutoExecutorConsultasTest {
+
+    private final CountDownLatch liberar = new CountDownLatch(1);
+    private ProdutoExecutorConsultas executor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        liberar.countDown();
+        executor.destroy();
+    }
+
+    @Test
+    void testExecutar_DevolveResultadoForaDaThreadChamadora() throws Exception {
+        executor = new ProdutoExecutorConsultas(2, 10, Duration.ofSeconds(5));
+
+        String thread = executor.executar(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+
+        assertTrue(thread.startsWith("produto-consulta-"));
+    }
+
+    @Test
+    void testExecutar_PoolEFilaCheiosRecusaNaHora() {
+        executor = new ProdutoExecutorConsultas(1, 1, Duration.ofSeconds(5));
+        executor.executar(this::esperarLiberacao);
+        executor.executar(this::esperarLiberacao);
+
+        assertThrows(RejectedExecutionException.class, () -> executor.executar(this::esperarLiberacao));
+    }
+
+    @Test
+    void testExecutar_PrazoVencidoFalhaComTimeout() {
+        executor = new ProdutoExecutorConsultas(1, 1, Duration.ofMillis(50));
+
+        CompletableFuture<Boolean> futuro = executor.executar(this::esperarLiberacao);
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> futuro.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, ex.getCause());
+    }
+
+    @Test
+    void testExecutar_LevaOPrazoDaRequisicaoParaOPool() throws Exception {
+        executor = new ProdutoExecutorConsultas(1, 1, Duration.ofSeconds(5));
+
+        Duration restante = PrazoRequisicao.executarCom(System.nanoTime() + 3_000_000_000L,
+                () -> executor.executar(PrazoRequisicao::restante)).get(5, TimeUnit.SECONDS);
+
+        assertNotNull(restante);
+        assertTrue(restante.compareTo(Duration.ofSeconds(3)) <= 0);
+    }
+
+    @Test
+    void testExecutar_PrazoDaRequisicaoMenorQueOTimeout() {
+        executor = new ProdutoExecutorConsultas(1, 1, Duration.ofSeconds(5));
+
+        CompletableFuture<Boolean> futuro = PrazoRequisicao.executarCom(System.nanoTime() + 50_000_000L,
+                () -> executor.executar(this::esperarLiberacao));
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> futuro.get(2, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, ex.getCause());
+    }
+
+    @Test
+    void testExecutar_SemPrazoDaRequisicaoOTimeoutViraOPrazoDaTarefa() throws Exception {
+        executor = new ProdutoExecutorConsultas(1, 1, Duration.ofSeconds(2));
+
+        Duration restante = executor.executar(PrazoRequisicao::restante).get(5, TimeUnit.SECONDS);
+
+        assertNotNull(restante);
+        assertTrue(restante.compareTo(Duration.ofSeconds(2)) <= 0);
+    }
+
+    @Test
+    void testExecutar_PrazoVencidoLiberaAThreadDoPool() throws Exception {
+        executor = new ProdutoExecutorConsultas(1, 1, Duration.ofMillis(100));
+        CountDownLatch terminou = new CountDownLatch(1);
+
+        CompletableFuture<Boolean> futuro = executor.executar(() -> {
+            try {
+                return consultarAteOTimeout();
+            } finally {
+                terminou.countDown();
+            }
+        });
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> futuro.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, ex.getCause());
+        assertTrue(terminou.await(2, TimeUnit.SECONDS), "a tarefa seguiu ocupando a thread depois do timeout");
+        assertEquals("livre", executor.executar(() -> "livre").get(2, TimeUnit.SECONDS));
+    }
+
+    // Faz o papel de uma consulta longa: roda até o timeout que o PrazoJpaTransactionManager daria ao statement
+    // (o prazo em PrazoRequisicao) e então falha como o driver falharia
+    private boolean consultarAteOTimeout() {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() - limite < 0) {
+            Duration restante = PrazoRequisicao.restante();
+            if (restante != null && (restante.isNegative() || restante.isZero())) {
+                throw new IllegalStateException("statement timeout");
+            }
+            if (esperar(5)) {
+                return true;
+            }
+        }
+        return true;
+    }
+
+    private boolean esperarLiberacao() {
+        return esperar(10_000);
+    }
+
+    private boolean esperar(long millis) {
+        try {
+            return liberar.await(millis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package br.com.orderhub.produto_service.adapter.gateway;
+
+import br.com.orderhub.core.domain.entities.Produto;
+import br.com.orderhub.core.interfaces.IProdutoGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ProdutoGatewayCacheTest {
+
+    private IProdutoGateway delegate;
+    private ProdutoGatewayCache gateway;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(IProdutoGateway.class);
+        gateway = new ProdutoGatewayCache(delegate, 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void testBuscarPorId_SegundaLeituraVemDoCache() {
+        when(delegate.buscarPorId(1L)).thenReturn(new Produto(1L, "Produto", "Descricao", 10.0));
+
+        gateway.buscarPorId(1L);
+        Produto produto = gateway.buscarPorId(1L);
+
+        assertEquals("Produto", produto.getNome());
+        verify(delegate, times(1)).buscarPorId(1L);
+        assertEquals(1, gateway.estatisticasPorId().hitCount());
+        assertEquals(1, gateway.estatisticasPorId().missCount());
+    }
+
+    @Test
+    void testBuscarPorId_NaoGuardaProdutoInexistente() {
+        when(delegate.buscarPorId(2L)).thenReturn(null);
+
+        assertNull(gateway.buscarPorId(2L));
+        assertNull(gateway.buscarPorId(2L));
+
+        verify(delegate, times(2)).buscarPorId(2L);
+    }
+
+    @Test
+    void testBuscarPorNome_UsaIndicePorNome() {
+        when(delegate.buscarPorNome("Cafe")).thenReturn(new Produto(3L, "Cafe", "Bebida", 5.0));
+
+        gateway.buscarPorNome("Cafe");
+        Produto porNome = gateway.buscarPorNome("Cafe");
+        Produto porId = gateway.buscarPorId(3L);
+
+        assertEquals(3L, porNome.getId());
+        assertEquals("Cafe", porId.getNome());
+        verify(delegate, times(1)).buscarPorNome("Cafe");
+        verify(delegate, never()).buscarPorId(anyLong());
+    }
+
+    @Test
+    void testAtualizar_SubstituiEntradaEIndice() {
+        when(delegate.buscarPorId(4L)).thenReturn(new Produto(4L, "Antigo", "Desc", 1.0));
+        Produto atualizado = new Produto(4L, "Novo", "Desc", 2.0);
+        when(delegate.atualizar(any())).thenReturn(atualizado);
+        when(delegate.buscarPorNome("Antigo")).thenReturn(null);
+
+        gateway.buscarPorId(4L);
+        gateway.atualizar(atualizado);
+
+        assertEquals(2.0, gateway.buscarPorId(4L).getPreco());
+        assertEquals(4L, gateway.buscarPorNome("Novo").getId());
+        assertNull(gateway.buscarPorNome("Antigo"));
+        verify(delegate, times(1)).buscarPorId(4L);
+    }
+
+    @Test
+    void testDeletar_InvalidaEntrada() {
+        when(delegate.buscarPorId(5L)).thenReturn(new Produto(5L, "Produto", "Desc", 1.0));
+
+        gateway.buscarPorId(5L);
+        gateway.deletar(5L);
+        when(delegate.buscarPorId(5L)).thenReturn(null);
+
+        assertNull(gateway.buscarPorId(5L));
+        verify(delegate).deletar(5L);
+        verify(delegate, times(2)).buscarPorId(5L);
+    }
+
+    @Test
+    void testCopiaEntregueNaoAlteraOCache() {
+        when(delegate.buscarPorId(6L)).thenReturn(new Produto(6L, "Produto", "Desc", 1.0));
+
+        Produto primeiro = gateway.buscarPorId(6L);
+        Produto segundo = gateway.buscarPorId(6L);
+
+        assertNotSame(primeiro, segundo);
+    }
+
+    @Test
+    void testEventoDeAlteracao_InvalidaEntradas() {
+        when(delegate.buscarPorId(7L)).thenReturn(new Produto(7L, "Produto", "Desc", 1.0));
+
+        gateway.buscarPorId(7L);
+        gateway.aoAlterarProdutos(ProdutosAlteradosEvent.salvos(List.of(new Produto(7L, "Produto", "Desc", 9.0))));
+        when(delegate.buscarPorId(7L)).thenReturn(new Produto(7L, "Produto", "Desc", 9.0));
+
+        assertEquals(9.0, gateway.buscarPorId(7L).getPreco());
+        verify(delegate, times(2)).buscarPorId(7L);
+    }
+
+    @Test
+    void testBuscarPorId_FaltasConcorrentesCompartilhamUmaConsulta() throws Exception {
+        CountDownLatch iniciou = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(delegate.buscarPorId(8L)).thenAnswer(invocacao -> {
+            iniciou.countDown();
+            liberar.await(5, TimeUnit.SECONDS);
+            return new Produto(8L, "Quente", "Desc", 1.0);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Produto>> leituras = new ArrayList<>();
+            leituras.add(executor.submit(() -> gateway.buscarPorId(8L)));
+            assertTrue(iniciou.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 7; i++) {
+                leituras.add(executor.submit(() -> gateway.buscarPorId(8L)));
+            }
+            // as sete esperam o carregamento que já está em andamento
+            long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (gateway.carregamentosCoalescidos() < 7 && System.nanoTime() < limite) {
+                Thread.sleep(1);
+            }
+            liberar.countDown();
+
+            for (Future<Produto> leitura : leituras) {
+                assertEquals("Quente", leitura.get(5, TimeUnit.SECONDS).getNome());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(delegate, times(1)).buscarPorId(8L);
+        assertEquals(1, gateway.carregamentosExecutados());
+        assertEquals(7, gateway.carregamentosCoalescidos());
+    }
+
+    @Test
+    void testBuscarPorId_CarregamentoAnteriorAEscritaNaoGuardaValorAntigo() throws Exception {
+        CountDownLatch leuLinha = new CountDownLatch(1);
+        CountDownLatch escritaConfirmada = new CountDownLatch(1);
+        when(delegate.buscarPorId(10L))
+                .thenAnswer(invocacao -> {
+                    leuLinha.countDown();
+                    escritaConfirmada.await(5, TimeUnit.SECONDS);
+                    return new Produto(10L, "Produto", "Desc", 1.0);
+                })
+                .thenReturn(new Produto(10L, "Produto", "Desc", 2.0));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Produto> leitura = executor.submit(() -> gateway.buscarPorId(10L));
+            assertTrue(leuLinha.await(5, TimeUnit.SECONDS));
+            // a escrita confirma e invalida enquanto a consulta ainda está com a linha antiga
+            gateway.aoAlterarProdutos(ProdutosAlteradosEvent.salvos(List.of(new Produto(10L, "Produto", "Desc", 2.0))));
+            escritaConfirmada.countDown();
+
+            assertEquals(1.0, leitura.get(5, TimeUnit.SECONDS).getPreco());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(2.0, gateway.buscarPorId(10L).getPreco());
+        verify(delegate, times(2)).buscarPorId(10L);
+    }
+
+    @Test
+    void testBuscarPorNome_CarregamentoAnteriorAEscritaNaoGuardaValorAntigo() throws Exception {
+        CountDownLatch leuLinha = new CountDownLatch(1);
+        CountDownLatch escritaConfirmada = new CountDownLatch(1);
+        when(delegate.buscarPorNome("Mate")).thenAnswer(invocacao -> {
+            leuLinha.countDown();
+            escritaConfirmada.await(5, TimeUnit.SECONDS);
+            return new Produto(11L, "Mate", "Desc", 1.0);
+        });
+        when(delegate.buscarPorId(11L)).thenReturn(new Produto(11L, "Mate", "Desc", 2.0));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Produto> leitura = executor.submit(() -> gateway.buscarPorNome("Mate"));
+            assertTrue(leuLinha.await(5, TimeUnit.SECONDS));
+            gateway.aoAlterarProdutos(ProdutosAlteradosEvent.salvos(List.of(new Produto(11L, "Mate", "Desc", 2.0))));
+            escritaConfirmada.countDown();
+            leitura.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // o valor lido pelo nome antes da escrita não ficou no cache
+        assertEquals(2.0, gateway.buscarPorId(11L).getPreco());
+        verify(delegate, times(1)).buscarPorId(11L);
+    }
+
+    @Test
+    void testAtualizar_EscritasConcorrentesNaoDeixamVersaoAntiga() {
+        Produto primeira = new Produto(12L, "Produto", "Desc", 1.0);
+        Produto segunda = new Produto(12L, "Produto", "Desc", 2.0);
+        // a primeira escrita invalida, a segunda invalida, confirma e guarda; a primeira confirma por último
+        when(delegate.atualizar(any()))
+                .thenAnswer(invocacao -> {
+                    gateway.atualizar(segunda);
+                    return primeira;
+                })
+                .thenReturn(segunda);
+        when(delegate.buscarPorId(12L)).thenReturn(primeira);
+
+        gateway.atualizar(primeira);
+
+        // nenhuma das duas ficou no cache: a leitura seguinte vai ao banco
+        assertEquals(1.0, gateway.buscarPorId(12L).getPreco());
+        verify(delegate, times(1)).buscarPorId(12L);
+    }
+
+    @Test
+    void testBuscarPorNome_FalhaNaoFicaPresaNoCarregamento() {
+        when(delegate.buscarPorNome("Cha"))
+                .thenThrow(new IllegalStateException("banco fora"))
+                .thenReturn(new Produto(9L, "Cha", "Bebida", 3.0));
+
+        assertThrows(IllegalStateException.class, () -> gateway.buscarPorNome("Cha"));
+        assertEquals(9L, gateway.buscarPorNome("Cha").getId());
+
+        assertEquals(2, gateway.carregamentosExecutados());
+        assertEquals(0, gateway.carregamentosCoalescidos());
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.orderhub.produto_service.adapter.gateway;
+
+import br.com.orderhub.core.domain.entities.Produto;
+import br.com.orderhub.core.interfaces.IProdutoGateway;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ProdutoGatewayMetricasTest {
+
+    private IProdutoGateway delegate;
+    private SimpleMeterRegistry registry;
+    private ProdutoGatewayMetricas gateway;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(IProdutoGateway.class);
+        registry = new SimpleMeterRegistry();
+        gateway = new ProdutoGatewayMetricas(delegate, registry);
+    }
+
+    @Test
+    void testBuscarPorId_RegistraTempoENaoEncontrados() {
+        when(delegate.buscarPorId(1L)).thenReturn(new Produto(1L, "Produto", "Desc", 1.0));
+        when(delegate.buscarPorId(2L)).thenReturn(null);
+
+        gateway.buscarPorId(1L);
+        gateway.buscarPorId(2L);
+
+        assertEquals(2, registry.get(ProdutoGatewayMetricas.TIMER).tag("metodo", "buscarPorId").timer().count());
+        assertEquals(1.0, registry.get(ProdutoGatewayMetricas.NAO_ENCONTRADOS).tag("metodo", "buscarPorId").counter().count());
+    }
+
+    @Test
+    void testErro_ContadoPorTipoDeExcecao() {
+        when(delegate.criar(any())).thenThrow(new IllegalStateException("falha"));
+
+        assertThrows(IllegalStateException.class, () -> gateway.criar(new Produto(null, "Produto", "Desc", 1.0)));
+
+        assertEquals(1.0, registry.get(ProdutoGatewayMetricas.ERROS)
+                .tag("metodo", "criar")
+                .tag("exception", "IllegalStateException")
+                .counter().count());
+        assertEquals(1, registry.get(ProdutoGatewayMetricas.TIMER).tag("metodo", "criar").timer().count());
+    }
+
+    @Test
+    void testDeletar_Delega() {
+        gateway.deletar(3L);
+
+        verify(delegate).deletar(3L);
+        assertEquals(1, registry.get(ProdutoGatewayMetricas.TIMER).tag("metodo", "deletar").timer().count());
+    }
+}
@@ -0,0 +1,222 @@
+package br.com.orderhub.produto_service.adapter.gateway;
+
+import br.com.orderhub.core.domain.entities.Produto;
+import br.com.orderhub.core.interfaces.IProdutoGateway;
+import br.com.orderhub.produto_service.adapter.outbox.CursorAlteracoesExpiradoException;
+import br.com.orderhub.produto_service.adapter.outbox.ProdutoAlteracao;
+import br.com.orderhub.produto_service.adapter.outbox.ProdutoOutbox;
+import br.com.orderhub.produto_service.adapter.outbox.TipoAlteracao;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoResumo;
+import br.com.orderhub.produto_service.adapter.replica.ProdutoReplicaArquivo;
+import br.com.orderhub.produto_service.adapter.replica.ProdutoReplicaCatalogo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class ProdutoGatewayReplicaTest {
+
+    private IProdutoGateway delegate;
+    private ProdutoRepositoryJpaGatewayImpl produtoGateway;
+    private ProdutoOutbox produtoOutbox;
+    private ProdutoGatewayReplica gateway;
+
+    @TempDir
+    Path diretorio;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(IProdutoGateway.class);
+        produtoGateway = mock(ProdutoRepositoryJpaGatewayImpl.class);
+        produtoOutbox = mock(ProdutoOutbox.class);
+        gateway = new ProdutoGatewayReplica(delegate, produtoGateway, produtoOutbox, null);
+        when(produtoOutbox.buscarDesde(anyLong(), anyInt())).thenReturn(List.of());
+
+        doAnswer(invocation -> {
+            Consumer<ProdutoResumo> consumidor = invocation.getArgument(0);
+            consumidor.accept(new ProdutoResumo(1L, "Cafe", "Bebida", 1999L));
+            consumidor.accept(new ProdutoResumo(2L, "Cha", null, 850L));
+            return null;
+        }).when(produtoGateway).percorrerResumos(any());
+    }
+
+    @Test
+    void testBuscarPorId_AntesDeMontarUsaDelegate() {
+        when(delegate.buscarPorId(1L)).thenReturn(new Produto(1L, "Cafe", "Bebida", 19.99));
+
+        assertEquals("Cafe", gateway.buscarPorId(1L).getNome());
+        assertFalse(gateway.pronta());
+        verify(delegate).buscarPorId(1L);
+    }
+
+    @Test
+    void testBuscarPorId_DepoisDeMontarNaoConsultaDelegate() {
+        gateway.montar();
+
+        Produto produto = gateway.buscarPorId(2L);
+
+        assertTrue(gateway.pronta());
+        assertEquals("Cha", produto.getNome());
+        assertNull(produto.getDescricao());
+        assertEquals(8.5, produto.getPreco());
+        assertNull(gateway.buscarPorId(3L));
+        verify(delegate, never()).buscarPorId(any());
+    }
+
+    @Test
+    void testAoAlterarProdutos_AtualizaReplica() {
+        gateway.montar();
+        when(produtoGateway.buscarVersoes(List.of(1L, 3L))).thenReturn(Map.of(1L, 4L, 3L, 0L));
+
+        gateway.aoAlterarProdutos(ProdutosAlteradosEvent.salvos(List.of(
+                new Produto(1L, "Cafe Especial", "Bebida", 25.99),
+                new Produto(3L, "Mate", "Bebida", 7.0))));
+        gateway.aoAlterarProdutos(ProdutosAlteradosEvent.removido(2L));
+
+        assertEquals("Cafe Especial", gateway.buscarPorId(1L).getNome());
+        assertEquals(7.0, gateway.buscarPorId(3L).getPreco());
+        assertNull(gateway.buscarPorId(2L));
+    }
+
+    @Test
+    void testBuscarPorNome_UsaDelegate() {
+        gateway.montar();
+        when(delegate.buscarPorNome("Cafe")).thenReturn(new Produto(1L, "Cafe", "Bebida", 19.99));
+
+        assertEquals(1L, gateway.buscarPorNome("Cafe").getId());
+        verify(delegate).buscarPorNome("Cafe");
+    }
+
+    @Test
+    void testMontar_CarregaSnapshotEAlcancaOutboxSemLerTabela() {
+        ProdutoReplicaCatalogo salvo = new ProdutoReplicaCatalogo();
+        salvo.guardar(1L, "Cafe", "Bebida", 1999L);
+        salvo.guardar(2L, "Cha", null, 850L);
+        Path arquivo = diretorio.resolve("produtos.bin");
+        ProdutoReplicaArquivo.gravar(arquivo, 10L, salvo);
+        when(produtoOutbox.buscarDesde(eq(10L), anyInt())).thenReturn(List.of(
+                alteracao(11L, TipoAlteracao.SALVO, 3L, "Mate", 700L),
+                alteracao(12L, TipoAlteracao.REMOVIDO, 2L, null, null)));
+        gateway = new ProdutoGatewayReplica(delegate, produtoGateway, produtoOutbox, arquivo);
+
+        gateway.montar();
+
+        assertEquals(ProdutoGatewayReplica.ORIGEM_SNAPSHOT, gateway.origem());
+        assertEquals(12L, gateway.ultimaSequencia());
+        assertEquals("Cafe", gateway.buscarPorId(1L).getNome());
+        assertNull(gateway.buscarPorId(2L));
+        assertEquals(7.0, gateway.buscarPorId(3L).getPreco());
+        verify(produtoGateway, never()).percorrerResumos(any());
+    }
+
+    @Test
+    void testMontar_SnapshotAlemDaRetencaoMontaDoBanco() {
+        Path arquivo = diretorio.resolve("produtos.bin");
+        ProdutoReplicaArquivo.gravar(arquivo, 10L, new ProdutoReplicaCatalogo());
+        when(produtoOutbox.buscarDesde(eq(10L), anyInt()))
+                .thenThrow(new CursorAlteracoesExpiradoException("expirado"));
+        when(produtoOutbox.ultimaSequencia()).thenReturn(50L);
+        gateway = new ProdutoGatewayReplica(delegate, produtoGateway, produtoOutbox, arquivo);
+
+        gateway.montar();
+
+        assertEquals(ProdutoGatewayReplica.ORIGEM_BANCO, gateway.origem());
+        assertEquals(50L, gateway.ultimaSequencia());
+        assertEquals("Cafe", gateway.buscarPorId(1L).getNome());
+    }
+
+    @Test
+    void testAcompanharAlteracoes_AplicaOutboxEmOrdem() {
+        when(produtoOutbox.ultimaSequencia()).thenReturn(5L);
+        gateway.montar();
+        when(produtoOutbox.buscarDesde(eq(5L), anyInt())).thenReturn(List.of(
+                alteracao(6L, TipoAlteracao.SALVO, 1L, "Cafe Especial", 2599L),
+                alteracao(7L, TipoAlteracao.REMOVIDO, 2L, null, null)));
+
+        gateway.acompanharAlteracoes();
+
+        assertEquals(7L, gateway.ultimaSequencia());
+        assertEquals("Cafe Especial", gateway.buscarPorId(1L).getNome());
+        assertNull(gateway.buscarPorId(2L));
+    }
+
+    @Test
+    void testAcompanharAlteracoes_NaoVoltaParaVersaoAnteriorAoEvento() {
+        gateway.montar();
+        when(produtoGateway.buscarVersoes(List.of(1L))).thenReturn(Map.of(1L, 2L));
+        gateway.aoAlterarProdutos(ProdutosAlteradosEvent.salvos(List.of(new Produto(1L, "Cafe v2", "Bebida", 21.0))));
+        gateway.aoAlterarProdutos(ProdutosAlteradosEvent.removido(2L));
+        // a outbox ainda traz a v1 do produto 1 e um salvamento do 2 anterior à exclusão
+        when(produtoOutbox.buscarDesde(eq(0L), anyInt())).thenReturn(List.of(
+                alteracao(1L, TipoAlteracao.SALVO, 1L, 1L, "Cafe v1", 2000L),
+                alteracao(2L, TipoAlteracao.SALVO, 2L, 5L, "Cha", 850L),
+                alteracao(3L, TipoAlteracao.SALVO, 1L, 2L, "Cafe v2", 2100L)));
+
+        gateway.acompanharAlteracoes();
+
+        assertEquals(3L, gateway.ultimaSequencia());
+        assertEquals("Cafe v2", gateway.buscarPorId(1L).getNome());
+        assertNull(gateway.buscarPorId(2L));
+    }
+
+    @Test
+    void testAoAlterarProdutos_NaoVoltaParaVersaoAnteriorAOutbox() {
+        gateway.montar();
+        // outro pod gravou a v3 depois desta escrita (v2), e a outbox chegou nela antes do evento
+        when(produtoOutbox.buscarDesde(eq(0L), anyInt())).thenReturn(List.of(
+                alteracao(1L, TipoAlteracao.SALVO, 1L, 2L, "Cafe v2", 2100L),
+                alteracao(2L, TipoAlteracao.SALVO, 1L, 3L, "Cafe v3", 2200L)));
+        gateway.acompanharAlteracoes();
+        when(produtoGateway.buscarVersoes(List.of(1L))).thenReturn(Map.of(1L, 3L));
+
+        gateway.aoAlterarProdutos(ProdutosAlteradosEvent.salvos(List.of(new Produto(1L, "Cafe v2", "Bebida", 21.0))));
+
+        assertEquals("Cafe v3", gateway.buscarPorId(1L).getNome());
+    }
+
+    @Test
+    void testAoAlterarProdutos_ProdutoJaExcluidoNaoVoltaParaAReplica() {
+        gateway.montar();
+        when(produtoGateway.buscarVersoes(List.of(3L))).thenReturn(Map.of());
+
+        gateway.aoAlterarProdutos(ProdutosAlteradosEvent.salvos(List.of(new Produto(3L, "Mate", "Bebida", 7.0))));
+
+        assertNull(gateway.buscarPorId(3L));
+    }
+
+    @Test
+    void testExportarSnapshot_GravaEstadoAtual() {
+        Path arquivo = diretorio.resolve("produtos.bin");
+        when(produtoOutbox.ultimaSequencia()).thenReturn(8L);
+        gateway = new ProdutoGatewayReplica(delegate, produtoGateway, produtoOutbox, arquivo);
+        gateway.montar();
+
+        ProdutoReplicaArquivo.Resumo resumo = gateway.exportarSnapshot();
+
+        assertEquals(8L, resumo.sequencia());
+        assertEquals(2, resumo.quantidade());
+        assertEquals("Cha", ProdutoReplicaArquivo.ler(arquivo).catalogo().buscar(2L).getNome());
+    }
+
+    private static ProdutoAlteracao alteracao(long sequencia, TipoAlteracao tipo, long produtoId, String nome, Long precoCentavos) {
+        return alteracao(sequencia, tipo, produtoId, null, nome, precoCentavos);
+    }
+
+    private static ProdutoAlteracao alteracao(long sequencia, TipoAlteracao tipo, long produtoId, Long versao,
+                                              String nome, Long precoCentavos) {
+        return new ProdutoAlteracao(sequencia, tipo, produtoId, versao, nome, null,
+                precoCentavos == null ? null : precoCentavos / 100.0, precoCentavos, Instant.now());
+    }
+}
@@ -1,13 +1,24 @@
 package br.com.orderhub.produto_service.adapter.gateway;
 
 import br.com.orderhub.core.domain.entities.Produto;
+import br.com.orderhub.core.exceptions.ProdutoJaExisteException;
 import br.com.orderhub.core.exceptions.ProdutoNaoEncontradoException;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoAtualizacaoParcial;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoAtualizacaoParcialJdbc;
 import br.com.orderhub.produto_service.adapter.persistence.ProdutoEntity;
 import br.com.orderhub.produto_service.adapter.persistence.ProdutoRepository;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoResumo;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -15,12 +26,18 @@ import static org.mockito.Mockito.*;
 public class ProdutoRepositoryJpaGatewayImplTest {
 
     private ProdutoRepository produtoRepository;
+    private EntityManager entityManager;
+    private ApplicationEventPublisher eventPublisher;
+    private ProdutoAtualizacaoParcialJdbc atualizacaoParcialJdbc;
     private ProdutoRepositoryJpaGatewayImpl gateway;
 
     @BeforeEach
     void setUp() {
         produtoRepository = mock(ProdutoRepository.class);
-        gateway = new ProdutoRepositoryJpaGatewayImpl(produtoRepository);
+        entityManager = mock(EntityManager.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        atualizacaoParcialJdbc = mock(ProdutoAtualizacaoParcialJdbc.class);
+        gateway = new ProdutoRepositoryJpaGatewayImpl(produtoRepository, entityManager, eventPublisher, atualizacaoParcialJdbc);
     }
 
     @Test
@@ -60,25 +77,227 @@ public class ProdutoRepositoryJpaGatewayImplTest {
     @Test
     void testCriarProduto() {
         ProdutoEntity entity = new ProdutoEntity(1L, "Produto", "Descricao", 22.0);
-        when(produtoRepository.save(any())).thenReturn(entity);
+        when(produtoRepository.saveAndFlush(any())).thenReturn(entity);
 
         Produto domain = new Produto(null, "Produto", "Descricao", 22.0);
         Produto result = gateway.criar(domain);
 
         assertEquals("Produto", result.getNome());
+        verify(eventPublisher).publishEvent(any(ProdutosAlteradosEvent.class));
+    }
+
+    @Test
+    void testCriarProduto_NomeDuplicadoViraProdutoJaExiste() {
+        when(produtoRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException(
+                "Unique index or primary key violation: \"PUBLIC.UK_PRODUTOS_NOME ON PUBLIC.PRODUTOS(NOME)\""));
+
+        ProdutoJaExisteException ex = assertThrows(ProdutoJaExisteException.class,
+                () -> gateway.criar(new Produto(null, "Cafe", "Bebida", 5.0)));
+
+        assertEquals("O produto Cafe já existe!", ex.getMessage());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void testCriarProduto_OutraViolacaoNaoETraduzida() {
+        when(produtoRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("NULL not allowed"));
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> gateway.criar(new Produto(null, "Cafe", "Bebida", 5.0)));
+    }
+
+    @Test
+    void testDeletarProduto_PublicaEvento() {
+        when(produtoRepository.deleteProdutoById(7L)).thenReturn(1);
+
+        gateway.deletar(7L);
+
+        verify(produtoRepository).deleteProdutoById(7L);
+        verify(produtoRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(ProdutosAlteradosEvent.removido(7L));
+    }
+
+    @Test
+    void testDeletarProduto_Inexistente() {
+        when(produtoRepository.deleteProdutoById(9L)).thenReturn(0);
+
+        ProdutoNaoEncontradoException ex = assertThrows(ProdutoNaoEncontradoException.class, () -> gateway.deletar(9L));
+        assertEquals("Produto com ID 9não encontrado", ex.getMessage());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testImportarLote_CriaNovosEAtualizaExistentes() {
+        ProdutoEntity existente = new ProdutoEntity(1L, "Existente", "Antiga", 1.0);
+        when(produtoRepository.findByNomeIn(any())).thenReturn(List.of(existente));
+
+        List<ProdutoImportado> importados = gateway.importarLote(List.of(
+                new Produto(null, "Existente", "Nova", 2.0),
+                new Produto(null, "Novo", "Desc", 3.0)
+        ));
+
+        assertEquals(2, importados.size());
+        assertFalse(importados.get(0).criado());
+        assertEquals(1L, importados.get(0).produto().getId());
+        assertEquals(2.0, existente.getPreco());
+        assertTrue(importados.get(1).criado());
+        verify(produtoRepository).saveAll(anyList());
+        verify(entityManager).flush();
+        verify(entityManager).clear();
+        verify(eventPublisher).publishEvent(any(ProdutosAlteradosEvent.class));
     }
 
     @Test
     void testAtualizarProduto() {
         Produto produto = new Produto(1L, "Atualizado", "Descrição nova", 88.0);
-        ProdutoEntity entity = new ProdutoEntity(1L, "Atualizado", "Descrição nova", 88.0);
-
-        when(produtoRepository.save(any())).thenReturn(entity);
+        when(produtoRepository.updateProduto(eq(1L), eq("Atualizado"), eq("Descrição nova"), eq(8800L), any())).thenReturn(1);
 
         Produto resultado = gateway.atualizar(produto);
 
         assertEquals("Atualizado", resultado.getNome());
         assertEquals(88.0, resultado.getPreco());
+        verify(produtoRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(ProdutosAlteradosEvent.salvos(List.of(resultado)));
+    }
+
+    @Test
+    void testAtualizarProduto_Inexistente() {
+        when(produtoRepository.updateProduto(eq(9L), anyString(), anyString(), anyLong(), any())).thenReturn(0);
+
+        assertThrows(ProdutoNaoEncontradoException.class,
+                () -> gateway.atualizar(new Produto(9L, "X", "Y", 1.0)));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testAtualizarProduto_NomeDuplicadoViraProdutoJaExiste() {
+        when(produtoRepository.updateProduto(eq(1L), anyString(), anyString(), anyLong(), any()))
+                .thenThrow(new DataIntegrityViolationException("Unique index or primary key violation: \"PUBLIC.UK_PRODUTOS_NOME\""));
+
+        assertThrows(ProdutoJaExisteException.class,
+                () -> gateway.atualizar(new Produto(1L, "Cafe", "Bebida", 5.0)));
+    }
+
+    @Test
+    void testAtualizarParcial_LeOEstadoFinalSoDosEncontrados() {
+        List<ProdutoAtualizacaoParcial> alteracoes = List.of(
+                new ProdutoAtualizacaoParcial(1L, null, null, 1500L),
+                new ProdutoAtualizacaoParcial(2L, null, null, 2500L));
+        when(atualizacaoParcialJdbc.atualizar(eq(alteracoes), any())).thenReturn(new boolean[]{true, false});
+        when(produtoRepository.findResumosByIdIn(List.of(1L))).thenReturn(List.of(new ProdutoResumo(1L, "P1", "D1", 1500L)));
+
+        ProdutoAtualizacaoParcialResultado resultado = gateway.atualizarParcial(alteracoes);
+
+        assertEquals(1, resultado.atualizados().size());
+        assertEquals(15.0, resultado.atualizados().get(0).getPreco());
+        assertEquals(List.of(2L), resultado.naoEncontrados());
+        verify(eventPublisher).publishEvent(ProdutosAlteradosEvent.salvos(resultado.atualizados()));
+    }
+
+    @Test
+    void testAtualizarParcial_Inexistente() {
+        when(atualizacaoParcialJdbc.atualizar(anyList(), any())).thenReturn(new boolean[]{false});
+
+        assertThrows(ProdutoNaoEncontradoException.class,
+                () -> gateway.atualizarParcial(new ProdutoAtualizacaoParcial(9L, "X", null, null)));
+        verify(produtoRepository, never()).findResumosByIdIn(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testListarPaginaConsulta_PrecoAscDevolveCursorQueContinuaDoUltimo() {
+        ProdutoEntity primeiro = new ProdutoEntity(5L, "P5", "D5", 10.0);
+        ProdutoEntity segundo = new ProdutoEntity(3L, "P3", "D3", 12.0);
+        when(produtoRepository.findFaixaOrdenadaPorPrecoAsc(eq(1000L), eq(2000L), eq(Long.MIN_VALUE), eq(Long.MIN_VALUE), any(Limit.class)))
+                .thenReturn(List.of(primeiro, segundo));
+
+        ProdutoPagina pagina = gateway.listarPagina(new ProdutoConsulta(1000L, 2000L, ProdutoOrdenacao.PRECO_ASC, null, 2));
+
+        assertEquals(List.of(5L, 3L), pagina.produtos().stream().map(Produto::getId).toList());
+        assertNotNull(pagina.proximoCursor());
+
+        gateway.listarPagina(new ProdutoConsulta(1000L, 2000L, ProdutoOrdenacao.PRECO_ASC, pagina.proximoCursor(), 2));
+        verify(produtoRepository).findFaixaOrdenadaPorPrecoAsc(eq(1000L), eq(2000L), eq(1200L), eq(3L), any(Limit.class));
+    }
+
+    @Test
+    void testListarPaginaConsulta_UltimaPaginaSemCursor() {
+        when(produtoRepository.findFaixaOrdenadaPorNomeDesc(eq(0L), eq(Long.MAX_VALUE), anyString(), any(Limit.class)))
+                .thenReturn(List.of(new ProdutoEntity(1L, "P1", "D1", 1.0)));
+
+        ProdutoPagina pagina = gateway.listarPagina(new ProdutoConsulta(0L, Long.MAX_VALUE, ProdutoOrdenacao.NOME_DESC, null, 10));
+
+        assertEquals(1, pagina.produtos().size());
+        assertNull(pagina.proximoCursor());
+    }
+
+    @Test
+    void testListarPaginaConsulta_CursorInvalido() {
+        assertThrows(IllegalArgumentException.class, () -> gateway.listarPagina(
+                new ProdutoConsulta(0L, 10L, ProdutoOrdenacao.PRECO_ASC, "nao-e-um-cursor", 10)));
+    }
+
+    @Test
+    void testOrdenacao_De() {
+        assertEquals(ProdutoOrdenacao.ID, ProdutoOrdenacao.de(null));
+        assertEquals(ProdutoOrdenacao.PRECO_ASC, ProdutoOrdenacao.de("preco"));
+        assertEquals(ProdutoOrdenacao.PRECO_DESC, ProdutoOrdenacao.de("preco,DESC"));
+        assertEquals(ProdutoOrdenacao.NOME_ASC, ProdutoOrdenacao.de("nome,asc"));
+        assertThrows(IllegalArgumentException.class, () -> ProdutoOrdenacao.de("preco,para-cima"));
+        assertThrows(IllegalArgumentException.class, () -> ProdutoOrdenacao.de("id,desc"));
+    }
+
+    @Test
+    void testBuscarPorIds_UmaConsulta() {
+        List<Long> ids = List.of(1L, 2L, 3L);
+        when(produtoRepository.findAllById(ids)).thenReturn(List.of(
+                new ProdutoEntity(1L, "P1", "D1", 1.0),
+                new ProdutoEntity(3L, "P3", "D3", 3.0)
+        ));
+
+        List<Produto> produtos = gateway.buscarPorIds(ids);
+
+        assertEquals(2, produtos.size());
+        verify(produtoRepository, times(1)).findAllById(ids);
+    }
+
+    @Test
+    void testListarResumos_SemCursorComecaDoInicio() {
+        when(produtoRepository.findResumosAposId(eq(0L), any(Limit.class))).thenReturn(List.of(
+                new ProdutoResumo(1L, "P1", "D1", 100L)
+        ));
+
+        List<ProdutoResumo> pagina = gateway.listarResumos(null, 2);
+
+        assertEquals(1, pagina.size());
+    }
+
+    @Test
+    void testPercorrerResumos_NaoUsaOPersistenceContext() {
+        when(produtoRepository.streamResumosOrdenadosPorId()).thenReturn(Stream.of(
+                new ProdutoResumo(1L, "P1", "D1", 100L),
+                new ProdutoResumo(2L, "P2", "D2", 200L)
+        ));
+
+        List<ProdutoResumo> recebidos = new ArrayList<>();
+        gateway.percorrerResumos(recebidos::add);
+
+        assertEquals(2, recebidos.size());
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    void testPercorrerTodos_DesanexaCadaEntidade() {
+        ProdutoEntity p1 = new ProdutoEntity(1L, "P1", "D1", 1.0);
+        ProdutoEntity p2 = new ProdutoEntity(2L, "P2", "D2", 2.0);
+        when(produtoRepository.streamTodosOrdenadosPorId()).thenReturn(Stream.of(p1, p2));
+
+        List<Produto> recebidos = new ArrayList<>();
+        gateway.percorrerTodos(recebidos::add);
+
+        assertEquals(2, recebidos.size());
+        verify(entityManager).detach(p1);
+        verify(entityManager).detach(p2);
     }
 
 //    @Test
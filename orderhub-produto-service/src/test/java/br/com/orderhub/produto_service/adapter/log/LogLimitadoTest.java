@@ -0,0 +1,88 @@
+package br.com.orderhub.produto_service.adapter.log;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LogLimitado Unit Tests")
+class LogLimitadoTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(LogLimitadoTest.class);
+    private final ListAppender<ILoggingEvent> eventos = new ListAppender<>();
+    private final AtomicLong relogio = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        logger.setLevel(ch.qos.logback.classic.Level.INFO);
+        eventos.start();
+        logger.addAppender(eventos);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(eventos);
+        logger.setLevel(null);
+    }
+
+    @Test
+    @DisplayName("Should write at most the configured lines per window and report the suppressed ones in the next line")
+    void testTetoPorJanela() {
+        LogLimitado log = new LogLimitado(logger, Level.INFO, 2, Duration.ofSeconds(1), relogio::get);
+
+        for (long id = 1; id <= 5; id++) {
+            log.registrar("Produto não encontrado", "produtoId", id);
+        }
+        assertThat(eventos.list).hasSize(2);
+
+        relogio.addAndGet(Duration.ofSeconds(1).toNanos());
+        log.registrar("Produto não encontrado", "produtoId", 6L);
+
+        assertThat(eventos.list).hasSize(3);
+        assertThat(campos(eventos.list.get(0))).containsExactly("produtoId=1", "suprimidos=0");
+        assertThat(campos(eventos.list.get(2))).containsExactly("produtoId=6", "suprimidos=3");
+        assertThat(eventos.list.get(2).getMessage()).isEqualTo("Produto não encontrado");
+    }
+
+    @Test
+    @DisplayName("Should not count events when the level is disabled")
+    void testNivelDesabilitado() {
+        logger.setLevel(ch.qos.logback.classic.Level.WARN);
+        LogLimitado log = new LogLimitado(logger, Level.INFO, 1, Duration.ofSeconds(1), relogio::get);
+
+        log.registrar("Produto não encontrado", "produtoId", 1L);
+        log.registrar("Produto não encontrado", "produtoId", 2L);
+        logger.setLevel(ch.qos.logback.classic.Level.INFO);
+        log.registrar("Produto não encontrado", "produtoId", 3L);
+
+        assertThat(eventos.list).hasSize(1);
+        assertThat(campos(eventos.list.get(0))).containsExactly("produtoId=3", "suprimidos=0");
+    }
+
+    @Test
+    @DisplayName("Should reject an empty window or a zero line limit")
+    void testParametrosInvalidos() {
+        assertThatThrownBy(() -> new LogLimitado(logger, Level.INFO, 0, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LogLimitado(logger, Level.INFO, 1, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<String> campos(ILoggingEvent evento) {
+        return evento.getKeyValuePairs().stream()
+                .map(par -> par.key + "=" + par.value)
+                .toList();
+    }
+}
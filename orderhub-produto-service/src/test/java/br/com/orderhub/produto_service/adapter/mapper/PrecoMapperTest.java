@@ -0,0 +1,35 @@
+package br.com.orderhub.produto_service.adapter.mapper;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrecoMapperTest {
+
+    @Test
+    void testReaisParaCentavosSemErroDeBinario() {
+        assertEquals(499990L, PrecoMapper.reaisParaCentavos(4999.90));
+        assertEquals(1L, PrecoMapper.reaisParaCentavos(0.01));
+        // 0.1 + 0.2 = 0.30000000000000004 em double
+        assertEquals(30L, PrecoMapper.reaisParaCentavos(0.1 + 0.2));
+    }
+
+    @Test
+    void testReaisParaCentavosArredondaFracaoDeCentavo() {
+        assertEquals(1000L, PrecoMapper.reaisParaCentavos(9.995));
+        assertEquals(999L, PrecoMapper.reaisParaCentavos(9.994));
+    }
+
+    @Test
+    void testIdaEVolta() {
+        for (long centavos = 0; centavos < 100_000; centavos++) {
+            assertEquals(centavos, PrecoMapper.reaisParaCentavos(PrecoMapper.centavosParaReais(centavos)));
+        }
+    }
+
+    @Test
+    void testPrecoNulo() {
+        assertThrows(IllegalArgumentException.class, () -> PrecoMapper.reaisParaCentavos(null));
+        assertNull(PrecoMapper.reaisParaCentavosOuNulo(null));
+    }
+}
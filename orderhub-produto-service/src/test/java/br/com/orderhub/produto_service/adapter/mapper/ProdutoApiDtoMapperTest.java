@@ -5,6 +5,7 @@ import br.com.orderhub.core.dto.produtos.CriarProdutoDTO;
 import br.com.orderhub.core.dto.produtos.ProdutoDTO;
 import br.com.orderhub.produto_service.adapter.dto.ProdutoApiRequestDto;
 import br.com.orderhub.produto_service.adapter.dto.ProdutoApiResponseDto;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoResumo;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -42,4 +43,30 @@ public class ProdutoApiDtoMapperTest {
         assertEquals("Esferográfica azul", dto.descricao());
         assertEquals(2.50, dto.preco());
     }
+
+    @Test
+    void testResponseDtoIncluiPrecoEmCentavos() {
+        ProdutoApiResponseDto response = ProdutoApiDtoMapper.produtoDtoToResponseDto(new ProdutoDTO(1L, "Nome", "Desc", 4999.90));
+        assertEquals(4999.90, response.preco());
+        assertEquals(499990L, response.precoCentavos());
+    }
+
+    @Test
+    void testResumoToResponseDto() {
+        ProdutoApiResponseDto response = ProdutoApiDtoMapper.resumoToResponseDto(new ProdutoResumo(3L, "Nome", "Desc", 499990L));
+        assertEquals(new ProdutoApiResponseDto(3L, "Nome", "Desc", 4999.90, 499990L), response);
+    }
+
+    @Test
+    void testRequestDtoComPrecoEmCentavos() {
+        ProdutoApiRequestDto request = new ProdutoApiRequestDto("Produto", "Descricao", null, 1999L);
+        CriarProdutoDTO dto = ProdutoApiDtoMapper.requestDtoToCriarProdutoDto(request);
+        assertEquals(19.99, dto.preco());
+    }
+
+    @Test
+    void testRequestDtoComPrecosDivergentes() {
+        ProdutoApiRequestDto request = new ProdutoApiRequestDto("Produto", "Descricao", 20.0, 1999L);
+        assertThrows(IllegalArgumentException.class, () -> ProdutoApiDtoMapper.requestDtoToCriarProdutoDto(request));
+    }
 }
@@ -0,0 +1,123 @@
+package br.com.orderhub.produto_service.adapter.outbox;
+
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoOutboxEntity;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoOutboxRepository;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoVersaoId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+public class ProdutoOutboxRelayTest {
+
+    private ProdutoOutboxRepository outboxRepository;
+    private ProdutoAlteracaoSink sink;
+    private ProdutoOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(ProdutoOutboxRepository.class);
+        sink = mock(ProdutoAlteracaoSink.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocacao ->
+                invocacao.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        relay = new ProdutoOutboxRelay(outboxRepository, List.of(sink), transactionTemplate, 2, Duration.ofDays(7));
+    }
+
+    @Test
+    void testPublicarLote_AtribuiSequenciasContiguasAPartirDaUltima() {
+        ProdutoOutboxEntity primeiro = pendente(10L, 1L, TipoAlteracao.SALVO);
+        ProdutoOutboxEntity segundo = pendente(11L, 2L, TipoAlteracao.REMOVIDO);
+        when(outboxRepository.findBySequenciaIsNullOrderByIdAsc(any(Limit.class))).thenReturn(List.of(primeiro, segundo));
+        when(outboxRepository.findUltimaSequencia()).thenReturn(41L);
+
+        int publicados = relay.publicarLote();
+
+        assertEquals(2, publicados);
+        assertEquals(42L, primeiro.getSequencia());
+        assertEquals(43L, segundo.getSequencia());
+        verify(outboxRepository).flush();
+        verify(sink).publicar(List.of(
+                ProdutoOutbox.toAlteracao(primeiro),
+                ProdutoOutbox.toAlteracao(segundo)
+        ));
+    }
+
+    @Test
+    void testPublicarLote_SemPendentesNaoChamaOSink() {
+        when(outboxRepository.findBySequenciaIsNullOrderByIdAsc(any(Limit.class))).thenReturn(List.of());
+
+        assertEquals(0, relay.publicarLote());
+        verifyNoInteractions(sink);
+    }
+
+    @Test
+    void testPublicarPendentes_ContinuaEnquantoOLoteVemCheio() {
+        when(outboxRepository.findBySequenciaIsNullOrderByIdAsc(any(Limit.class))).thenReturn(
+                List.of(pendente(1L, 1L, TipoAlteracao.SALVO), pendente(2L, 2L, TipoAlteracao.SALVO)),
+                List.of(pendente(3L, 3L, TipoAlteracao.SALVO))
+        );
+
+        relay.publicarPendentes();
+
+        verify(sink, times(2)).publicar(anyList());
+    }
+
+    @Test
+    void testPublicarLote_FalhaNoSinkPropagaParaDesfazerATransacao() {
+        when(outboxRepository.findBySequenciaIsNullOrderByIdAsc(any(Limit.class)))
+                .thenReturn(List.of(pendente(1L, 1L, TipoAlteracao.SALVO)));
+        doThrow(new IllegalStateException("broker fora")).when(sink).publicar(anyList());
+
+        assertThrows(IllegalStateException.class, () -> relay.publicarLote());
+    }
+
+    @Test
+    void testPublicarLote_DescartaAlteracaoMaisAntigaQueAJaPublicada() {
+        // pods diferentes: a versão 3 do produto 1 ganhou um id menor que a versão 2
+        ProdutoOutboxEntity nova = pendente(51L, 1L, TipoAlteracao.SALVO, 3L);
+        ProdutoOutboxEntity antiga = pendente(1000L, 1L, TipoAlteracao.SALVO, 2L);
+        when(outboxRepository.findBySequenciaIsNullOrderByIdAsc(any(Limit.class))).thenReturn(List.of(nova, antiga));
+        when(outboxRepository.findVersoesPublicadas(anyCollection())).thenReturn(List.of());
+        when(outboxRepository.findUltimaSequencia()).thenReturn(7L);
+
+        assertEquals(2, relay.publicarLote());
+
+        assertEquals(8L, nova.getSequencia());
+        assertNull(antiga.getSequencia());
+        verify(outboxRepository).deleteAll(List.of(antiga));
+        verify(sink).publicar(List.of(ProdutoOutbox.toAlteracao(nova)));
+    }
+
+    @Test
+    void testPublicarLote_DescartaAlteracaoAnteriorAUmaPublicadaEmOutroLote() {
+        ProdutoOutboxEntity salvo = pendente(3L, 1L, TipoAlteracao.SALVO, 2L);
+        when(outboxRepository.findBySequenciaIsNullOrderByIdAsc(any(Limit.class))).thenReturn(List.of(salvo));
+        when(outboxRepository.findVersoesPublicadas(anyCollection()))
+                .thenReturn(List.of(new ProdutoVersaoId(1L, ProdutoOutbox.VERSAO_REMOVIDO)));
+
+        assertEquals(1, relay.publicarLote());
+
+        verify(outboxRepository).deleteAll(List.of(salvo));
+        verifyNoInteractions(sink);
+    }
+
+    private static ProdutoOutboxEntity pendente(Long id, Long produtoId, TipoAlteracao tipo) {
+        return pendente(id, produtoId, tipo, tipo == TipoAlteracao.REMOVIDO ? ProdutoOutbox.VERSAO_REMOVIDO : 1L);
+    }
+
+    private static ProdutoOutboxEntity pendente(Long id, Long produtoId, TipoAlteracao tipo, Long versao) {
+        return new ProdutoOutboxEntity(id, produtoId, versao, tipo.name(), "Produto " + produtoId, "Descricao", 1000L,
+                Instant.parse("2025-07-01T10:00:00Z"), null);
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.orderhub.produto_service.adapter.outbox;
+
+import br.com.orderhub.core.domain.entities.Produto;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutosAlteradosEvent;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoOutboxEntity;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoOutboxRepository;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoRepository;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoVersaoId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class ProdutoOutboxTest {
+
+    private ProdutoOutboxRepository outboxRepository;
+    private ProdutoRepository produtoRepository;
+    private ProdutoOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(ProdutoOutboxRepository.class);
+        produtoRepository = mock(ProdutoRepository.class);
+        outbox = new ProdutoOutbox(outboxRepository, produtoRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testAoAlterarProdutos_GravaUmRegistroPendentePorAlteracao() {
+        when(produtoRepository.findVersoesByIdIn(List.of(1L))).thenReturn(List.of(new ProdutoVersaoId(1L, 4L)));
+
+        outbox.aoAlterarProdutos(new ProdutosAlteradosEvent(
+                List.of(new Produto(1L, "Cafe", "Bebida", 5.0)),
+                List.of(2L)
+        ));
+
+        ArgumentCaptor<List<ProdutoOutboxEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).saveAll(captor.capture());
+        List<ProdutoOutboxEntity> registros = captor.getValue();
+        assertEquals(2, registros.size());
+        assertEquals("SALVO", registros.get(0).getTipo());
+        assertEquals("Cafe", registros.get(0).getNome());
+        assertEquals(500L, registros.get(0).getPrecoCentavos());
+        assertEquals(4L, registros.get(0).getVersao());
+        assertEquals("REMOVIDO", registros.get(1).getTipo());
+        assertEquals(2L, registros.get(1).getProdutoId());
+        assertNull(registros.get(1).getNome());
+        assertEquals(ProdutoOutbox.VERSAO_REMOVIDO, registros.get(1).getVersao());
+        assertTrue(registros.stream().allMatch(registro -> registro.getSequencia() == null));
+    }
+
+    @Test
+    void testBuscarDesde_ConverteRegistrosPublicados() {
+        when(outboxRepository.findPrimeiraSequencia()).thenReturn(1L);
+        when(outboxRepository.findBySequenciaGreaterThanOrderBySequenciaAsc(eq(5L), any(Limit.class))).thenReturn(List.of(
+                new ProdutoOutboxEntity(9L, 1L, 3L, "SALVO", "Cafe", "Bebida", 500L, Instant.EPOCH, 6L)
+        ));
+
+        List<ProdutoAlteracao> alteracoes = outbox.buscarDesde(5L, 10);
+
+        assertEquals(1, alteracoes.size());
+        assertEquals(6L, alteracoes.get(0).sequencia());
+        assertEquals(TipoAlteracao.SALVO, alteracoes.get(0).tipo());
+        assertEquals(5.0, alteracoes.get(0).preco());
+        assertEquals(500L, alteracoes.get(0).precoCentavos());
+        assertEquals(3L, alteracoes.get(0).versao());
+    }
+
+    @Test
+    void testBuscarDesde_CursorAnteriorARetencaoExpira() {
+        when(outboxRepository.findPrimeiraSequencia()).thenReturn(100L);
+
+        assertThrows(CursorAlteracoesExpiradoException.class, () -> outbox.buscarDesde(50L, 10));
+    }
+
+    @Test
+    void testBuscarDesde_CursorLogoAntesDaPrimeiraRetidaNaoExpira() {
+        when(outboxRepository.findPrimeiraSequencia()).thenReturn(100L);
+        when(outboxRepository.findBySequenciaGreaterThanOrderBySequenciaAsc(eq(99L), any(Limit.class))).thenReturn(List.of());
+
+        assertTrue(outbox.buscarDesde(99L, 10).isEmpty());
+    }
+}
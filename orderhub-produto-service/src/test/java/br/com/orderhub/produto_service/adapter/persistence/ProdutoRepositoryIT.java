@@ -0,0 +1,106 @@
+package br.com.orderhub.produto_service.adapter.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Confere que findByNome usa o índice único da V0003 e que a faixa de preço ordenada usa os índices da V0008.
+// A latência com e sem índice, sobre uma tabela grande, fica no ProdutoBuscaPorNomeBenchmark.
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("ProdutoRepository Integration Tests")
+public class ProdutoRepositoryIT {
+
+    private static final int QUANTIDADE = 10_000;
+
+    @Autowired
+    private ProdutoRepository produtoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("delete from produtos");
+        jdbcTemplate.update("insert into produtos (id, nome, descricao, preco_centavos) "
+                + "select x, 'Produto Seed ' || x, 'Seed', x * 100 from system_range(1000000, ?)", 1_000_000 + QUANTIDADE - 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from produtos");
+    }
+
+    @Test
+    @DisplayName("findByNome should use the unique index on nome")
+    void findByNomeShouldUseIndex() {
+        String plano = jdbcTemplate.queryForObject(
+                "explain select * from produtos where nome = 'Produto Seed 1000500'", String.class);
+
+        assertThat(plano).containsIgnoringCase("UK_PRODUTOS_NOME");
+        assertThat(produtoRepository.findByNome("Produto Seed 1000500")).isPresent();
+        assertThatThrownBy(() -> jdbcTemplate.update("insert into produtos (id, nome, descricao, preco_centavos) "
+                + "values (1, 'Produto Seed 1000500', 'Repetido', 100)"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("Single-statement update and delete should report the affected row count")
+    void escritasPorIdShouldReportAffectedRows() {
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+
+        assertThat(transacao.execute(status ->
+                produtoRepository.updateProduto(1_000_000L, "Renomeado", "Nova", 1999L, Instant.now()))).isEqualTo(1);
+        assertThat(transacao.execute(status ->
+                produtoRepository.updateProduto(1L, "Inexistente", "Nova", 1999L, Instant.now()))).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "select versao from produtos where id = 1000000", Long.class)).isEqualTo(1L);
+
+        assertThat(transacao.execute(status -> produtoRepository.deleteProdutoById(1_000_000L))).isEqualTo(1);
+        assertThat(transacao.execute(status -> produtoRepository.deleteProdutoById(1_000_000L))).isZero();
+    }
+
+    @Test
+    @DisplayName("Price band sorted by price should use the (preco_centavos, id) index and page without gaps")
+    void faixaDePrecoShouldUseIndexAndPageByCursor() {
+        String plano = jdbcTemplate.queryForObject(
+                "explain select * from produtos where preco_centavos between 100000000 and 100499900 "
+                        + "and preco_centavos >= 100000000 order by preco_centavos, id limit 50", String.class);
+        assertThat(plano).containsIgnoringCase("IX_PRODUTOS_PRECO_ID");
+
+        // 5.000 produtos na faixa, lidos em páginas de 1.000 pelo cursor (preco, id) do último
+        List<Long> ids = new ArrayList<>();
+        long preco = Long.MIN_VALUE;
+        long id = Long.MIN_VALUE;
+        List<ProdutoEntity> pagina;
+        do {
+            pagina = produtoRepository.findFaixaOrdenadaPorPrecoAsc(100_000_000L, 100_499_900L, preco, id, Limit.of(1000));
+            for (ProdutoEntity produto : pagina) {
+                ids.add(produto.getId());
+                preco = produto.getPrecoCentavos();
+                id = produto.getId();
+            }
+        } while (pagina.size() == 1000);
+
+        assertThat(ids).hasSize(5000).doesNotHaveDuplicates().isSorted();
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.orderhub.produto_service.adapter.persistence;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Base vinda da identity da V0001 com ids acima do início fixo da V0002: as migrações seguintes
+// precisam deixar produtos_seq acima desses ids
+@DisplayName("produtos_seq Migration Tests")
+public class ProdutoSequenceMigracaoIT {
+
+    private static final String URL = "jdbc:h2:mem:migracao-sequence;DB_CLOSE_DELAY=-1";
+
+    @Test
+    @DisplayName("Should restart produtos_seq one allocation block above the ids generated by the identity")
+    void testSequenceComecaDepoisDosIdsExistentes() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL, "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        Flyway.configure().dataSource(dataSource).target("1").load().migrate();
+        jdbcTemplate.update("insert into produtos (id, nome, descricao, preco) values (250000, 'Legado', 'Desc', 1.0)");
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        Long proximo = jdbcTemplate.queryForObject("select next value for produtos_seq", Long.class);
+        // pooled (allocationSize 50): o bloco distribuído vai de proximo - 49 até proximo
+        assertThat(proximo - 49).isGreaterThan(250_000L);
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.orderhub.produto_service.adapter.protecao;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LimiteConcorrenciaAdaptativoTest {
+
+    private static final long RAPIDA = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long LENTA = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void testTentarAdquirir_RecusaAcimaDoLimite() {
+        LimiteConcorrenciaAdaptativo limite = new LimiteConcorrenciaAdaptativo(2, 10, 2);
+
+        assertTrue(limite.tentarAdquirir());
+        assertTrue(limite.tentarAdquirir());
+        assertFalse(limite.tentarAdquirir());
+        assertEquals(2, limite.emVoo());
+
+        limite.liberar(RAPIDA, false);
+        assertTrue(limite.tentarAdquirir());
+    }
+
+    @Test
+    void testLiberar_LatenciaEstavelComLimiteEmUsoCresce() {
+        LimiteConcorrenciaAdaptativo limite = new LimiteConcorrenciaAdaptativo(5, 100, 10);
+
+        for (int i = 0; i < 200; i++) {
+            ocuparTudoELiberar(limite, RAPIDA);
+        }
+
+        assertTrue(limite.limite() > 10, "limite: " + limite.limite());
+    }
+
+    @Test
+    void testLiberar_LatenciaEstavelComPoucoUsoNaoCresce() {
+        LimiteConcorrenciaAdaptativo limite = new LimiteConcorrenciaAdaptativo(5, 100, 20);
+
+        for (int i = 0; i < 200; i++) {
+            assertTrue(limite.tentarAdquirir());
+            limite.liberar(RAPIDA, false);
+        }
+
+        assertEquals(20, limite.limite());
+    }
+
+    @Test
+    void testLiberar_LatenciaSubindoEncolheAteOMinimo() {
+        LimiteConcorrenciaAdaptativo limite = new LimiteConcorrenciaAdaptativo(5, 100, 50);
+        for (int i = 0; i < 600; i++) {
+            ocuparTudoELiberar(limite, RAPIDA);
+        }
+        int antes = limite.limite();
+
+        // poucas rodadas: com o tempo a referência acompanha a latência nova e o limite volta a crescer
+        for (int i = 0; i < 20; i++) {
+            ocuparTudoELiberar(limite, LENTA);
+        }
+
+        assertTrue(limite.limite() < antes, "antes: " + antes + ", depois: " + limite.limite());
+        assertTrue(limite.limite() >= 5);
+    }
+
+    @Test
+    void testLiberar_SobrecargaCortaLimite() {
+        LimiteConcorrenciaAdaptativo limite = new LimiteConcorrenciaAdaptativo(5, 100, 50);
+
+        assertTrue(limite.tentarAdquirir());
+        limite.liberar(RAPIDA, true);
+
+        assertEquals(45, limite.limite());
+    }
+
+    @Test
+    void testConstrutor_LimitesInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> new LimiteConcorrenciaAdaptativo(0, 10, 5));
+        assertThrows(IllegalArgumentException.class, () -> new LimiteConcorrenciaAdaptativo(5, 10, 20));
+    }
+
+    // Uma rodada com todas as vagas ocupadas: cada saída vê o limite em uso
+    private static void ocuparTudoELiberar(LimiteConcorrenciaAdaptativo limite, long latencia) {
+        int ocupadas = 0;
+        while (limite.tentarAdquirir()) {
+            ocupadas++;
+        }
+        for (int i = 0; i < ocupadas; i++) {
+            limite.liberar(latencia, false);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package br.com.orderhub.produto_service.adapter.protecao;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LimiteConcorrenciaFilterTest {
+
+    @Test
+    void testLimiteOcupadoRespondeServicoIndisponivel() throws Exception {
+        LimiteConcorrenciaFilter filter = new LimiteConcorrenciaFilter(true, 1, 1, 1);
+        assertTrue(filter.limite().tentarAdquirir());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/produtos/1"), response, chain);
+
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void testRequisicaoConcluidaDevolveAVaga() throws Exception {
+        LimiteConcorrenciaFilter filter = new LimiteConcorrenciaFilter(true, 1, 1, 1);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/produtos/1"), new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(0, filter.limite().emVoo());
+    }
+
+    @Test
+    void testCaminhosForaDoLimitePassamDireto() throws Exception {
+        LimiteConcorrenciaFilter filter = new LimiteConcorrenciaFilter(true, 1, 1, 1);
+        assertTrue(filter.limite().tentarAdquirir());
+
+        for (String caminho : new String[]{"/produtos/changes", "/produtos/stream", "/actuator/health"}) {
+            MockFilterChain chain = new MockFilterChain();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", caminho), response, chain);
+
+            assertEquals(200, response.getStatus(), caminho);
+            assertNotNull(chain.getRequest(), caminho);
+        }
+    }
+
+    @Test
+    void testDesabilitadoNaoLimita() throws Exception {
+        LimiteConcorrenciaFilter filter = new LimiteConcorrenciaFilter(false, 1, 1, 1);
+        assertTrue(filter.limite().tentarAdquirir());
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/produtos/1"), new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void testTimeoutDoServicoCortaOLimite() throws Exception {
+        LimiteConcorrenciaFilter filter = new LimiteConcorrenciaFilter(true, 1, 100, 50);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/produtos/async/1"), new MockHttpServletResponse(),
+                responderCom(504));
+
+        assertEquals(45, filter.limite().limite());
+        assertEquals(0, filter.limite().emVoo());
+    }
+
+    @Test
+    void testPrazoDoChamadorVencidoNaoContaComoSobrecarga() throws Exception {
+        LimiteConcorrenciaFilter filter = new LimiteConcorrenciaFilter(true, 1, 100, 50);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/produtos/async/1");
+        request.addHeader(PrazoRequisicaoFilter.CABECALHO, "1");
+
+        // o prazo já venceu quando a resposta sai, como o PrazoRequisicaoFilter teria deixado
+        PrazoRequisicao.executarCom(System.nanoTime() - 1, () -> {
+            try {
+                filter.doFilter(request, new MockHttpServletResponse(), responderCom(504));
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+            return null;
+        });
+
+        assertEquals(50, filter.limite().limite());
+        assertEquals(0, filter.limite().emVoo());
+    }
+
+    @Test
+    void testImportacaoEPatchEmLoteOcupamVagaSemEntrarNoCalculo() throws Exception {
+        LimiteConcorrenciaFilter filter = new LimiteConcorrenciaFilter(true, 1, 100, 50);
+        List<MockHttpServletRequest> lotes = List.of(
+                new MockHttpServletRequest("POST", "/produtos/import"),
+                new MockHttpServletRequest("PATCH", "/produtos"));
+
+        for (MockHttpServletRequest request : lotes) {
+            AtomicInteger emVooNaCadeia = new AtomicInteger();
+            filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+                emVooNaCadeia.set(filter.limite().emVoo());
+                ((HttpServletResponse) res).setStatus(504);
+            });
+
+            assertEquals(1, emVooNaCadeia.get(), request.getMethod());
+            assertEquals(0, filter.limite().emVoo(), request.getMethod());
+        }
+        assertEquals(50, filter.limite().limite());
+    }
+
+    private static FilterChain responderCom(int status) {
+        return (request, response) -> ((HttpServletResponse) response).setStatus(status);
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.orderhub.produto_service.adapter.protecao;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class PrazoJpaTransactionManagerTest {
+
+    private final PrazoJpaTransactionManager transactionManager =
+            new PrazoJpaTransactionManager(mock(EntityManagerFactory.class));
+
+    @Test
+    void testSemPrazoMantemTimeoutDaDefinicao() {
+        assertEquals(TransactionDefinition.TIMEOUT_DEFAULT, transactionManager.determineTimeout(definicao(TransactionDefinition.TIMEOUT_DEFAULT)));
+        assertEquals(7, transactionManager.determineTimeout(definicao(7)));
+    }
+
+    @Test
+    void testPrazoViraTimeoutArredondadoParaCima() {
+        int timeout = PrazoRequisicao.executarCom(System.nanoTime() + 2_500_000_000L,
+                () -> transactionManager.determineTimeout(definicao(TransactionDefinition.TIMEOUT_DEFAULT)));
+
+        assertEquals(3, timeout);
+    }
+
+    @Test
+    void testTimeoutDaDefinicaoMenorQueOPrazoPrevalece() {
+        int timeout = PrazoRequisicao.executarCom(System.nanoTime() + 10_000_000_000L,
+                () -> transactionManager.determineTimeout(definicao(1)));
+
+        assertEquals(1, timeout);
+    }
+
+    @Test
+    void testPrazoVencidoNaoAbreTransacao() {
+        assertThrows(TransactionTimedOutException.class, () -> PrazoRequisicao.executarCom(System.nanoTime() - 1,
+                () -> transactionManager.determineTimeout(definicao(TransactionDefinition.TIMEOUT_DEFAULT))));
+    }
+
+    private static TransactionDefinition definicao(int timeout) {
+        DefaultTransactionDefinition definicao = new DefaultTransactionDefinition();
+        definicao.setTimeout(timeout);
+        return definicao;
+    }
+}
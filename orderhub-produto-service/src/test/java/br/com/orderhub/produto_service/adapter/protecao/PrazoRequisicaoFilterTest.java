@@ -0,0 +1,75 @@
+package br.com.orderhub.produto_service.adapter.protecao;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrazoRequisicaoFilterTest {
+
+    private final AtomicReference<Duration> restanteNaCadeia = new AtomicReference<>();
+    private final FilterChain chain = (request, response) -> restanteNaCadeia.set(PrazoRequisicao.restante());
+
+    @Test
+    void testCabecalhoEmEpochMillisDefinePrazoDuranteARequisicao() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/produtos/1");
+        request.addHeader(PrazoRequisicaoFilter.CABECALHO, String.valueOf(System.currentTimeMillis() + 3_000));
+
+        new PrazoRequisicaoFilter(Duration.ZERO).doFilter(request, new MockHttpServletResponse(), chain);
+
+        Duration restante = restanteNaCadeia.get();
+        assertTrue(restante.compareTo(Duration.ofSeconds(2)) > 0 && restante.compareTo(Duration.ofSeconds(3)) <= 0,
+                "restante: " + restante);
+        assertNull(PrazoRequisicao.atual());
+    }
+
+    @Test
+    void testCabecalhoIso8601() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/produtos/1");
+        request.addHeader(PrazoRequisicaoFilter.CABECALHO, Instant.now().plusSeconds(10).toString());
+
+        new PrazoRequisicaoFilter(Duration.ZERO).doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertTrue(restanteNaCadeia.get().compareTo(Duration.ofSeconds(9)) > 0);
+    }
+
+    @Test
+    void testSemCabecalhoUsaPadrao() throws Exception {
+        new PrazoRequisicaoFilter(Duration.ZERO)
+                .doFilter(new MockHttpServletRequest("GET", "/produtos/1"), new MockHttpServletResponse(), chain);
+        assertNull(restanteNaCadeia.get());
+
+        new PrazoRequisicaoFilter(Duration.ofSeconds(5))
+                .doFilter(new MockHttpServletRequest("GET", "/produtos/1"), new MockHttpServletResponse(), chain);
+        assertTrue(restanteNaCadeia.get().compareTo(Duration.ofSeconds(4)) > 0);
+    }
+
+    @Test
+    void testPrazoVencidoRespondeSemChamarACadeia() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/produtos/1");
+        request.addHeader(PrazoRequisicaoFilter.CABECALHO, String.valueOf(System.currentTimeMillis() - 1));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new PrazoRequisicaoFilter(Duration.ZERO).doFilter(request, response, (req, res) -> fail("não deveria chegar à cadeia"));
+
+        assertEquals(504, response.getStatus());
+    }
+
+    @Test
+    void testCabecalhoInvalido() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/produtos/1");
+        request.addHeader(PrazoRequisicaoFilter.CABECALHO, "amanhã");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new PrazoRequisicaoFilter(Duration.ZERO).doFilter(request, response, chain);
+
+        assertEquals(400, response.getStatus());
+        assertNull(restanteNaCadeia.get());
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.orderhub.produto_service.adapter.replica;
+
+import br.com.orderhub.core.domain.entities.Produto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProdutoReplicaArquivoTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void testGravarELer_MantemProdutosESequencia() {
+        ProdutoReplicaCatalogo catalogo = new ProdutoReplicaCatalogo(16);
+        for (long id = 1; id <= 500; id++) {
+            catalogo.guardar(id, "Produto " + id, id % 2 == 0 ? null : "Descrição " + id, id * 10);
+        }
+        catalogo.guardar(3L, "Produto 3 renomeado", "Descrição", 999L);
+        catalogo.remover(4L);
+        Path arquivo = diretorio.resolve("replica").resolve("produtos.bin");
+
+        ProdutoReplicaArquivo.Resumo resumo = ProdutoReplicaArquivo.gravar(arquivo, 42L, catalogo);
+        ProdutoReplicaArquivo.Snapshot snapshot = ProdutoReplicaArquivo.ler(arquivo);
+
+        assertEquals(499, resumo.quantidade());
+        assertEquals(42L, snapshot.sequencia());
+        assertEquals(resumo.geradoEm().toEpochMilli(), snapshot.geradoEm().toEpochMilli());
+        ProdutoReplicaCatalogo lido = snapshot.catalogo();
+        assertEquals(499, lido.quantidade());
+        assertNull(lido.buscar(4L));
+        assertEquals("Produto 3 renomeado", lido.buscar(3L).getNome());
+        assertEquals(9.99, lido.buscar(3L).getPreco());
+        assertNull(lido.buscar(500L).getDescricao());
+        assertFalse(Files.exists(arquivo.resolveSibling("produtos.bin.tmp")));
+
+        // a réplica carregada continua aceitando escritas
+        lido.guardar(501L, "Novo", null, 1L);
+        Produto novo = lido.buscar(501L);
+        assertEquals("Novo", novo.getNome());
+    }
+
+    @Test
+    void testLer_ArquivoDeOutroFormato() throws IOException {
+        Path arquivo = diretorio.resolve("outro.bin");
+        Files.write(arquivo, new byte[64]);
+
+        assertThrows(IllegalStateException.class, () -> ProdutoReplicaArquivo.ler(arquivo));
+    }
+
+    @Test
+    void testLer_VersaoDoFormatoDiferente() throws IOException {
+        Path arquivo = diretorio.resolve("produtos.bin");
+        ProdutoReplicaArquivo.gravar(arquivo, 1L, new ProdutoReplicaCatalogo());
+        byte[] bytes = Files.readAllBytes(arquivo);
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, ProdutoReplicaArquivo.VERSAO_FORMATO + 1);
+        Files.write(arquivo, bytes);
+
+        assertThrows(IllegalStateException.class, () -> ProdutoReplicaArquivo.ler(arquivo));
+    }
+
+    @Test
+    void testLer_ArquivoTruncado() throws IOException {
+        ProdutoReplicaCatalogo catalogo = new ProdutoReplicaCatalogo();
+        catalogo.guardar(1L, "Cafe", "Bebida", 1999L);
+        Path arquivo = diretorio.resolve("produtos.bin");
+        ProdutoReplicaArquivo.gravar(arquivo, 1L, catalogo);
+        byte[] bytes = Files.readAllBytes(arquivo);
+        Files.write(arquivo, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThrows(IllegalStateException.class, () -> ProdutoReplicaArquivo.ler(arquivo));
+    }
+}
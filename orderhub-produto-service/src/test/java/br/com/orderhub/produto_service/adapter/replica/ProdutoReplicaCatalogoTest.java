@@ -0,0 +1,125 @@
+package br.com.orderhub.produto_service.adapter.replica;
+
+import br.com.orderhub.core.domain.entities.Produto;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProdutoReplicaCatalogoTest {
+
+    @Test
+    void testGuardarEBuscar() {
+        ProdutoReplicaCatalogo catalogo = new ProdutoReplicaCatalogo();
+
+        catalogo.guardar(1L, "Cafe", "Bebida", 1999L);
+        Produto produto = catalogo.buscar(1L);
+
+        assertEquals(1L, produto.getId());
+        assertEquals("Cafe", produto.getNome());
+        assertEquals("Bebida", produto.getDescricao());
+        assertEquals(19.99, produto.getPreco());
+        assertEquals(1, catalogo.quantidade());
+    }
+
+    @Test
+    void testBuscar_IdDesconhecidoRetornaNull() {
+        ProdutoReplicaCatalogo catalogo = new ProdutoReplicaCatalogo();
+        catalogo.guardar(1L, "Cafe", "Bebida", 1999L);
+
+        assertNull(catalogo.buscar(2L));
+        assertNull(catalogo.buscar(0L));
+        assertNull(catalogo.buscar(-5L));
+    }
+
+    @Test
+    void testGuardar_SubstituiRegistroAnterior() {
+        ProdutoReplicaCatalogo catalogo = new ProdutoReplicaCatalogo();
+        catalogo.guardar(1L, "Cafe", "Bebida", 1999L);
+
+        catalogo.guardar(1L, "Cafe Especial", "Bebida quente", 2599L);
+
+        Produto produto = catalogo.buscar(1L);
+        assertEquals("Cafe Especial", produto.getNome());
+        assertEquals(25.99, produto.getPreco());
+        assertEquals(1, catalogo.quantidade());
+    }
+
+    @Test
+    void testRemover() {
+        ProdutoReplicaCatalogo catalogo = new ProdutoReplicaCatalogo();
+        catalogo.guardar(1L, "Cafe", "Bebida", 1999L);
+
+        catalogo.remover(1L);
+        catalogo.remover(2L);
+
+        assertNull(catalogo.buscar(1L));
+        assertEquals(0, catalogo.quantidade());
+
+        catalogo.guardar(1L, "Cafe", "Bebida", 1999L);
+        assertEquals("Cafe", catalogo.buscar(1L).getNome());
+        assertEquals(1, catalogo.quantidade());
+    }
+
+    @Test
+    void testGuardar_DescricaoNulaETextoUnicode() {
+        ProdutoReplicaCatalogo catalogo = new ProdutoReplicaCatalogo();
+
+        catalogo.guardar(7L, "Pão de açúcar ☕", null, 0L);
+
+        Produto produto = catalogo.buscar(7L);
+        assertEquals("Pão de açúcar ☕", produto.getNome());
+        assertNull(produto.getDescricao());
+        assertEquals(0.0, produto.getPreco());
+    }
+
+    @Test
+    void testVersao_AcompanhaGravacaoExclusaoECompactacao() {
+        ProdutoReplicaCatalogo catalogo = new ProdutoReplicaCatalogo(16);
+
+        catalogo.guardar(1L, "Cafe", "Bebida", 1999L);
+        catalogo.guardar(2L, 3L, "Cha", null, 850L);
+        catalogo.guardar(3L, 0L, "Mate", null, 700L);
+        catalogo.remover(3L);
+
+        assertEquals(ProdutoReplicaCatalogo.VERSAO_DESCONHECIDA, catalogo.versao(1L));
+        assertEquals(3L, catalogo.versao(2L));
+        assertEquals(ProdutoReplicaCatalogo.VERSAO_REMOVIDO, catalogo.versao(3L));
+        assertEquals(ProdutoReplicaCatalogo.VERSAO_DESCONHECIDA, catalogo.versao(4L));
+
+        // a reconstrução do índice leva as versões dos registros vivos junto
+        for (long id = 10; id < 100; id++) {
+            catalogo.guardar(id, id, "Produto " + id, null, id);
+        }
+        assertEquals(3L, catalogo.versao(2L));
+        assertEquals(99L, catalogo.versao(99L));
+    }
+
+    @Test
+    void testGuardar_MuitosProdutosCresceIndiceEBuffer() {
+        ProdutoReplicaCatalogo catalogo = new ProdutoReplicaCatalogo(16);
+        long indiceInicial = catalogo.bytesIndice();
+        long bufferInicial = catalogo.bytesForaDoHeap();
+
+        for (long id = 1; id <= 20_000; id++) {
+            catalogo.guardar(id, "Produto " + id, "Descricao do produto " + id, id * 100);
+        }
+        for (long id = 1; id <= 20_000; id += 2) {
+            catalogo.remover(id);
+        }
+
+        assertEquals(10_000, catalogo.quantidade());
+        assertTrue(catalogo.bytesIndice() > indiceInicial);
+        assertTrue(catalogo.bytesForaDoHeap() > bufferInicial);
+        assertNull(catalogo.buscar(19_999L));
+        Produto produto = catalogo.buscar(20_000L);
+        assertEquals("Produto 20000", produto.getNome());
+        assertEquals(20_000.0, produto.getPreco());
+    }
+
+    @Test
+    void testGuardar_IdNaoPositivoLancaExcecao() {
+        ProdutoReplicaCatalogo catalogo = new ProdutoReplicaCatalogo();
+
+        assertThrows(IllegalArgumentException.class, () -> catalogo.guardar(0L, "Cafe", null, 100L));
+    }
+}
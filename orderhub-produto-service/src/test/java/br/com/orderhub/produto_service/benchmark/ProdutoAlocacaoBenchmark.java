@@ -0,0 +1,103 @@
+package br.com.orderhub.produto_service.benchmark;
+
+import br.com.orderhub.core.controller.ProdutoController;
+import br.com.orderhub.produto_service.adapter.dto.ProdutoApiResponseDto;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoConsulta;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoOrdenacao;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoRepositoryJpaGatewayImpl;
+import br.com.orderhub.produto_service.adapter.mapper.ProdutoApiDtoMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+// Bytes alocados por requisição nas leituras em lista: entidade gerenciada -> Produto (-> ProdutoDTO no
+// core) -> resposta, contra projeção ProdutoResumo -> resposta. O número que interessa é o
+// gc.alloc.rate.norm do profiler gc (ligado por padrão no profile benchmark):
+//   mvn -Pbenchmark -DskipTests verify -Djmh.filtro=ProdutoAlocacao
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProdutoAlocacaoBenchmark extends ProdutoContextoBenchmark {
+
+    private static final int TAMANHO_PAGINA = 1000;
+    private static final int TAMANHO_LOTE = 500;
+
+    private ProdutoRepositoryJpaGatewayImpl produtoGateway;
+    private ProdutoController produtoController;
+    private Set<Long> idsLote;
+
+    @Override
+    protected void iniciarBeans() {
+        produtoGateway = contexto.getBean(ProdutoRepositoryJpaGatewayImpl.class);
+        produtoController = contexto.getBean(ProdutoController.class);
+
+        idsLote = new TreeSet<>();
+        while (idsLote.size() < TAMANHO_LOTE) {
+            idsLote.add(idAleatorio());
+        }
+    }
+
+    // A listagem com filtro (ProdutoConsulta) ainda lê entidades; sem faixa de preço, é a mesma página por id
+    @Benchmark
+    public List<ProdutoApiResponseDto> paginaViaEntidade() {
+        ProdutoConsulta consulta = new ProdutoConsulta(0L, Long.MAX_VALUE, ProdutoOrdenacao.ID,
+                String.valueOf(cursorAleatorio()), TAMANHO_PAGINA);
+        return produtoGateway.listarPagina(consulta).produtos()
+                .stream().map(ProdutoApiDtoMapper::produtoToResponseDto)
+                .toList();
+    }
+
+    @Benchmark
+    public List<ProdutoApiResponseDto> paginaViaProjecao() {
+        return produtoGateway.listarResumos(cursorAleatorio(), TAMANHO_PAGINA)
+                .stream().map(ProdutoApiDtoMapper::resumoToResponseDto)
+                .toList();
+    }
+
+    @Benchmark
+    public List<ProdutoApiResponseDto> loteViaEntidade() {
+        return produtoGateway.buscarPorIds(idsLote)
+                .stream().map(ProdutoApiDtoMapper::produtoToResponseDto)
+                .toList();
+    }
+
+    @Benchmark
+    public List<ProdutoApiResponseDto> loteViaProjecao() {
+        return produtoGateway.buscarResumosPorIds(idsLote)
+                .stream().map(ProdutoApiDtoMapper::resumoToResponseDto)
+                .toList();
+    }
+
+    // Caminho antigo de GET /produtos: gateway -> ProdutoController do core (ProdutoDTO) -> resposta
+    @Benchmark
+    public List<ProdutoApiResponseDto> catalogoViaCore() {
+        return produtoController.listarTodosProdutos()
+                .stream().map(ProdutoApiDtoMapper::produtoDtoToResponseDto)
+                .toList();
+    }
+
+    @Benchmark
+    public List<ProdutoApiResponseDto> catalogoViaProjecao() {
+        return produtoGateway.listarTodosResumos()
+                .stream().map(ProdutoApiDtoMapper::resumoToResponseDto)
+                .toList();
+    }
+
+    private long cursorAleatorio() {
+        return Math.max(PRIMEIRO_ID - 1, idAleatorio() - TAMANHO_PAGINA);
+    }
+}
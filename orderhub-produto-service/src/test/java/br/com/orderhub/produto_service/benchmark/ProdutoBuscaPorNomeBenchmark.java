@@ -0,0 +1,55 @@
+package br.com.orderhub.produto_service.benchmark;
+
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoEntity;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// findByNome num catálogo de 200 mil produtos, com e sem o índice único de nome da V0003
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProdutoBuscaPorNomeBenchmark extends ProdutoContextoBenchmark {
+
+    private static final int QUANTIDADE = 200_000;
+
+    @Param({"com", "sem"})
+    public String indice;
+
+    private ProdutoRepository produtoRepository;
+
+    @Override
+    protected int quantidadeProdutos() {
+        return QUANTIDADE;
+    }
+
+    @Override
+    protected void iniciarBeans() {
+        if (indice.equals("sem")) {
+            contexto.getBean(JdbcTemplate.class).execute("drop index uk_produtos_nome");
+        }
+        produtoRepository = contexto.getBean(ProdutoRepository.class);
+    }
+
+    @Benchmark
+    public Optional<ProdutoEntity> findByNome() {
+        return produtoRepository.findByNome(
+                "Produto Benchmark " + (PRIMEIRO_ID + ThreadLocalRandom.current().nextInt(QUANTIDADE)));
+    }
+}
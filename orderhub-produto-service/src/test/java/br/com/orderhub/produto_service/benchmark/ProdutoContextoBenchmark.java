@@ -0,0 +1,56 @@
+package br.com.orderhub.produto_service.benchmark;
+
+import br.com.orderhub.produto_service.OrderhubProdutoServiceApplication;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// Sobe a aplicação sem servidor HTTP, com o H2 em memória, e popula o catálogo uma vez por trial.
+// Os benchmarks chamam os beans diretamente (gateway, ProdutoController do core, ProdutoApiController).
+public abstract class ProdutoContextoBenchmark {
+
+    protected static final long PRIMEIRO_ID = 1_000_000L;
+    protected static final int QUANTIDADE_PRODUTOS = 10_000;
+
+    protected ConfigurableApplicationContext contexto;
+
+    @Setup(Level.Trial)
+    public void iniciarContexto() {
+        contexto = new SpringApplicationBuilder(OrderhubProdutoServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN"
+                );
+
+        contexto.getBean(JdbcTemplate.class).update(
+                "insert into produtos (id, nome, descricao, preco_centavos) "
+                        + "select x, 'Produto Benchmark ' || x, 'Descricao do produto ' || x, x "
+                        + "from system_range(?, ?)",
+                PRIMEIRO_ID, PRIMEIRO_ID + quantidadeProdutos() - 1);
+        iniciarBeans();
+    }
+
+    @TearDown(Level.Trial)
+    public void fecharContexto() {
+        contexto.close();
+    }
+
+    protected abstract void iniciarBeans();
+
+    // Tamanho do catálogo populado; benchmarks de consulta em tabela grande sobrescrevem
+    protected int quantidadeProdutos() {
+        return QUANTIDADE_PRODUTOS;
+    }
+
+    protected static long idAleatorio() {
+        return PRIMEIRO_ID + ThreadLocalRandom.current().nextInt(QUANTIDADE_PRODUTOS);
+    }
+}
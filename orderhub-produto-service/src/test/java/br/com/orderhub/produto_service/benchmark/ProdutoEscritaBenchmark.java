@@ -0,0 +1,41 @@
+package br.com.orderhub.produto_service.benchmark;
+
+import br.com.orderhub.core.controller.ProdutoController;
+import br.com.orderhub.core.dto.produtos.CriarProdutoDTO;
+import br.com.orderhub.core.dto.produtos.ProdutoDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Criação de produto pelo caminho completo do core (checagem de nome + INSERT + cache)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProdutoEscritaBenchmark extends ProdutoContextoBenchmark {
+
+    private final AtomicLong sequencia = new AtomicLong();
+    private ProdutoController produtoController;
+
+    @Override
+    protected void iniciarBeans() {
+        produtoController = contexto.getBean(ProdutoController.class);
+    }
+
+    @Benchmark
+    public ProdutoDTO coreCriarProduto() {
+        return produtoController.criarProduto(
+                new CriarProdutoDTO("Produto Criado " + sequencia.incrementAndGet(), "Criado no benchmark", 10.0));
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.orderhub.produto_service.benchmark;
+
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoConsulta;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoOrdenacao;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoPagina;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoRepositoryJpaGatewayImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Faixa de preço e ordenação (GET /produtos?minPreco=&maxPreco=&sort=&limit=) num catálogo de um
+// milhão de produtos, com e sem os índices da V0008. Cada produto custa o próprio id em centavos,
+// então uma faixa de 1% do catálogo tem 10 mil produtos.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProdutoFaixaPrecoBenchmark extends ProdutoContextoBenchmark {
+
+    private static final int QUANTIDADE = 1_000_000;
+    private static final int LARGURA_FAIXA = QUANTIDADE / 100;
+    private static final int LIMITE = 50;
+
+    @Param({"com", "sem"})
+    public String indices;
+
+    private ProdutoRepositoryJpaGatewayImpl produtoGateway;
+    private String cursorNoMeioDaFaixa;
+
+    @Override
+    protected int quantidadeProdutos() {
+        return QUANTIDADE;
+    }
+
+    @Override
+    protected void iniciarBeans() {
+        if (indices.equals("sem")) {
+            JdbcTemplate jdbcTemplate = contexto.getBean(JdbcTemplate.class);
+            jdbcTemplate.execute("drop index ix_produtos_preco_id");
+            jdbcTemplate.execute("drop index ix_produtos_nome_preco");
+        }
+        produtoGateway = contexto.getBean(ProdutoRepositoryJpaGatewayImpl.class);
+
+        // cursor depois de 100 páginas de uma faixa, para medir uma página "funda" sem OFFSET
+        ProdutoPagina pagina = produtoGateway.listarPagina(consulta(PRIMEIRO_ID, ProdutoOrdenacao.PRECO_ASC, null, 100 * LIMITE));
+        cursorNoMeioDaFaixa = pagina.proximoCursor();
+    }
+
+    @Benchmark
+    public ProdutoPagina faixaOrdenadaPorPreco() {
+        return produtoGateway.listarPagina(consulta(inicioAleatorio(), ProdutoOrdenacao.PRECO_ASC, null, LIMITE));
+    }
+
+    @Benchmark
+    public ProdutoPagina faixaOrdenadaPorPrecoDesc() {
+        return produtoGateway.listarPagina(consulta(inicioAleatorio(), ProdutoOrdenacao.PRECO_DESC, null, LIMITE));
+    }
+
+    @Benchmark
+    public ProdutoPagina faixaPaginaFundaPorCursor() {
+        return produtoGateway.listarPagina(consulta(PRIMEIRO_ID, ProdutoOrdenacao.PRECO_ASC, cursorNoMeioDaFaixa, LIMITE));
+    }
+
+    @Benchmark
+    public ProdutoPagina faixaOrdenadaPorNome() {
+        return produtoGateway.listarPagina(consulta(inicioAleatorio(), ProdutoOrdenacao.NOME_ASC, null, LIMITE));
+    }
+
+    private static ProdutoConsulta consulta(long minCentavos, ProdutoOrdenacao ordenacao, String cursor, int limite) {
+        return new ProdutoConsulta(minCentavos, minCentavos + LARGURA_FAIXA - 1, ordenacao, cursor, limite);
+    }
+
+    private static long inicioAleatorio() {
+        return PRIMEIRO_ID + ThreadLocalRandom.current().nextInt(QUANTIDADE - LARGURA_FAIXA);
+    }
+}
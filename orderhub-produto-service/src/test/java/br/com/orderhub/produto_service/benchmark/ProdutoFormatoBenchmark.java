@@ -0,0 +1,76 @@
+package br.com.orderhub.produto_service.benchmark;
+
+import br.com.orderhub.produto_service.adapter.dto.ProdutoApiResponseDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// JSON x CBOR para a lista de produtos (GET /produtos com Accept application/json ou application/cbor).
+// O tamanho de cada payload é impresso no setup, ao lado dos tempos de codificação/decodificação.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProdutoFormatoBenchmark {
+
+    private static final TypeReference<List<ProdutoApiResponseDto>> LISTA = new TypeReference<>() {
+    };
+
+    @Param({"10000"})
+    public int tamanho;
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+    private List<ProdutoApiResponseDto> produtos;
+    private byte[] produtosJson;
+    private byte[] produtosCbor;
+
+    @Setup
+    public void setUp() throws Exception {
+        produtos = new ArrayList<>(tamanho);
+        for (long i = 1; i <= tamanho; i++) {
+            produtos.add(new ProdutoApiResponseDto(i, "Produto " + i, "Descrição do produto " + i, i * 1.99));
+        }
+        produtosJson = json.writeValueAsBytes(produtos);
+        produtosCbor = cbor.writeValueAsBytes(produtos);
+        System.out.printf("%n%d produtos: JSON %d bytes, CBOR %d bytes (%.1f%%)%n", tamanho,
+                produtosJson.length, produtosCbor.length, 100.0 * produtosCbor.length / produtosJson.length);
+    }
+
+    @Benchmark
+    public byte[] serializarJson() throws Exception {
+        return json.writeValueAsBytes(produtos);
+    }
+
+    @Benchmark
+    public byte[] serializarCbor() throws Exception {
+        return cbor.writeValueAsBytes(produtos);
+    }
+
+    @Benchmark
+    public List<ProdutoApiResponseDto> desserializarJson() throws Exception {
+        return json.readValue(produtosJson, LISTA);
+    }
+
+    @Benchmark
+    public List<ProdutoApiResponseDto> desserializarCbor() throws Exception {
+        return cbor.readValue(produtosCbor, LISTA);
+    }
+}
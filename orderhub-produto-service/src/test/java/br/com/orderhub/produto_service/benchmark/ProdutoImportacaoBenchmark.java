@@ -0,0 +1,95 @@
+package br.com.orderhub.produto_service.benchmark;
+
+import br.com.orderhub.core.domain.entities.Produto;
+import br.com.orderhub.produto_service.adapter.controller.ProdutoImportacaoApiController;
+import br.com.orderhub.produto_service.adapter.dto.ProdutoImportacaoApiResponseDto;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoImportado;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoRepositoryJpaGatewayImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Vazão da importação em produtos por segundo: um lote de importarLote só com nomes novos (INSERT em batch)
+// e só com nomes do catálogo (UPDATE em batch), e POST /produtos/import com um corpo NDJSON de vários lotes.
+// Os preços mudam a cada invocação para o dirty checking sempre gerar o UPDATE.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProdutoImportacaoBenchmark extends ProdutoContextoBenchmark {
+
+    // Mesmo tamanho do padrão de orderhub.produto.importacao.tamanho-lote
+    private static final int TAMANHO_LOTE = 500;
+    private static final int ITENS_CORPO = 10 * TAMANHO_LOTE;
+
+    private final AtomicLong sequencia = new AtomicLong();
+    private ProdutoRepositoryJpaGatewayImpl produtoGateway;
+    private ProdutoImportacaoApiController importacaoController;
+    private byte[][] corpos;
+
+    @Override
+    protected void iniciarBeans() {
+        produtoGateway = contexto.getBean(ProdutoRepositoryJpaGatewayImpl.class);
+        importacaoController = contexto.getBean(ProdutoImportacaoApiController.class);
+        // dois corpos com os mesmos nomes e preços diferentes: alternados, toda linha vira UPDATE
+        corpos = new byte[][]{corpoNdjson(1), corpoNdjson(2)};
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TAMANHO_LOTE)
+    public List<ProdutoImportado> importarLoteInsercao() {
+        long lote = sequencia.incrementAndGet();
+        List<Produto> produtos = new ArrayList<>(TAMANHO_LOTE);
+        for (int i = 0; i < TAMANHO_LOTE; i++) {
+            produtos.add(new Produto(null, "Produto Importado " + lote + "-" + i, "Importado no benchmark", 10.0));
+        }
+        return produtoGateway.importarLote(produtos);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TAMANHO_LOTE)
+    public List<ProdutoImportado> importarLoteAtualizacao() {
+        long primeiro = PRIMEIRO_ID + ThreadLocalRandom.current().nextInt(QUANTIDADE_PRODUTOS - TAMANHO_LOTE);
+        double preco = sequencia.incrementAndGet() % 1000;
+        List<Produto> produtos = new ArrayList<>(TAMANHO_LOTE);
+        for (int i = 0; i < TAMANHO_LOTE; i++) {
+            produtos.add(new Produto(null, "Produto Benchmark " + (primeiro + i), "Atualizado no benchmark", preco));
+        }
+        return produtoGateway.importarLote(produtos);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITENS_CORPO)
+    public ResponseEntity<ProdutoImportacaoApiResponseDto> postImportNdjsonAtualizacao() throws IOException {
+        byte[] corpo = corpos[(int) (sequencia.incrementAndGet() & 1)];
+        return importacaoController.importarProdutos(new ByteArrayInputStream(corpo));
+    }
+
+    private static byte[] corpoNdjson(int preco) {
+        StringBuilder corpo = new StringBuilder();
+        for (int i = 0; i < ITENS_CORPO; i++) {
+            corpo.append("{\"nome\":\"Produto Benchmark ").append(PRIMEIRO_ID + i)
+                    .append("\",\"descricao\":\"Importado no benchmark\",\"preco\":").append(preco).append("}\n");
+        }
+        return corpo.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
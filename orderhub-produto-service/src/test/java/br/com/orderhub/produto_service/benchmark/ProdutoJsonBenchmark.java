@@ -0,0 +1,73 @@
+package br.com.orderhub.produto_service.benchmark;
+
+import br.com.orderhub.produto_service.adapter.dto.ProdutoApiRequestDto;
+import br.com.orderhub.produto_service.adapter.dto.ProdutoApiResponseDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Serialização Jackson dos DTOs da API: um produto, listas de N produtos e o corpo do POST
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProdutoJsonBenchmark {
+
+    private static final TypeReference<List<ProdutoApiResponseDto>> LISTA = new TypeReference<>() {
+    };
+
+    @Param({"1", "100", "1000"})
+    public int tamanho;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<ProdutoApiResponseDto> produtos;
+    private byte[] produtosJson;
+    private byte[] requestJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        produtos = new ArrayList<>(tamanho);
+        for (long i = 1; i <= tamanho; i++) {
+            produtos.add(new ProdutoApiResponseDto(i, "Produto " + i, "Descrição do produto " + i, i * 1.99));
+        }
+        produtosJson = objectMapper.writeValueAsBytes(produtos);
+        requestJson = objectMapper.writeValueAsBytes(
+                new ProdutoApiRequestDto("Teclado Mecânico", "Teclado gamer com iluminação RGB", 279.50));
+    }
+
+    @Benchmark
+    public byte[] serializarLista() throws Exception {
+        return objectMapper.writeValueAsBytes(produtos);
+    }
+
+    @Benchmark
+    public List<ProdutoApiResponseDto> desserializarLista() throws Exception {
+        return objectMapper.readValue(produtosJson, LISTA);
+    }
+
+    @Benchmark
+    public byte[] serializarProduto() throws Exception {
+        return objectMapper.writeValueAsBytes(produtos.get(0));
+    }
+
+    @Benchmark
+    public ProdutoApiRequestDto desserializarRequest() throws Exception {
+        return objectMapper.readValue(requestJson, ProdutoApiRequestDto.class);
+    }
+}
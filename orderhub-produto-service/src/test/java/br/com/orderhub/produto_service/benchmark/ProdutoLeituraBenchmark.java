@@ -0,0 +1,62 @@
+package br.com.orderhub.produto_service.benchmark;
+
+import br.com.orderhub.core.controller.ProdutoController;
+import br.com.orderhub.core.domain.entities.Produto;
+import br.com.orderhub.core.dto.produtos.ProdutoDTO;
+import br.com.orderhub.produto_service.adapter.controller.ProdutoApiController;
+import br.com.orderhub.produto_service.adapter.dto.ProdutoApiResponseDto;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoRepositoryJpaGatewayImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+// GET de um produto por id em cada camada: gateway JPA (sempre no banco), core (passa pelo cache)
+// e o ProdutoApiController completo.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProdutoLeituraBenchmark extends ProdutoContextoBenchmark {
+
+    private ProdutoRepositoryJpaGatewayImpl produtoGateway;
+    private ProdutoController produtoController;
+    private ProdutoApiController produtoApiController;
+
+    @Override
+    protected void iniciarBeans() {
+        produtoGateway = contexto.getBean(ProdutoRepositoryJpaGatewayImpl.class);
+        produtoController = contexto.getBean(ProdutoController.class);
+        produtoApiController = contexto.getBean(ProdutoApiController.class);
+    }
+
+    @Benchmark
+    public Produto gatewayJpaBuscarPorId() {
+        return produtoGateway.buscarPorId(idAleatorio());
+    }
+
+    @Benchmark
+    public ProdutoDTO coreBuscarPorId() {
+        return produtoController.buscarProdutoPorId(idAleatorio());
+    }
+
+    @Benchmark
+    public ResponseEntity<ProdutoApiResponseDto> apiBuscarPorId() {
+        return produtoApiController.buscarProdutoPorId(idAleatorio());
+    }
+
+    @Benchmark
+    public Produto gatewayJpaBuscarPorNome() {
+        return produtoGateway.buscarPorNome("Produto Benchmark " + idAleatorio());
+    }
+}
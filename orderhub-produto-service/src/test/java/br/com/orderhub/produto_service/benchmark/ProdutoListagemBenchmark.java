@@ -0,0 +1,56 @@
+package br.com.orderhub.produto_service.benchmark;
+
+import br.com.orderhub.produto_service.adapter.controller.ProdutoApiController;
+import br.com.orderhub.produto_service.adapter.dto.ProdutoPaginaApiResponseDto;
+import br.com.orderhub.produto_service.adapter.gateway.ProdutoRepositoryJpaGatewayImpl;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoResumo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Listagem de N produtos (paginação por cursor) no gateway JPA e no ProdutoApiController
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProdutoListagemBenchmark extends ProdutoContextoBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int tamanho;
+
+    private ProdutoRepositoryJpaGatewayImpl produtoGateway;
+    private ProdutoApiController produtoApiController;
+
+    @Override
+    protected void iniciarBeans() {
+        produtoGateway = contexto.getBean(ProdutoRepositoryJpaGatewayImpl.class);
+        produtoApiController = contexto.getBean(ProdutoApiController.class);
+    }
+
+    @Benchmark
+    public List<ProdutoResumo> gatewayJpaListarPagina() {
+        return produtoGateway.listarResumos(cursorAleatorio(), tamanho);
+    }
+
+    @Benchmark
+    public ResponseEntity<ProdutoPaginaApiResponseDto> apiListarPagina() {
+        return produtoApiController.listarPaginaProdutos(cursorAleatorio(), null, null, null, null, tamanho);
+    }
+
+    private long cursorAleatorio() {
+        return idAleatorio() - tamanho;
+    }
+}
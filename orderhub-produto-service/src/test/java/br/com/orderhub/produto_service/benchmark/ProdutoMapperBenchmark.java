@@ -0,0 +1,69 @@
+package br.com.orderhub.produto_service.benchmark;
+
+import br.com.orderhub.core.domain.entities.Produto;
+import br.com.orderhub.core.dto.produtos.CriarProdutoDTO;
+import br.com.orderhub.core.dto.produtos.ProdutoDTO;
+import br.com.orderhub.produto_service.adapter.dto.ProdutoApiRequestDto;
+import br.com.orderhub.produto_service.adapter.dto.ProdutoApiResponseDto;
+import br.com.orderhub.produto_service.adapter.mapper.ProdutoApiDtoMapper;
+import br.com.orderhub.produto_service.adapter.mapper.ProdutoEntityMapper;
+import br.com.orderhub.produto_service.adapter.persistence.ProdutoEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProdutoMapperBenchmark {
+
+    private ProdutoEntity produtoEntity;
+    private Produto produto;
+    private ProdutoDTO produtoDTO;
+    private ProdutoApiRequestDto requestDto;
+
+    @Setup
+    public void setUp() {
+        produtoEntity = new ProdutoEntity(1L, "Teclado Mecânico", "Teclado gamer com iluminação RGB", 279.50);
+        produto = new Produto(1L, "Teclado Mecânico", "Teclado gamer com iluminação RGB", 279.50);
+        produtoDTO = new ProdutoDTO(1L, "Teclado Mecânico", "Teclado gamer com iluminação RGB", 279.50);
+        requestDto = new ProdutoApiRequestDto("Teclado Mecânico", "Teclado gamer com iluminação RGB", 279.50);
+    }
+
+    @Benchmark
+    public Produto entityToDomain() {
+        return ProdutoEntityMapper.entityToDomain(produtoEntity);
+    }
+
+    @Benchmark
+    public ProdutoEntity domainToEntity() {
+        return ProdutoEntityMapper.domainToEntity(produto);
+    }
+
+    @Benchmark
+    public ProdutoApiResponseDto produtoDtoToResponseDto() {
+        return ProdutoApiDtoMapper.produtoDtoToResponseDto(produtoDTO);
+    }
+
+    @Benchmark
+    public ProdutoApiResponseDto produtoToResponseDto() {
+        return ProdutoApiDtoMapper.produtoToResponseDto(produto);
+    }
+
+    @Benchmark
+    public CriarProdutoDTO requestDtoToCriarProdutoDto() {
+        return ProdutoApiDtoMapper.requestDtoToCriarProdutoDto(requestDto);
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.orderhub.produto_service.benchmark;
+
+import br.com.orderhub.core.controller.ProdutoController;
+import br.com.orderhub.core.exceptions.ProdutoNaoEncontradoException;
+import br.com.orderhub.produto_service.adapter.controller.ProdutoApiController;
+import br.com.orderhub.produto_service.adapter.dto.ProdutoApiResponseDto;
+import br.com.orderhub.produto_service.adapter.mapper.ProdutoApiDtoMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// GET /produtos/{id} com tráfego dominado por faltas (scanners, serviço de pedidos), nos dois caminhos do 404:
+// o antigo, pela ProdutoNaoEncontradoException do core, e o atual do ProdutoApiController, pelo Optional.
+// O caminho antigo é medido sem o System.out.println que o acompanhava, então a diferença é só a exceção;
+// com o profiler gc (padrão do perfil benchmark), gc.alloc.rate.norm mostra o que cada falta aloca.
+// Os ids inexistentes ficam logo depois do catálogo, e as faltas vão ao banco nos dois caminhos.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProdutoNaoEncontradoBenchmark extends ProdutoContextoBenchmark {
+
+    @Param({"50", "90", "100"})
+    public int percentualFaltas;
+
+    private ProdutoController produtoController;
+    private ProdutoApiController produtoApiController;
+
+    @Override
+    protected void iniciarBeans() {
+        produtoController = contexto.getBean(ProdutoController.class);
+        produtoApiController = contexto.getBean(ProdutoApiController.class);
+    }
+
+    @Benchmark
+    public ResponseEntity<ProdutoApiResponseDto> excecaoDoCore() {
+        try {
+            return ResponseEntity.ok(
+                    ProdutoApiDtoMapper.produtoDtoToResponseDto(produtoController.buscarProdutoPorId(idDoTrafego()))
+            );
+        } catch (ProdutoNaoEncontradoException ex) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ProdutoApiResponseDto> optionalDaApi() {
+        return produtoApiController.buscarProdutoPorId(idDoTrafego());
+    }
+
+    private long idDoTrafego() {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        if (aleatorio.nextInt(100) < percentualFaltas) {
+            return PRIMEIRO_ID + QUANTIDADE_PRODUTOS + aleatorio.nextInt(QUANTIDADE_PRODUTOS);
+        }
+        return idAleatorio();
+    }
+}
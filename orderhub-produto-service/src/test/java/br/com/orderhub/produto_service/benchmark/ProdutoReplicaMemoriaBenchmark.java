@@ -0,0 +1,102 @@
+package br.com.orderhub.produto_service.benchmark;
+
+import br.com.orderhub.core.domain.entities.Produto;
+import br.com.orderhub.produto_service.adapter.mapper.PrecoMapper;
+import br.com.orderhub.produto_service.adapter.replica.ProdutoReplicaCatalogo;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Memória para manter o catálogo inteiro em memória: HashMap<Long, Produto> contra ProdutoReplicaCatalogo.
+// Cada execução monta a estrutura uma vez e reporta, como contadores auxiliares, o heap retido depois de
+// um GC (bytesHeap) e o buffer direto (bytesForaDoHeap). O tempo medido é só o da montagem.
+//   mvn -Pbenchmark -DskipTests verify -Djmh.filtro=ProdutoReplicaMemoria
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g", "-XX:MaxDirectMemorySize=4g"})
+public class ProdutoReplicaMemoriaBenchmark {
+
+    @Param({"1000000", "10000000"})
+    private int quantidade;
+
+    @Param({"hashmap", "replica"})
+    private String estrutura;
+
+    // mantém a estrutura viva até a próxima montagem, para a medição depois do GC
+    private Object montada;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Memoria {
+        public long bytesHeap;
+        public long bytesForaDoHeap;
+
+        @Setup(Level.Iteration)
+        public void zerar() {
+            bytesHeap = 0;
+            bytesForaDoHeap = 0;
+        }
+    }
+
+    @Benchmark
+    public void montar(Memoria memoria) {
+        montada = null;
+        long antes = heapUsadoDepoisDoGc();
+
+        if ("hashmap".equals(estrutura)) {
+            Map<Long, Produto> produtos = new HashMap<>();
+            for (long id = 1; id <= quantidade; id++) {
+                produtos.put(id, new Produto(id, nome(id), descricao(id), PrecoMapper.centavosParaReais(preco(id))));
+            }
+            montada = produtos;
+        } else {
+            ProdutoReplicaCatalogo catalogo = new ProdutoReplicaCatalogo(quantidade);
+            for (long id = 1; id <= quantidade; id++) {
+                catalogo.guardar(id, nome(id), descricao(id), preco(id));
+            }
+            montada = catalogo;
+            memoria.bytesForaDoHeap = catalogo.bytesForaDoHeap();
+        }
+
+        memoria.bytesHeap = heapUsadoDepoisDoGc() - antes;
+    }
+
+    private static long heapUsadoDepoisDoGc() {
+        MemoryMXBean memoria = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memoria.getHeapMemoryUsage().getUsed();
+    }
+
+    private static String nome(long id) {
+        return "Produto " + id;
+    }
+
+    private static String descricao(long id) {
+        return "Descrição do produto " + id + " para o catálogo";
+    }
+
+    private static long preco(long id) {
+        return 100 + (id * 37) % 100_000;
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.orderhub.produto_service.carga;
+
+import br.com.orderhub.produto_service.OrderhubProdutoServiceApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        classes = OrderhubProdutoServiceApplication.class,
+        properties = {"spring.threads.virtual.enabled=false", "spring.jpa.show-sql=false"}
+)
+class CargaThreadsPlataformaIT extends ProdutoCargaTestBase {
+
+    @Override
+    protected String modo() {
+        return "threads de plataforma";
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.orderhub.produto_service.carga;
+
+import br.com.orderhub.produto_service.OrderhubProdutoServiceApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        classes = OrderhubProdutoServiceApplication.class,
+        properties = "spring.jpa.show-sql=false"
+)
+@ActiveProfiles({"test", "virtual-threads"})
+class CargaThreadsVirtuaisIT extends ProdutoCargaTestBase {
+
+    @Override
+    protected String modo() {
+        return "threads virtuais";
+    }
+}
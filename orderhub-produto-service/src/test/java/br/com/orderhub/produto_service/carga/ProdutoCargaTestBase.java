@@ -0,0 +1,107 @@
+package br.com.orderhub.produto_service.carga;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Dispara a mesma carga (leituras por id e páginas da listagem) contra o serviço e imprime vazão e
+// latências. As subclasses só mudam o modo de threads, para comparar as duas execuções: mvn test -Pcarga
+// O limite adaptativo de concorrência fica desligado: aqui interessa a vazão de cada modo, não o descarte.
+@Tag("carga")
+@ActiveProfiles("test")
+@TestPropertySource(properties = "orderhub.produto.limite.habilitado=false")
+@Sql(scripts = {"classpath:/db_clean.sql", "classpath:/db_load.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = {"classpath:/db_clean.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+abstract class ProdutoCargaTestBase {
+
+    private static final int AQUECIMENTO = 2_000;
+    private static final int REQUISICOES = 20_000;
+    private static final int CONCORRENCIA = 500;
+
+    @LocalServerPort
+    private int port;
+
+    protected abstract String modo();
+
+    @Test
+    void executarCarga() throws Exception {
+        HttpClient cliente = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        disparar(cliente, AQUECIMENTO);
+        long[] latencias = new long[REQUISICOES];
+        AtomicInteger erros = new AtomicInteger();
+
+        long inicio = System.nanoTime();
+        List<Future<?>> tarefas = new ArrayList<>(REQUISICOES);
+        Semaphore emVoo = new Semaphore(CONCORRENCIA);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < REQUISICOES; i++) {
+                final int n = i;
+                emVoo.acquire();
+                tarefas.add(executor.submit(() -> {
+                    try {
+                        long t0 = System.nanoTime();
+                        HttpResponse<Void> resposta = cliente.send(requisicao(n), HttpResponse.BodyHandlers.discarding());
+                        latencias[n] = System.nanoTime() - t0;
+                        if (resposta.statusCode() != 200) {
+                            erros.incrementAndGet();
+                        }
+                    } catch (Exception ex) {
+                        erros.incrementAndGet();
+                    } finally {
+                        emVoo.release();
+                    }
+                }));
+            }
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        }
+        double segundos = (System.nanoTime() - inicio) / 1_000_000_000.0;
+
+        Arrays.sort(latencias);
+        System.out.printf("Carga [%s]: %d req, concorrencia %d, %.0f req/s, p50 %.2fms, p99 %.2fms, p99.9 %.2fms, erros %d%n",
+                modo(), REQUISICOES, CONCORRENCIA, REQUISICOES / segundos,
+                percentil(latencias, 0.50), percentil(latencias, 0.99), percentil(latencias, 0.999), erros.get());
+
+        assertThat(erros.get()).isZero();
+    }
+
+    private void disparar(HttpClient cliente, int quantidade) throws Exception {
+        for (int i = 0; i < quantidade; i++) {
+            cliente.send(requisicao(i), HttpResponse.BodyHandlers.discarding());
+        }
+    }
+
+    private HttpRequest requisicao(int n) {
+        String caminho = n % 10 == 0 ? "/produtos?limit=50" : "/produtos/" + (100 + n % 5);
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + caminho)).GET().build();
+    }
+
+    private static double percentil(long[] ordenadas, double p) {
+        int indice = (int) Math.min(ordenadas.length - 1, Math.ceil(p * ordenadas.length) - 1);
+        return ordenadas[indice] / 1_000_000.0;
+    }
+}
@@ -1,5 +1,5 @@
-INSERT INTO produtos (id, nome, descricao, preco) VALUES (100, 'Produto Existente IT', 'Desc IT', 10.0);
-INSERT INTO produtos (id, nome, descricao, preco) VALUES (101, 'Produto Busca ID IT', 'Desc Busca IT', 50.0);
-INSERT INTO produtos (id, nome, descricao, preco) VALUES (102, 'Produto Busca Nome IT', 'Desc Busca Nome IT', 75.0);
-INSERT INTO produtos (id, nome, descricao, preco) VALUES (103, 'Produto Original IT', 'Desc Original IT', 100.0);
-INSERT INTO produtos (id, nome, descricao, preco) VALUES (104, 'Produto para Deletar IT', 'Desc para Deletar IT', 10.0);
+INSERT INTO produtos (id, nome, descricao, preco_centavos) VALUES (100, 'Produto Existente IT', 'Desc IT', 1000);
+INSERT INTO produtos (id, nome, descricao, preco_centavos) VALUES (101, 'Produto Busca ID IT', 'Desc Busca IT', 5000);
+INSERT INTO produtos (id, nome, descricao, preco_centavos) VALUES (102, 'Produto Busca Nome IT', 'Desc Busca Nome IT', 7500);
+INSERT INTO produtos (id, nome, descricao, preco_centavos) VALUES (103, 'Produto Original IT', 'Desc Original IT', 10000);
+INSERT INTO produtos (id, nome, descricao, preco_centavos) VALUES (104, 'Produto para Deletar IT', 'Desc para Deletar IT', 1000);